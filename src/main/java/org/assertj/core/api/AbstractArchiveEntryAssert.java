@@ -0,0 +1,93 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Base class for assertions on an entry of a zip archive, jars included.
+ * <p>
+ * The archive is never extracted: the entry is looked up in the central directory of the archive and its data is
+ * inflated and compared block by block with the expected content.
+ *
+ * @param <SELF> the "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *          target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *          for more details.
+ */
+public abstract class AbstractArchiveEntryAssert<SELF extends AbstractArchiveEntryAssert<SELF>>
+    extends AbstractAssert<SELF, Path> {
+
+  @VisibleForTesting
+  protected Paths paths = Paths.instance();
+
+  @VisibleForTesting
+  final String entryName;
+
+  public AbstractArchiveEntryAssert(Path archive, String entryName, Class<?> selfType) {
+    super(archive, selfType);
+    this.entryName = entryName;
+  }
+
+  /**
+   * Verifies that the entry of the actual archive has the same binary content as the given file.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given an app.jar archive with a META-INF/MANIFEST.MF entry
+   * Path jar = Paths.get("build/app.jar");
+   *
+   * // assertion will pass if the entry has the same content as the expected manifest
+   * assertThat(jar).entry("META-INF/MANIFEST.MF").hasSameContentAs(Paths.get("src/MANIFEST.MF"));</code></pre>
+   *
+   * @param expected the file with the expected content.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not readable.
+   * @throws AssertionError if the actual archive is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the actual archive does not have the entry or if the entry content differs from the
+   *           given one.
+   */
+  public SELF hasSameContentAs(Path expected) {
+    paths.assertEntryHasSameContentAs(info, actual, entryName, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the entry of the actual archive has the same binary content as the given stream, which is read but
+   * not closed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given an app.jar archive with a config.properties entry
+   * Path jar = Paths.get("build/app.jar");
+   *
+   * // assertion will pass if the entry has the same content as the resource
+   * assertThat(jar).entry("config.properties").hasSameContentAs(getClass().getResourceAsStream("/config.properties"));</code></pre>
+   *
+   * @param expected the stream with the expected content.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code InputStream} is {@code null}.
+   * @throws AssertionError if the actual archive is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the actual archive does not have the entry or if the entry content differs from the
+   *           given one.
+   */
+  public SELF hasSameContentAs(InputStream expected) {
+    paths.assertEntryHasSameContentAs(info, actual, entryName, expected);
+    return myself;
+  }
+}
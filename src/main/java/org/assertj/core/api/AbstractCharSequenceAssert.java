@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.contentOf;
 import java.io.File;
 import java.io.LineNumberReader;
 import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -276,6 +277,95 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
     return myself;
   }
 
+  /**
+   * Verifies that the line count of the actual {@code CharSequence} is between the given boundaries (inclusive).
+   * <p>
+   * Lines are terminated as described in {@link #hasLineCount(int)}, they are counted directly on the actual
+   * {@code CharSequence} without copying it.
+   * <p>
+   * This assertion will succeed:
+   * <pre><code class='java'> String multiLine = &quot;First line\n&quot; +
+   *                    &quot;Last line&quot;;
+   * assertThat(multiLine).hasLineCountBetween(1, 2);</code></pre>
+   *
+   * Whereas this assertion will fail:
+   * <pre><code class='java'> String bookName = &quot;A Clash of Kings&quot;;
+   * assertThat(bookName).hasLineCountBetween(2, 3);</code></pre>
+   *
+   * @param lowerBoundary the lower boundary compared to which actual line count should be greater than or equal to.
+   * @param higherBoundary the higher boundary compared to which actual line count should be less than or equal to.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the higher boundary is less than the lower boundary.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual line count is not between the given boundaries.
+   * @since 3.9.0
+   */
+  public SELF hasLineCountBetween(int lowerBoundary, int higherBoundary) {
+    strings.assertHasLineCountBetween(info, actual, lowerBoundary, higherBoundary);
+    return myself;
+  }
+
+  /**
+   * Navigates to the line at the given index of the actual {@code CharSequence} (starting from 0) and returns an
+   * assertion object on it, the line is given without its terminator (lines are terminated as described in
+   * {@link #hasLineCount(int)}).
+   * <p>
+   * Only the requested line is extracted, the previous ones are skipped.
+   * <p>
+   * Example:
+   * <pre><code class='java'> String multiLine = &quot;First line\n&quot; +
+   *                    &quot;Last line&quot;;
+   *
+   * // assertion will pass
+   * assertThat(multiLine).lineAt(1).isEqualTo(&quot;Last line&quot;);
+   *
+   * // assertions will fail
+   * assertThat(multiLine).lineAt(0).isEqualTo(&quot;Last line&quot;);
+   * assertThat(multiLine).lineAt(2);</code></pre>
+   *
+   * @param index the index of the line to navigate to.
+   * @return an assertion object on the line at the given index.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not have a line at the given index.
+   * @since 3.9.0
+   */
+  @CheckReturnValue
+  public StringAssert lineAt(int index) {
+    String line = strings.lineAt(info, actual, index);
+    String description = descriptionText();
+    String lineDescription = "line at index " + index;
+    return new StringAssert(line).as(description.isEmpty() ? lineDescription : description + " " + lineDescription);
+  }
+
+  /**
+   * Verifies that each line of the actual {@code CharSequence} satisfies the given requirements expressed as a
+   * {@link Consumer}, lines are given without their terminator (lines are terminated as described in
+   * {@link #hasLineCount(int)}).
+   * <p>
+   * Lines are extracted one at a time, the verification stops at the first line not satisfying the requirements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> String csv = &quot;Frodo,33\n&quot; +
+   *              &quot;Sam,38&quot;;
+   *
+   * // assertion will pass
+   * assertThat(csv).linesSatisfy(line -&gt; assertThat(line).contains(&quot;,&quot;));
+   *
+   * // assertion will fail
+   * assertThat(csv).linesSatisfy(line -&gt; assertThat(line).startsWith(&quot;Frodo&quot;));</code></pre>
+   *
+   * @param requirements the requirements each line must satisfy.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@link Consumer} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if one of the lines does not satisfy the given requirements.
+   * @since 3.9.0
+   */
+  public SELF linesSatisfy(Consumer<String> requirements) {
+    strings.assertLinesSatisfy(info, actual, requirements);
+    return myself;
+  }
+
   /**
    * Verifies that the actual {@code CharSequence} has a length that's the same as the length of the given
    * {@code CharSequence}.
@@ -793,6 +883,11 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
    * Verifies that the actual {@code CharSequence} is equal to the given XML {@code CharSequence} after both have been
    * formatted the same way.
    * <p>
+   * With the default comparison strategy, both documents are parsed side by side and compared event by event: formatting
+   * whitespace, attributes order and the XML declaration are not taken into account and the comparison stops at the
+   * first difference. For large documents, the error message only shows the formatted parts of the documents
+   * surrounding the first difference.
+   * <p>
    * Example :
    * <pre><code class='java'> String expectedXml =
    *     &quot;&lt;rings&gt;\n&quot; +
@@ -17,6 +17,7 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.File;
 import java.nio.charset.Charset;
+import java.security.MessageDigest;
 import org.assertj.core.api.exception.RuntimeIOException;
 import org.assertj.core.internal.Files;
 import org.assertj.core.util.CheckReturnValue;
@@ -333,6 +334,199 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the binary content of the actual {@code File} is <b>exactly</b> equal to the binary content of the
+   * given one.
+   * <p>
+   * Files of different sizes fail without being read, otherwise their contents are compared by blocks (memory mapped
+   * slices for big files) so that even very big files are never entirely loaded in memory.
+   * <p>
+   * Example:
+   * <pre><code class='java'> File bin1 = File.createTempFile(&quot;tmp&quot;, &quot;bin&quot;);
+   * File bin2 = File.createTempFile(&quot;tmp&quot;, &quot;bin&quot;);
+   * File bin3 = File.createTempFile(&quot;tmp&quot;, &quot;bin&quot;);
+   * Files.write(bin1.toPath(), new byte[] {1, 1});
+   * Files.write(bin2.toPath(), new byte[] {1, 1});
+   * Files.write(bin3.toPath(), new byte[] {1, 0});
+   *
+   * // assertion will pass
+   * assertThat(bin1).hasSameBinaryContentAs(bin2);
+   *
+   * // assertion will fail
+   * assertThat(bin1).hasSameBinaryContentAs(bin3);</code></pre>
+   *
+   * @param expected the given {@code File} to compare the actual {@code File} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code File} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code File} is not an existing file.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing file.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the binary content of the actual {@code File} is not equal to the binary content of the
+   *           given one.
+   */
+  public SELF hasSameBinaryContentAs(File expected) {
+    files.assertSameBinaryContentAs(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code File} is a directory having the same tree as the given one: the same files and
+   * sub directories, recursively, with the same binary contents.
+   * <p>
+   * Each tree is walked once, files of different sizes are reported without being read and the other files are
+   * compared in parallel. The error message lists the entries added, removed or changed in the actual directory, by
+   * their paths relative to the compared directories.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given the following trees:
+   * // build/      expected/     other/
+   * //  |- a.txt    |- a.txt      |- a.txt
+   * //  |- lib/     |- lib/       |- b.txt
+   * //     |- x.jar    |- x.jar
+   * File build = new File(&quot;build&quot;);
+   *
+   * // assertion will pass if the files have the same contents
+   * assertThat(build).hasSameTreeAs(new File(&quot;expected&quot;));
+   *
+   * // assertion will fail as lib was added and b.txt was removed
+   * assertThat(build).hasSameTreeAs(new File(&quot;other&quot;));</code></pre>
+   *
+   * @param expected the given directory to compare the actual directory to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code File} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code File} is not an existing directory.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing directory.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if entries were added, removed or changed in the actual directory.
+   */
+  public SELF hasSameTreeAs(File expected) {
+    files.assertSameTreeAs(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * // assume that the file content is "assertj"
+   * File actual = new File("assertj.txt");
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), new byte[] { -93, -6, -48, -45, 104, 49, -98, -128, 114, 102, -110, 51, -123, 114, 120, 68, -41, 32, -16, 14 });
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), new byte[] { 0, 1 });</code></pre>
+   *
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing readable file.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the expected digest.
+   */
+  public SELF hasDigest(MessageDigest digest, byte[] expected) {
+    files.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * // assume that the file content is "assertj"
+   * File actual = new File("assertj.txt");
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), "a3fad0d368319e807266923385727844d720f00e");
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), "a4335895e368734f5935369b7ffb9a15");</code></pre>
+   *
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the hexadecimal representation of the expected digest, lower and upper case digits are accepted.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if the given digest is not a hexadecimal representation.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing readable file.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the expected digest.
+   */
+  public SELF hasDigest(MessageDigest digest, String expected) {
+    files.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * // assume that the file content is "assertj"
+   * File actual = new File("assertj.txt");
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest("MD5", new byte[] { -92, 51, 88, -107, -29, 104, 115, 79, 89, 53, 54, -101, 127, -5, -102, 21 });
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest("MD5", new byte[] { 0, 1 });</code></pre>
+   *
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing readable file.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the expected digest.
+   */
+  public SELF hasDigest(String algorithm, byte[] expected) {
+    files.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * // assume that the file content is "assertj"
+   * File actual = new File("assertj.txt");
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest("MD5", "a4335895e368734f5935369b7ffb9a15");
+   * assertThat(actual).hasDigest("SHA-256", "77ECB8DF6EE45CB2768FFD5F4F8907514CD8616BDCE4DF01C79A013D89C6DD12");
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest("MD5", "a3fad0d368319e807266923385727844");</code></pre>
+   *
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the hexadecimal representation of the expected digest, lower and upper case digits are accepted.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm or if the given digest is not a
+   *           hexadecimal representation.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing readable file.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the expected digest.
+   */
+  public SELF hasDigest(String algorithm, String expected) {
+    files.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the file's contents.
    * 
@@ -13,6 +13,7 @@
 package org.assertj.core.api;
 
 import java.io.InputStream;
+import java.security.MessageDigest;
 
 import org.assertj.core.internal.InputStreams;
 import org.assertj.core.internal.InputStreamsException;
@@ -78,4 +79,146 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
     inputStreams.assertSameContentAs(info, actual, expected);
     return myself;
   }
+
+  /**
+   * Verifies that the binary content of the actual {@code InputStream} is <b>exactly</b> equal to the binary content
+   * of the given one.
+   * <p>
+   * Unlike {@link #hasSameContentAs(InputStream)}, the streams are not decoded to lines, they are compared byte by byte
+   * with large buffers and without being entirely loaded in memory. The error message gives the offset of the first
+   * different byte and the bytes surrounding it in hexadecimal. The streams are read but not closed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new ByteArrayInputStream(new byte[] {1, 2})).hasSameBinaryContentAs(new ByteArrayInputStream(new byte[] {1, 2}));
+   *
+   * // assertions will fail
+   * assertThat(new ByteArrayInputStream(new byte[] {1, 2})).hasSameBinaryContentAs(new ByteArrayInputStream(new byte[] {1, 3}));
+   * assertThat(new ByteArrayInputStream(new byte[] {1, 2})).hasSameBinaryContentAs(new ByteArrayInputStream(new byte[] {1}));</code></pre>
+   * 
+   * @param expected the given {@code InputStream} to compare the actual {@code InputStream} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code InputStream} is {@code null}.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws AssertionError if the binary content of the actual {@code InputStream} is not equal to the binary content
+   *           of the given one.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public SELF hasSameBinaryContentAs(InputStream expected) {
+    inputStreams.assertSameBinaryContentAs(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code InputStream} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * InputStream actual = new ByteArrayInputStream("assertj".getBytes());
+   *
+   * // The following assertions succeed (on a new stream each time as the assertion reads it until its end):
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), new byte[] { -93, -6, -48, -45, 104, 49, -98, -128, 114, 102, -110, 51, -123, 114, 120, 68, -41, 32, -16, 14 });
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), new byte[] { 0, 1 });</code></pre>
+   *
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code InputStream} does not have the expected digest.
+   */
+  public SELF hasDigest(MessageDigest digest, byte[] expected) {
+    inputStreams.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code InputStream} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * InputStream actual = new ByteArrayInputStream("assertj".getBytes());
+   *
+   * // The following assertions succeed (on a new stream each time as the assertion reads it until its end):
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), "a3fad0d368319e807266923385727844d720f00e");
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), "a4335895e368734f5935369b7ffb9a15");</code></pre>
+   *
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the hexadecimal representation of the expected digest, lower and upper case digits are accepted.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if the given digest is not a hexadecimal representation.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code InputStream} does not have the expected digest.
+   */
+  public SELF hasDigest(MessageDigest digest, String expected) {
+    inputStreams.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code InputStream} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * InputStream actual = new ByteArrayInputStream("assertj".getBytes());
+   *
+   * // The following assertions succeed (on a new stream each time as the assertion reads it until its end):
+   * assertThat(actual).hasDigest("MD5", new byte[] { -92, 51, 88, -107, -29, 104, 115, 79, 89, 53, 54, -101, 127, -5, -102, 21 });
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest("MD5", new byte[] { 0, 1 });</code></pre>
+   *
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code InputStream} does not have the expected digest.
+   */
+  public SELF hasDigest(String algorithm, byte[] expected) {
+    inputStreams.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code InputStream} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * InputStream actual = new ByteArrayInputStream("assertj".getBytes());
+   *
+   * // The following assertions succeed (on a new stream each time as the assertion reads it until its end):
+   * assertThat(actual).hasDigest("MD5", "a4335895e368734f5935369b7ffb9a15");
+   * assertThat(actual).hasDigest("SHA-256", "77ECB8DF6EE45CB2768FFD5F4F8907514CD8616BDCE4DF01C79A013D89C6DD12");
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest("MD5", "a3fad0d368319e807266923385727844");</code></pre>
+   *
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the hexadecimal representation of the expected digest, lower and upper case digits are accepted.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm or if the given digest is not a
+   *           hexadecimal representation.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code InputStream} does not have the expected digest.
+   */
+  public SELF hasDigest(String algorithm, String expected) {
+    inputStreams.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
 }
@@ -0,0 +1,252 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Base class for assertions on the lines of a text file.
+ * <p>
+ * Unlike assertions on {@link org.assertj.core.util.Files#linesOf(java.io.File, Charset) linesOf(file)}, the lines are
+ * never all loaded in memory: each assertion reads the file lazily, line by line, and stops as soon as its outcome is
+ * known. Assertions on multi-gigabytes log files thus run in constant memory, each assertion reading the file again.
+ *
+ * @param <SELF> the "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *          target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *          for more details.
+ */
+public abstract class AbstractLinesAssert<SELF extends AbstractLinesAssert<SELF>> extends AbstractAssert<SELF, Path> {
+
+  @VisibleForTesting
+  protected Paths paths = Paths.instance();
+
+  @VisibleForTesting
+  final Charset charset;
+
+  public AbstractLinesAssert(Path actual, Charset charset, Class<?> selfType) {
+    super(actual, selfType);
+    this.charset = checkNotNull(charset, "The charset should not be null");
+  }
+
+  /**
+   * Verifies that the actual file has lines equal to all the given values, in any order. The file is read until all
+   * values have been found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given a server.log file with the lines "starting", "started" and "stopped"
+   * Path log = Paths.get("server.log");
+   *
+   * // assertion will pass
+   * assertThatLinesOf(log).contains("stopped", "started");
+   *
+   * // assertion will fail
+   * assertThatLinesOf(log).contains("started", "crashed");</code></pre>
+   *
+   * @param values the lines to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given values are {@code null}.
+   * @throws IllegalArgumentException if the given values are empty.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if some values are not lines of the actual file.
+   */
+  public SELF contains(String... values) {
+    paths.assertLinesContain(info, actual, charset, values);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual file has no line equal to any of the given values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given a server.log file with the lines "starting", "started" and "stopped"
+   * Path log = Paths.get("server.log");
+   *
+   * // assertion will pass
+   * assertThatLinesOf(log).doesNotContain("crashed", "restarted");
+   *
+   * // assertion will fail
+   * assertThatLinesOf(log).doesNotContain("crashed", "stopped");</code></pre>
+   *
+   * @param values the lines expected not to be found.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given values are {@code null}.
+   * @throws IllegalArgumentException if the given values are empty.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if some values are lines of the actual file.
+   */
+  public SELF doesNotContain(String... values) {
+    paths.assertLinesDoNotContain(info, actual, charset, values);
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one line of the actual file matches the given predicate. The file is read until a matching
+   * line is found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given a server.log file with the lines "starting", "started" and "stopped"
+   * Path log = Paths.get("server.log");
+   *
+   * // assertion will pass
+   * assertThatLinesOf(log).anyMatch(line -&gt; line.startsWith("stop"));
+   *
+   * // assertion will fail
+   * assertThatLinesOf(log).anyMatch(line -&gt; line.contains("Exception"));</code></pre>
+   *
+   * @param predicate the predicate to evaluate on the lines.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if no line of the actual file matches the given predicate.
+   */
+  public SELF anyMatch(Predicate<? super String> predicate) {
+    paths.assertAnyLineMatches(info, actual, charset, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Same as {@link #anyMatch(Predicate)} with a description of the predicate to use in the error message.
+   *
+   * @param predicate the predicate to evaluate on the lines.
+   * @param predicateDescription the description of the predicate.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if no line of the actual file matches the given predicate.
+   */
+  public SELF anyMatch(Predicate<? super String> predicate, String predicateDescription) {
+    paths.assertAnyLineMatches(info, actual, charset, predicate, new PredicateDescription(predicateDescription));
+    return myself;
+  }
+
+  /**
+   * Verifies that all the lines of the actual file match the given predicate. The file is read until a non matching
+   * line is found, which is reported in the error message.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given a server.log file with the lines "starting", "started" and "stopped"
+   * Path log = Paths.get("server.log");
+   *
+   * // assertion will pass
+   * assertThatLinesOf(log).allMatch(line -&gt; line.startsWith("st"));
+   *
+   * // assertion will fail
+   * assertThatLinesOf(log).allMatch(line -&gt; line.startsWith("start"));</code></pre>
+   *
+   * @param predicate the predicate to evaluate on the lines.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if a line of the actual file does not match the given predicate.
+   */
+  public SELF allMatch(Predicate<? super String> predicate) {
+    paths.assertAllLinesMatch(info, actual, charset, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Same as {@link #allMatch(Predicate)} with a description of the predicate to use in the error message.
+   *
+   * @param predicate the predicate to evaluate on the lines.
+   * @param predicateDescription the description of the predicate.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if a line of the actual file does not match the given predicate.
+   */
+  public SELF allMatch(Predicate<? super String> predicate, String predicateDescription) {
+    paths.assertAllLinesMatch(info, actual, charset, predicate, new PredicateDescription(predicateDescription));
+    return myself;
+  }
+
+  /**
+   * Verifies that no line of the actual file matches the given predicate. The file is read until a matching line is
+   * found, which is reported in the error message.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given a server.log file with the lines "starting", "started" and "stopped"
+   * Path log = Paths.get("server.log");
+   *
+   * // assertion will pass
+   * assertThatLinesOf(log).noneMatch(line -&gt; line.contains("Exception"));
+   *
+   * // assertion will fail
+   * assertThatLinesOf(log).noneMatch(line -&gt; line.startsWith("stop"));</code></pre>
+   *
+   * @param predicate the predicate to evaluate on the lines.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if a line of the actual file matches the given predicate.
+   */
+  public SELF noneMatch(Predicate<? super String> predicate) {
+    paths.assertNoLineMatches(info, actual, charset, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Same as {@link #noneMatch(Predicate)} with a description of the predicate to use in the error message.
+   *
+   * @param predicate the predicate to evaluate on the lines.
+   * @param predicateDescription the description of the predicate.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if a line of the actual file matches the given predicate.
+   */
+  public SELF noneMatch(Predicate<? super String> predicate, String predicateDescription) {
+    paths.assertNoLineMatches(info, actual, charset, predicate, new PredicateDescription(predicateDescription));
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual file has the given number of lines, the whole file is read but no line is kept in memory.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // given a server.log file with the lines "starting", "started" and "stopped"
+   * Path log = Paths.get("server.log");
+   *
+   * // assertion will pass
+   * assertThatLinesOf(log).hasSize(3);
+   *
+   * // assertion will fail
+   * assertThatLinesOf(log).hasSize(2);</code></pre>
+   *
+   * @param expected the expected number of lines.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual file is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the actual file does not have the given number of lines.
+   */
+  public SELF hasSize(long expected) {
+    paths.assertHasLineCount(info, actual, charset, expected);
+    return myself;
+  }
+}
@@ -23,6 +23,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.ProviderMismatchException;
 import java.nio.file.spi.FileSystemProvider;
+import java.security.MessageDigest;
 
 import org.assertj.core.api.exception.PathsException;
 import org.assertj.core.api.exception.RuntimeIOException;
@@ -189,6 +190,249 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
 	return myself;
   }
 
+  /**
+   * Verifies that the binary content of the actual {@code Path} is <b>exactly</b> equal to the binary content of the
+   * given one.
+   * <p>
+   * Paths of files of different sizes fail without being read, otherwise their contents are compared by blocks (memory
+   * mapped slices for big files) so that even very big files are never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> Path xFile = Files.write(Paths.get("xfile.bin"), new byte[] {1, 1});
+   * Path xFileCopy = Files.write(Paths.get("xfile-copy.bin"), new byte[] {1, 1});
+   * Path xFileClone = Files.write(Paths.get("xfile-clone.bin"), new byte[] {1, 0});
+   *
+   * // The following assertion succeeds:
+   * assertThat(xFile).hasSameBinaryContentAs(xFileCopy);
+   *
+   * // The following assertion fails:
+   * assertThat(xFile).hasSameBinaryContentAs(xFileClone);</code></pre>
+   *
+   * @param expected the given {@code Path} to compare the actual {@code Path} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not readable.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the binary content of the actual {@code Path} is not equal to the binary content of the
+   *           given one.
+   */
+  public SELF hasSameBinaryContentAs(Path expected) {
+    paths.assertHasSameBinaryContentAs(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Path} is a zip archive (a jar for instance) having an entry with the given name.
+   * <p>
+   * The archive is not extracted, only its central directory is read.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // given an app.jar archive with a META-INF/MANIFEST.MF entry
+   * Path jar = Paths.get("build/app.jar");
+   *
+   * // The following assertion succeeds:
+   * assertThat(jar).hasEntry("META-INF/MANIFEST.MF");
+   *
+   * // The following assertion fails:
+   * assertThat(jar).hasEntry("META-INF/INDEX.LIST");</code></pre>
+   *
+   * @param entryName the name of the expected entry.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given entry name is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs, e.g. if the actual {@code Path} is not a zip archive.
+   * @throws AssertionError if the actual {@code Path} does not have the given entry.
+   */
+  public SELF hasEntry(String entryName) {
+    paths.assertHasEntry(info, actual, entryName);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Path} is a zip archive having an entry with the given name and returns an assertion
+   * object on this entry, the archive is not extracted.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // given an app.jar archive with a META-INF/MANIFEST.MF entry
+   * Path jar = Paths.get("build/app.jar");
+   *
+   * // The following assertion succeeds if the entry has the same content as the expected manifest:
+   * assertThat(jar).entry("META-INF/MANIFEST.MF").hasSameContentAs(Paths.get("src/MANIFEST.MF"));
+   *
+   * // The following assertion fails as there is no such entry:
+   * assertThat(jar).entry("META-INF/INDEX.LIST");</code></pre>
+   *
+   * @param entryName the name of the entry to verify.
+   * @return a new assertion object on the entry of the actual archive.
+   * @throws NullPointerException if the given entry name is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs, e.g. if the actual {@code Path} is not a zip archive.
+   * @throws AssertionError if the actual {@code Path} does not have the given entry.
+   */
+  @CheckReturnValue
+  public ArchiveEntryAssert entry(String entryName) {
+    paths.assertHasEntry(info, actual, entryName);
+    ArchiveEntryAssert entryAssert = new ArchiveEntryAssert(actual, entryName);
+    return info.description() == null ? entryAssert : entryAssert.as(info.description());
+  }
+
+  /**
+   * Verifies that the actual {@code Path} is a directory having the same tree as the given one: the same files and
+   * sub directories, recursively, with the same binary contents.
+   * <p>
+   * Each tree is walked once, files of different sizes are reported without being read and the other files are
+   * compared in parallel. The error message lists the entries added, removed or changed in the actual directory, by
+   * their paths relative to the compared directories.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // given the following trees:
+   * // build/      expected/     other/
+   * //  |- a.txt    |- a.txt      |- a.txt
+   * //  |- lib/     |- lib/       |- b.txt
+   * //     |- x.jar    |- x.jar
+   * Path build = Paths.get("build");
+   *
+   * // The following assertion succeeds if the files have the same contents:
+   * assertThat(build).hasSameTreeAs(Paths.get("expected"));
+   *
+   * // The following assertion fails as lib was added and b.txt was removed:
+   * assertThat(build).hasSameTreeAs(Paths.get("other"));</code></pre>
+   *
+   * @param expected the given directory to compare the actual directory to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing directory.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing directory.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if entries were added, removed or changed in the actual directory.
+   */
+  public SELF hasSameTreeAs(Path expected) {
+    paths.assertHasSameTreeAs(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Path} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * Path actual = Files.write(Paths.get("assertj.txt"), "assertj".getBytes());
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), new byte[] { -93, -6, -48, -45, 104, 49, -98, -128, 114, 102, -110, 51, -123, 114, 120, 68, -41, 32, -16, 14 });
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), new byte[] { 0, 1 });</code></pre>
+   *
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the expected digest.
+   */
+  public SELF hasDigest(MessageDigest digest, byte[] expected) {
+    paths.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Path} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * Path actual = Files.write(Paths.get("assertj.txt"), "assertj".getBytes());
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), "a3fad0d368319e807266923385727844d720f00e");
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest(MessageDigest.getInstance("SHA-1"), "a4335895e368734f5935369b7ffb9a15");</code></pre>
+   *
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the hexadecimal representation of the expected digest, lower and upper case digits are accepted.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if the given digest is not a hexadecimal representation.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the expected digest.
+   */
+  public SELF hasDigest(MessageDigest digest, String expected) {
+    paths.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Path} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * Path actual = Files.write(Paths.get("assertj.txt"), "assertj".getBytes());
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest("MD5", new byte[] { -92, 51, 88, -107, -29, 104, 115, 79, 89, 53, 54, -101, 127, -5, -102, 21 });
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest("MD5", new byte[] { 0, 1 });</code></pre>
+   *
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the expected digest.
+   */
+  public SELF hasDigest(String algorithm, byte[] expected) {
+    paths.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Path} has the given digest, the content is read once through a
+   * reusable buffer and is never entirely loaded in memory.
+   * <p>
+   * Examples:
+   * <pre><code class="java">
+   * Path actual = Files.write(Paths.get("assertj.txt"), "assertj".getBytes());
+   *
+   * // The following assertions succeed:
+   * assertThat(actual).hasDigest("MD5", "a4335895e368734f5935369b7ffb9a15");
+   * assertThat(actual).hasDigest("SHA-256", "77ECB8DF6EE45CB2768FFD5F4F8907514CD8616BDCE4DF01C79A013D89C6DD12");
+   *
+   * // The following assertions fail:
+   * assertThat(actual).hasDigest("MD5", "a3fad0d368319e807266923385727844");</code></pre>
+   *
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the hexadecimal representation of the expected digest, lower and upper case digits are accepted.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm or if the given digest is not a
+   *           hexadecimal representation.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the expected digest.
+   */
+  public SELF hasDigest(String algorithm, String expected) {
+    paths.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the path's contents (path must be a readable
    * file).
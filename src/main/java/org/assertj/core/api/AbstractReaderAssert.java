@@ -0,0 +1,190 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.io.Reader;
+import java.util.regex.Pattern;
+
+import org.assertj.core.internal.Readers;
+import org.assertj.core.internal.ReadersException;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Base class for all implementations of assertions for {@link Reader}s.
+ * <p>
+ * The content of the actual {@code Reader} is streamed, it is never entirely loaded in memory which makes these
+ * assertions suitable for big contents. Each assertion consumes the {@code Reader} (it is not closed), chaining
+ * several content assertions on the same {@code Reader} checks the remaining content only.
+ *
+ * @param <SELF> the "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *          target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *          for more details.
+ * @param <ACTUAL> the type of the "actual" value.
+ */
+public abstract class AbstractReaderAssert<SELF extends AbstractReaderAssert<SELF, ACTUAL>, ACTUAL extends Reader>
+    extends AbstractAssert<SELF, ACTUAL> {
+
+  @VisibleForTesting
+  Readers readers = Readers.instance();
+
+  public AbstractReaderAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} starts with the given prefix, only the first
+   * {@code prefix.length()} characters are read.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new StringReader("Frodo")).startsWith("Fro");
+   *
+   * // assertion will fail
+   * assertThat(new StringReader("Frodo")).startsWith("fro");</code></pre>
+   *
+   * @param prefix the given prefix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not start with the given prefix.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public SELF startsWith(CharSequence prefix) {
+    readers.assertStartsWith(info, actual, prefix);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} contains all the given values, the content is read once
+   * whatever the number of values and reading stops as soon as all values are found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertions will pass
+   * assertThat(new StringReader("Gandalf the grey")).contains("alf");
+   * assertThat(new StringReader("Gandalf the grey")).contains("alf", "grey");
+   *
+   * // assertion will fail
+   * assertThat(new StringReader("Gandalf the grey")).contains("white");</code></pre>
+   *
+   * @param values the values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given values is {@code null} or has {@code null} elements.
+   * @throws IllegalArgumentException if the given values is empty.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not contain all the given values.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public SELF contains(CharSequence... values) {
+    readers.assertContains(info, actual, values);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} contains the given regular expression.
+   * <p>
+   * The regular expression is looked for in a window sliding over the content, a match longer than
+   * {@value org.assertj.core.internal.Readers#MAX_PATTERN_MATCH_LENGTH} characters might not be found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new StringReader("Frodo")).containsPattern("Fr.d");
+   *
+   * // assertion will fail
+   * assertThat(new StringReader("Frodo")).containsPattern("Frodod");</code></pre>
+   *
+   * @param regex the regular expression to find in the content of the actual {@code Reader}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not contain the given regular expression.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public SELF containsPattern(CharSequence regex) {
+    readers.assertContainsPattern(info, actual, regex);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} contains the given regular expression pattern.
+   * <p>
+   * The regular expression is looked for in a window sliding over the content, a match longer than
+   * {@value org.assertj.core.internal.Readers#MAX_PATTERN_MATCH_LENGTH} characters might not be found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new StringReader("Frodo")).containsPattern(Pattern.compile("Fr.d"));
+   *
+   * // assertion will fail
+   * assertThat(new StringReader("Frodo")).containsPattern(Pattern.compile("Frodod"));</code></pre>
+   *
+   * @param pattern the regular expression to find in the content of the actual {@code Reader}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not contain the given regular expression.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public SELF containsPattern(Pattern pattern) {
+    readers.assertContainsPattern(info, actual, pattern);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} has the expected line count.
+   * <p>
+   * A line is considered to be terminated by any one of a line feed ('\n'), a carriage return ('\r'), or a carriage
+   * return followed immediately by a line feed, as in {@link AbstractCharSequenceAssert#hasLineCount(int)}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new StringReader("first line\nlast line")).hasLineCount(2);
+   *
+   * // assertion will fail
+   * assertThat(new StringReader("first line\nlast line")).hasLineCount(3);</code></pre>
+   *
+   * @param expectedLineCount the expected line count of the content of the actual {@code Reader}.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the line count of the content of the actual {@code Reader} is not equal to the expected
+   *           one.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public SELF hasLineCount(int expectedLineCount) {
+    readers.assertHasLineCount(info, actual, expectedLineCount);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} is equal to the content of the given one, line by line;
+   * only the first different line is reported.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new StringReader("Frodo\nSam")).hasSameContentAs(new StringReader("Frodo\nSam"));
+   *
+   * // assertion will fail
+   * assertThat(new StringReader("Frodo\nSam")).hasSameContentAs(new StringReader("Frodo\nMerry"));</code></pre>
+   *
+   * @param expected the given {@code Reader} to compare the actual {@code Reader} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} is not equal to the content of the given one.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public SELF hasSameContentAs(Reader expected) {
+    readers.assertSameContentAs(info, actual, expected);
+    return myself;
+  }
+}
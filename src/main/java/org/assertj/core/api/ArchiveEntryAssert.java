@@ -0,0 +1,27 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.nio.file.Path;
+
+/**
+ * Assertions on an entry of a zip archive, read without extracting the archive.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link AbstractPathAssert#entry(String)}</code>.
+ */
+public class ArchiveEntryAssert extends AbstractArchiveEntryAssert<ArchiveEntryAssert> {
+
+  public ArchiveEntryAssert(Path archive, String entryName) {
+    super(archive, entryName, ArchiveEntryAssert.class);
+  }
+}
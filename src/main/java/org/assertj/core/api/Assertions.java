@@ -18,6 +18,7 @@ import static org.assertj.core.data.Percentage.withPercentage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -84,8 +85,10 @@ import org.assertj.core.data.Percentage;
 import org.assertj.core.data.TemporalUnitLessThanOffset;
 import org.assertj.core.data.TemporalUnitOffset;
 import org.assertj.core.data.TemporalUnitWithinOffset;
+import org.assertj.core.error.ShouldBeEqual;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.BinaryRepresentation;
 import org.assertj.core.presentation.HexadecimalRepresentation;
 import org.assertj.core.presentation.Representation;
@@ -94,6 +97,7 @@ import org.assertj.core.presentation.UnicodeRepresentation;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.URLs;
+import org.assertj.core.util.diff.DiffAlgorithm;
 import org.assertj.core.util.introspection.FieldSupport;
 
 /**
@@ -472,6 +476,18 @@ public class Assertions {
     return AssertionsForClassTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 2.9.0 / 3.9.0
+   */
+  @CheckReturnValue
+  public static AbstractReaderAssert<?, ? extends Reader> assertThat(Reader actual) {
+    return AssertionsForClassTypes.assertThat(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
    *
@@ -1224,6 +1240,26 @@ public class Assertions {
     Fail.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of stack trace elements of assertion errors, only the first ones are captured.
+   *
+   * @param maxStackTraceElementsDisplayed the maximum number of stack trace elements, {@link Integer#MAX_VALUE} to
+   *          capture them all (the default).
+   */
+  public static void setMaxStackTraceElementsDisplayed(int maxStackTraceElementsDisplayed) {
+    Fail.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
+  }
+
+  /**
+   * Sets whether soft assertions errors are created without stack trace, they then get the stack trace of the thread
+   * collecting them (typically where {@code assertAll()} is called).
+   *
+   * @param stacklessSoftAssertionErrors flag.
+   */
+  public static void setStacklessSoftAssertionErrors(boolean stacklessSoftAssertionErrors) {
+    Fail.setStacklessSoftAssertionErrors(stacklessSoftAssertionErrors);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    *
@@ -1335,6 +1371,95 @@ public class Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * In error messages, sets the maximum number of characters printed for the elements of one iterable/array, the
+   * elements beyond it are truncated and followed by {@code ...(truncated)}.
+   * <p>
+   * Defaults to 100000, this bounds the description of iterables/arrays whose elements have long {@code toString}.
+   *
+   * @param maxLengthForPrinting the maximum number of characters printed for the elements of one iterable/array
+   */
+  public static void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    StandardRepresentation.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
+  /**
+   * Sets the maximum total length of two compared {@code String}s for their whole values to be reported when they are
+   * not equal, bigger {@code String}s only have the characters around their first difference reported (they are also
+   * the expected and actual values of the JUnit/opentest4j comparison error shown by IDEs).
+   * <p>
+   * Defaults to 65536, use {@link Integer#MAX_VALUE} to always report the whole values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxLengthForFullStringComparison(1000);
+   *
+   * // fails reporting the 100 characters before and after index 1000 and the strings lengths
+   * assertThat(bigString + "Luke").isEqualTo(bigString + "Yoda");</code></pre>
+   *
+   * @param maxLengthForFullStringComparison the maximum total length of two {@code String}s to report entirely.
+   */
+  public static void setMaxLengthForFullStringComparison(int maxLengthForFullStringComparison) {
+    ShouldBeEqual.setMaxLengthForFullStringComparison(maxLengthForFullStringComparison);
+  }
+
+  /**
+   * Sets the number of characters reported before and after the first difference of two {@code String}s too big to
+   * be reported entirely (see {@link #setMaxLengthForFullStringComparison(int)}), defaults to 100.
+   *
+   * @param stringDiffContextLength the number of characters reported on each side of the first difference.
+   */
+  public static void setStringDiffContextLength(int stringDiffContextLength) {
+    ShouldBeEqual.setStringDiffContextLength(stringDiffContextLength);
+  }
+
+  /**
+   * Compares file, path and input stream contents as they are read instead of reading them entirely beforehand, only
+   * {@code windowSize} lines of each content are kept in memory and the comparison stops after {@code maxDeltas}
+   * differences. This is useful to compare huge contents like logs with {@code hasSameContentAs}.
+   * <p>
+   * Differences spanning more lines than the window are reported as changed lines of the window size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.useStreamingContentDiff(1000, 10);
+   *
+   * // fails reporting at most 10 differences while keeping at most 1000 lines of each file in memory
+   * assertThat(new File("today.log")).hasSameContentAs(new File("yesterday.log"));</code></pre>
+   *
+   * @param windowSize the maximum number of lines of each content kept in memory, must be greater than 0.
+   * @param maxDeltas the maximum number of differences reported, must be greater than 0.
+   * @throws IllegalArgumentException if {@code windowSize} or {@code maxDeltas} is not greater than 0.
+   */
+  public static void useStreamingContentDiff(int windowSize, int maxDeltas) {
+    Diff.useStreamingDiff(windowSize, maxDeltas);
+  }
+
+  /**
+   * Compares file, path and input stream contents after reading them entirely, this is the default (see
+   * {@link #useStreamingContentDiff(int, int)}).
+   */
+  public static void useFullContentDiff() {
+    Diff.useFullDiff();
+  }
+
+  /**
+   * Sets the algorithm computing the differences between the lines of file, path and input stream contents reported
+   * by {@code hasSameContentAs} assertions, {@link org.assertj.core.util.diff.myers.MyersDiff MyersDiff} by default.
+   * <p>
+   * {@link org.assertj.core.util.diff.HistogramDiff HistogramDiff} reports fewer and smaller differences on contents
+   * with many repeated lines like CSV files, logs or generated code.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.useContentDiffAlgorithm(new HistogramDiff&lt;String&gt;());
+   *
+   * assertThat(new File("actual.csv")).hasSameContentAs(new File("expected.csv"));</code></pre>
+   *
+   * @param algorithm the algorithm computing the differences between lines, it must be thread safe.
+   * @throws NullPointerException if {@code algorithm} is {@code null}.
+   */
+  public static void useContentDiffAlgorithm(DiffAlgorithm<String> algorithm) {
+    Diff.useDiffAlgorithm(algorithm);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -2186,6 +2311,24 @@ public class Assertions {
     return Files.linesOf(file, charsetName);
   }
 
+  /**
+   * Returns a stream on the decompressed content of a gzip file, the content is inflated as the stream is read so that
+   * it is neither extracted to disk nor fully loaded in memory.
+   * <p>
+   * The returned stream holds an open file and must be closed, for example:
+   * <pre><code class='java'> try (InputStream content = gzipContentOf(Paths.get("build/report.json.gz"))) {
+   *   assertThat(content).hasSameBinaryContentAs(expectedReport);
+   * }</code></pre>
+   *
+   * @param path the gzip file.
+   * @return the decompressed content of the file.
+   * @throws NullPointerException if the given path is {@code null}.
+   * @throws RuntimeIOException if an I/O exception occurs when opening the file or if it is not in the gzip format.
+   */
+  public static InputStream gzipContentOf(Path path) {
+    return Files.gzipContentOf(path);
+  }
+
   // --------------------------------------------------------------------------------------------------
   // URL/Resource methods : not assertions but here to have a single entry point to all AssertJ features.
   // --------------------------------------------------------------------------------------------------
@@ -2583,6 +2726,42 @@ public class Assertions {
     return AssertionsForInterfaceTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LinesAssert}</code> to assert on the lines of the given text file, decoded
+   * with the platform default charset.
+   * <p>
+   * The lines are never all loaded in memory, each assertion reads the file lazily and stops as soon as its outcome is
+   * known, which makes it suitable for very big files like logs.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatLinesOf(Paths.get("server.log")).contains("started")
+   *                                          .noneMatch(line -&gt; line.contains("Exception"));</code></pre>
+   *
+   * @param actual the path of the text file.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static AbstractLinesAssert<?> assertThatLinesOf(Path actual) {
+    return assertThatLinesOf(actual, Charset.defaultCharset());
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LinesAssert}</code> to assert on the lines of the given text file, decoded
+   * with the given charset.
+   * <p>
+   * The lines are never all loaded in memory, each assertion reads the file lazily and stops as soon as its outcome is
+   * known, which makes it suitable for very big files like logs.
+   *
+   * @param actual the path of the text file.
+   * @param charset the charset to decode the file with.
+   * @return the created assertion object.
+   * @throws NullPointerException if the given charset is {@code null}.
+   */
+  @CheckReturnValue
+  public static AbstractLinesAssert<?> assertThatLinesOf(Path actual, Charset charset) {
+    return new LinesAssert(actual, charset);
+  }
+
   /**
    * Creates a new instance of <code>{@link MapAssert}</code>.
    * <p>
@@ -16,6 +16,7 @@ import static org.assertj.core.data.Percentage.withPercentage;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URL;
@@ -331,6 +332,18 @@ public class AssertionsForClassTypes {
     return new InputStreamAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 2.9.0 / 3.9.0
+   */
+  @CheckReturnValue
+  public static AbstractReaderAssert<?, ? extends Reader> assertThat(Reader actual) {
+    return new ReaderAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
    *
@@ -730,6 +743,26 @@ public class AssertionsForClassTypes {
     Fail.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Only delegate to {@link Fail#setMaxStackTraceElementsDisplayed(int)} so that Assertions offers a full feature entry
+   * point to all AssertJ Assert features (but you can use {@link Fail} if you prefer).
+   * 
+   * @param maxStackTraceElementsDisplayed the maximum number of stack trace elements.
+   */
+  public static void setMaxStackTraceElementsDisplayed(int maxStackTraceElementsDisplayed) {
+    Fail.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
+  }
+
+  /**
+   * Only delegate to {@link Fail#setStacklessSoftAssertionErrors(boolean)} so that Assertions offers a full feature
+   * entry point to all AssertJ Assert features (but you can use {@link Fail} if you prefer).
+   * 
+   * @param stacklessSoftAssertionErrors flag.
+   */
+  public static void setStacklessSoftAssertionErrors(boolean stacklessSoftAssertionErrors) {
+    Fail.setStacklessSoftAssertionErrors(stacklessSoftAssertionErrors);
+  }
+
   /**
    * Only delegate to {@link Fail#fail(String)} so that Assertions offers a full feature entry point to all Assertj
    * Assert features (but you can use Fail if you prefer).
@@ -17,6 +17,7 @@ import static org.assertj.core.util.Arrays.array;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -683,6 +684,17 @@ public class Assumptions {
     return asAssumption(InputStreamAssert.class, InputStream.class, actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code> assumption.
+   *
+   * @param actual the actual value.
+   * @return the created assumption for assertion object.
+   */
+  @CheckReturnValue
+  public static AbstractReaderAssert<?, ? extends Reader> assumeThat(Reader actual) {
+    return asAssumption(ReaderAssert.class, Reader.class, actual);
+  }
+
   /**
    * Create assertion for {@link FutureAssert} assumption.
    *
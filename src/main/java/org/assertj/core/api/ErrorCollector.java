@@ -17,15 +17,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.assertj.core.internal.Failures;
+
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
 /** Collects error messages of all AssertionErrors thrown by the proxied method. */
 public class ErrorCollector implements MethodInterceptor {
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of proxied calls being evaluated in the current thread, nested calls are counted without walking the stack
+  private static final ThreadLocal<int[]> PROXY_CALLS_DEPTH = new ThreadLocal<int[]>() {
+    @Override
+    protected int[] initialValue() {
+      return new int[1];
+    }
+  };
 
   // scope : the current softassertion object
   private final List<Throwable> errors = new ArrayList<>();
@@ -35,16 +41,24 @@ public class ErrorCollector implements MethodInterceptor {
   @Override
   public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
     Object result = obj;
+    int[] depth = PROXY_CALLS_DEPTH.get();
+    boolean outermostCall = depth[0]++ == 0;
+    // the outermost call is the only one collecting errors and the one to create them without stack trace if required
+    boolean stacklessErrors = outermostCall && Failures.instance().isStacklessSoftAssertionErrors();
+    if (stacklessErrors) Failures.instance().setCreatingStacklessErrorsInCurrentThread(true);
     try {
       result = proxy.invokeSuper(obj, args);
       lastResult.setSuccess(true);
     } catch (AssertionError e) {
-      if (isNestedErrorCollectorProxyCall()) {
+      if (!outermostCall) {
         // let the most outer call handle the assertion error
         throw e;
       }
       lastResult.setSuccess(false);
       errors.add(e);
+    } finally {
+      depth[0]--;
+      if (stacklessErrors) Failures.instance().setCreatingStacklessErrorsInCurrentThread(false);
     }
     return result;
   }
@@ -62,20 +76,6 @@ public class ErrorCollector implements MethodInterceptor {
     return lastResult.wasSuccess();
   }
 
-  private boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
-  }
-
-  private static int countErrorCollectorProxyCalls() {
-    int nbCalls = 0;
-    for (StackTraceElement stackTraceElement : Thread.currentThread().getStackTrace()) {
-      if (CLASS_NAME.equals(stackTraceElement.getClassName())
-          && INTERCEPT_METHOD_NAME.equals(stackTraceElement.getMethodName()))
-        nbCalls++;
-    }
-    return nbCalls;
-  }
-
   private static class LastResult {
     private boolean wasSuccess = true;
     private boolean errorFound = false;
@@ -110,7 +110,7 @@ public class ErrorCollector implements MethodInterceptor {
     }
 
     private boolean resolvingOutermostErrorCollectorProxyNestedCall() {
-      return countErrorCollectorProxyCalls() == 1;
+      return PROXY_CALLS_DEPTH.get()[0] == 1;
     }
 
     @Override
@@ -33,6 +33,26 @@ public final class Fail {
     Failures.instance().setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of stack trace elements of assertion errors, only the first ones are captured.
+   * 
+   * @param maxStackTraceElementsDisplayed the maximum number of stack trace elements, {@link Integer#MAX_VALUE} to
+   *          capture them all (the default).
+   */
+  public static void setMaxStackTraceElementsDisplayed(int maxStackTraceElementsDisplayed) {
+    Failures.instance().setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
+  }
+
+  /**
+   * Sets whether soft assertions errors are created without stack trace, they then get the stack trace of the thread
+   * collecting them (typically where {@code assertAll()} is called).
+   * 
+   * @param stacklessSoftAssertionErrors flag.
+   */
+  public static void setStacklessSoftAssertionErrors(boolean stacklessSoftAssertionErrors) {
+    Failures.instance().setStacklessSoftAssertionErrors(stacklessSoftAssertionErrors);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    * 
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -297,6 +298,17 @@ public class Java6AbstractBDDSoftAssertions extends AbstractSoftAssertions {
     return proxy(InputStreamAssert.class, InputStream.class, actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public ReaderAssert then(Reader actual) {
+    return proxy(ReaderAssert.class, Reader.class, actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
    *
@@ -16,6 +16,7 @@ import static org.assertj.core.data.Percentage.withPercentage;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -56,12 +57,15 @@ import org.assertj.core.data.Index;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.data.Offset;
 import org.assertj.core.data.Percentage;
+import org.assertj.core.error.ShouldBeEqual;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.URLs;
+import org.assertj.core.util.diff.DiffAlgorithm;
 import org.assertj.core.util.introspection.FieldSupport;
 
 /**
@@ -500,6 +504,18 @@ public class Java6Assertions {
     return new InputStreamAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 2.9.0 / 3.9.0
+   */
+  @CheckReturnValue
+  public static AbstractReaderAssert<?, ? extends Reader> assertThat(Reader actual) {
+    return new ReaderAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
    *
@@ -1211,6 +1227,95 @@ public class Java6Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * In error messages, sets the maximum number of characters printed for the elements of one iterable/array, the
+   * elements beyond it are truncated and followed by {@code ...(truncated)}.
+   * <p>
+   * Defaults to 100000, this bounds the description of iterables/arrays whose elements have long {@code toString}.
+   *
+   * @param maxLengthForPrinting the maximum number of characters printed for the elements of one iterable/array
+   */
+  public static void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    StandardRepresentation.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
+  /**
+   * Sets the maximum total length of two compared {@code String}s for their whole values to be reported when they are
+   * not equal, bigger {@code String}s only have the characters around their first difference reported (they are also
+   * the expected and actual values of the JUnit/opentest4j comparison error shown by IDEs).
+   * <p>
+   * Defaults to 65536, use {@link Integer#MAX_VALUE} to always report the whole values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxLengthForFullStringComparison(1000);
+   *
+   * // fails reporting the 100 characters before and after index 1000 and the strings lengths
+   * assertThat(bigString + "Luke").isEqualTo(bigString + "Yoda");</code></pre>
+   *
+   * @param maxLengthForFullStringComparison the maximum total length of two {@code String}s to report entirely.
+   */
+  public static void setMaxLengthForFullStringComparison(int maxLengthForFullStringComparison) {
+    ShouldBeEqual.setMaxLengthForFullStringComparison(maxLengthForFullStringComparison);
+  }
+
+  /**
+   * Sets the number of characters reported before and after the first difference of two {@code String}s too big to
+   * be reported entirely (see {@link #setMaxLengthForFullStringComparison(int)}), defaults to 100.
+   *
+   * @param stringDiffContextLength the number of characters reported on each side of the first difference.
+   */
+  public static void setStringDiffContextLength(int stringDiffContextLength) {
+    ShouldBeEqual.setStringDiffContextLength(stringDiffContextLength);
+  }
+
+  /**
+   * Compares file, path and input stream contents as they are read instead of reading them entirely beforehand, only
+   * {@code windowSize} lines of each content are kept in memory and the comparison stops after {@code maxDeltas}
+   * differences. This is useful to compare huge contents like logs with {@code hasSameContentAs}.
+   * <p>
+   * Differences spanning more lines than the window are reported as changed lines of the window size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.useStreamingContentDiff(1000, 10);
+   *
+   * // fails reporting at most 10 differences while keeping at most 1000 lines of each file in memory
+   * assertThat(new File("today.log")).hasSameContentAs(new File("yesterday.log"));</code></pre>
+   *
+   * @param windowSize the maximum number of lines of each content kept in memory, must be greater than 0.
+   * @param maxDeltas the maximum number of differences reported, must be greater than 0.
+   * @throws IllegalArgumentException if {@code windowSize} or {@code maxDeltas} is not greater than 0.
+   */
+  public static void useStreamingContentDiff(int windowSize, int maxDeltas) {
+    Diff.useStreamingDiff(windowSize, maxDeltas);
+  }
+
+  /**
+   * Compares file, path and input stream contents after reading them entirely, this is the default (see
+   * {@link #useStreamingContentDiff(int, int)}).
+   */
+  public static void useFullContentDiff() {
+    Diff.useFullDiff();
+  }
+
+  /**
+   * Sets the algorithm computing the differences between the lines of file, path and input stream contents reported
+   * by {@code hasSameContentAs} assertions, {@link org.assertj.core.util.diff.myers.MyersDiff MyersDiff} by default.
+   * <p>
+   * {@link org.assertj.core.util.diff.HistogramDiff HistogramDiff} reports fewer and smaller differences on contents
+   * with many repeated lines like CSV files, logs or generated code.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.useContentDiffAlgorithm(new HistogramDiff&lt;String&gt;());
+   *
+   * assertThat(new File("actual.csv")).hasSameContentAs(new File("expected.csv"));</code></pre>
+   *
+   * @param algorithm the algorithm computing the differences between lines, it must be thread safe.
+   * @throws NullPointerException if {@code algorithm} is {@code null}.
+   */
+  public static void useContentDiffAlgorithm(DiffAlgorithm<String> algorithm) {
+    Diff.useDiffAlgorithm(algorithm);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
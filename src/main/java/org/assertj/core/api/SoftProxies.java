@@ -17,6 +17,8 @@ import static org.assertj.core.util.Arrays.array;
 import java.lang.reflect.Method;
 import java.util.List;
 
+import org.assertj.core.internal.Failures;
+
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
@@ -30,7 +32,10 @@ class SoftProxies {
   }
 
   List<Throwable> errorsCollected() {
-    return collector.errors();
+    List<Throwable> errors = collector.errors();
+    // errors created without stack trace get the one of the thread collecting them
+    Failures.instance().fillInMissingStackTraces(errors);
+    return errors;
   }
 
   @SuppressWarnings("unchecked")
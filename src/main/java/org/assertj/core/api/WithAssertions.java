@@ -15,6 +15,7 @@ package org.assertj.core.api;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -87,6 +88,7 @@ import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.presentation.UnicodeRepresentation;
 import org.assertj.core.util.CheckReturnValue;
+import org.assertj.core.util.diff.DiffAlgorithm;
 
 /**
  * A unified entry point to all non-deprecated assertions from both the new Java 8 core API and the pre-Java 8 core API.
@@ -834,6 +836,18 @@ public interface WithAssertions {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 3.9.0
+   */
+  @CheckReturnValue
+  default AbstractReaderAssert<?, ? extends Reader> assertThat(final Reader actual) {
+    return Assertions.assertThat(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FileAssert}</code>.
    *
@@ -870,6 +884,42 @@ public interface WithAssertions {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LinesAssert}</code> to assert on the lines of the given text file, decoded
+   * with the platform default charset.
+   * <p>
+   * The lines are never all loaded in memory, each assertion reads the file lazily and stops as soon as its outcome is
+   * known, which makes it suitable for very big files like logs.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatLinesOf(Paths.get("server.log")).contains("started")
+   *                                          .noneMatch(line -&gt; line.contains("Exception"));</code></pre>
+   *
+   * @param actual the path of the text file.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  default AbstractLinesAssert<?> assertThatLinesOf(final Path actual) {
+    return Assertions.assertThatLinesOf(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LinesAssert}</code> to assert on the lines of the given text file, decoded
+   * with the given charset.
+   * <p>
+   * The lines are never all loaded in memory, each assertion reads the file lazily and stops as soon as its outcome is
+   * known, which makes it suitable for very big files like logs.
+   *
+   * @param actual the path of the text file.
+   * @param charset the charset to decode the file with.
+   * @return the created assertion object.
+   * @throws NullPointerException if the given charset is {@code null}.
+   */
+  @CheckReturnValue
+  default AbstractLinesAssert<?> assertThatLinesOf(final Path actual, final Charset charset) {
+    return Assertions.assertThatLinesOf(actual, charset);
+  }
+
   /**
    * Creates a new instance of <code>{@link IntArrayAssert}</code>.
    *
@@ -1718,6 +1768,21 @@ public interface WithAssertions {
     return Assertions.linesOf(file, charset);
   }
 
+  /**
+   * Returns a stream on the decompressed content of a gzip file, the content is inflated as the stream is read so that
+   * it is neither extracted to disk nor fully loaded in memory.
+   * <p>
+   * The returned stream holds an open file and must be closed.
+   *
+   * @param path the gzip file.
+   * @return the decompressed content of the file.
+   * @throws NullPointerException if the given path is {@code null}.
+   * @throws RuntimeIOException if an I/O exception occurs when opening the file or if it is not in the gzip format.
+   */
+  default InputStream gzipContentOf(final Path path) {
+    return Assertions.gzipContentOf(path);
+  }
+
   /**
    * Sets whether we remove elements related to AssertJ from assertion error stack trace.
    *
@@ -1727,6 +1792,26 @@ public interface WithAssertions {
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of stack trace elements of assertion errors, only the first ones are captured.
+   *
+   * @param maxStackTraceElementsDisplayed the maximum number of stack trace elements, {@link Integer#MAX_VALUE} to
+   *          capture them all (the default).
+   */
+  default void setMaxStackTraceElementsDisplayed(final int maxStackTraceElementsDisplayed) {
+    Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
+  }
+
+  /**
+   * Sets whether soft assertions errors are created without stack trace, they then get the stack trace of the thread
+   * collecting them (typically where {@code assertAll()} is called).
+   *
+   * @param stacklessSoftAssertionErrors flag.
+   */
+  default void setStacklessSoftAssertionErrors(final boolean stacklessSoftAssertionErrors) {
+    Assertions.setStacklessSoftAssertionErrors(stacklessSoftAssertionErrors);
+  }
+
   /**
    * Throws an {@link AssertionError} with a message explaining that a {@link Throwable} of given class was expected to be thrown
    * but had not been.
@@ -1808,6 +1893,95 @@ public interface WithAssertions {
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * In error messages, sets the maximum number of characters printed for the elements of one iterable/array, the
+   * elements beyond it are truncated and followed by {@code ...(truncated)}.
+   * <p>
+   * Defaults to 100000, this bounds the description of iterables/arrays whose elements have long {@code toString}.
+   *
+   * @param maxLengthForPrinting the maximum number of characters printed for the elements of one iterable/array
+   */
+  default void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    Assertions.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
+  /**
+   * Sets the maximum total length of two compared {@code String}s for their whole values to be reported when they are
+   * not equal, bigger {@code String}s only have the characters around their first difference reported (they are also
+   * the expected and actual values of the JUnit/opentest4j comparison error shown by IDEs).
+   * <p>
+   * Defaults to 65536, use {@link Integer#MAX_VALUE} to always report the whole values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxLengthForFullStringComparison(1000);
+   *
+   * // fails reporting the 100 characters before and after index 1000 and the strings lengths
+   * assertThat(bigString + "Luke").isEqualTo(bigString + "Yoda");</code></pre>
+   *
+   * @param maxLengthForFullStringComparison the maximum total length of two {@code String}s to report entirely.
+   */
+  default void setMaxLengthForFullStringComparison(int maxLengthForFullStringComparison) {
+    Assertions.setMaxLengthForFullStringComparison(maxLengthForFullStringComparison);
+  }
+
+  /**
+   * Sets the number of characters reported before and after the first difference of two {@code String}s too big to
+   * be reported entirely (see {@link #setMaxLengthForFullStringComparison(int)}), defaults to 100.
+   *
+   * @param stringDiffContextLength the number of characters reported on each side of the first difference.
+   */
+  default void setStringDiffContextLength(int stringDiffContextLength) {
+    Assertions.setStringDiffContextLength(stringDiffContextLength);
+  }
+
+  /**
+   * Compares file, path and input stream contents as they are read instead of reading them entirely beforehand, only
+   * {@code windowSize} lines of each content are kept in memory and the comparison stops after {@code maxDeltas}
+   * differences. This is useful to compare huge contents like logs with {@code hasSameContentAs}.
+   * <p>
+   * Differences spanning more lines than the window are reported as changed lines of the window size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.useStreamingContentDiff(1000, 10);
+   *
+   * // fails reporting at most 10 differences while keeping at most 1000 lines of each file in memory
+   * assertThat(new File("today.log")).hasSameContentAs(new File("yesterday.log"));</code></pre>
+   *
+   * @param windowSize the maximum number of lines of each content kept in memory, must be greater than 0.
+   * @param maxDeltas the maximum number of differences reported, must be greater than 0.
+   * @throws IllegalArgumentException if {@code windowSize} or {@code maxDeltas} is not greater than 0.
+   */
+  default void useStreamingContentDiff(int windowSize, int maxDeltas) {
+    Assertions.useStreamingContentDiff(windowSize, maxDeltas);
+  }
+
+  /**
+   * Compares file, path and input stream contents after reading them entirely, this is the default (see
+   * {@link #useStreamingContentDiff(int, int)}).
+   */
+  default void useFullContentDiff() {
+    Assertions.useFullContentDiff();
+  }
+
+  /**
+   * Sets the algorithm computing the differences between the lines of file, path and input stream contents reported
+   * by {@code hasSameContentAs} assertions, {@link org.assertj.core.util.diff.myers.MyersDiff MyersDiff} by default.
+   * <p>
+   * {@link org.assertj.core.util.diff.HistogramDiff HistogramDiff} reports fewer and smaller differences on contents
+   * with many repeated lines like CSV files, logs or generated code.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.useContentDiffAlgorithm(new HistogramDiff&lt;String&gt;());
+   *
+   * assertThat(new File("actual.csv")).hasSameContentAs(new File("expected.csv"));</code></pre>
+   *
+   * @param algorithm the algorithm computing the differences between lines, it must be thread safe.
+   * @throws NullPointerException if {@code algorithm} is {@code null}.
+   */
+  default void useContentDiffAlgorithm(DiffAlgorithm<String> algorithm) {
+    Assertions.useContentDiffAlgorithm(algorithm);
+  }
+
   /**
    * Globally sets whether
    * <code>{@link org.assertj.core.api.AbstractIterableAssert#extracting(String) IterableAssert#extracting(String)}</code>
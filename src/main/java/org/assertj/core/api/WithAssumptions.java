@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -577,6 +578,17 @@ public interface WithAssumptions {
     return Assumptions.assumeThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code> assumption.
+   *
+   * @param actual the actual value.
+   * @return the created assumption for assertion object.
+   */
+  @CheckReturnValue
+  default AbstractReaderAssert<?, ? extends Reader> assumeThat(final Reader actual) {
+    return Assumptions.assumeThat(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FileAssert}</code> assumption.
    *
@@ -0,0 +1,36 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import org.assertj.core.presentation.PredicateDescription;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that at least one element matches a predicate
+ * failed.
+ */
+public class AnyElementShouldMatch extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link AnyElementShouldMatch}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param predicateDescription the description of the predicate none of the elements matched.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory anyElementShouldMatch(Object actual, PredicateDescription predicateDescription) {
+    return new AnyElementShouldMatch(actual, predicateDescription);
+  }
+
+  private AnyElementShouldMatch(Object actual, PredicateDescription predicateDescription) {
+    super("%nExpecting any element of:%n  <%s>%nto match %s predicate but none did.", actual, predicateDescription);
+  }
+}
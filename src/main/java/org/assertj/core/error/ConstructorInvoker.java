@@ -12,33 +12,72 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.*;
 import java.security.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Access to constructors using Java reflection.
- * 
+ * Access to constructors using method handles.
+ * <p>
+ * Classes are looked up once: the constructor handles are cached, as are the classes or constructors that are not
+ * available (typically JUnit or opentest4j errors when they are not in the classpath).
+ *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 class ConstructorInvoker {
 
+  // empty if the class or the constructor is not available
+  private static final Map<ConstructorKey, Optional<MethodHandle>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an instance of the given class with the constructor having the given parameter types.
+   *
+   * @param className the name of the class to instantiate.
+   * @param parameterTypes the constructor parameter types.
+   * @param parameterValues the constructor arguments.
+   * @return the created instance or {@code null} if the class or the constructor is not available.
+   * @throws Exception if thrown by the constructor.
+   */
   Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    boolean accessible = constructor.isAccessible();
+    Optional<MethodHandle> constructor = CONSTRUCTORS.computeIfAbsent(new ConstructorKey(className, parameterTypes),
+                                                                      ConstructorInvoker::findConstructor);
+    if (!constructor.isPresent()) return null;
+    try {
+      return constructor.get().invokeExact(parameterValues);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new UndeclaredThrowableException(t);
+    }
+  }
+
+  private static Optional<MethodHandle> findConstructor(ConstructorKey key) {
     try {
-      setAccessible(constructor, true);
-      return constructor.newInstance(parameterValues);
-    } finally {
-      try {
-        setAccessible(constructor, accessible);
-      } catch (RuntimeException e) {}
+      Constructor<?> constructor = Class.forName(key.className).getConstructor(key.parameterTypes);
+      // getConstructor returns a copy, making it accessible only affects the handle created from it
+      setAccessible(constructor);
+      MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+      return Optional.of(handle.asSpreader(Object[].class, key.parameterTypes.length)
+                               .asType(methodType(Object.class, Object[].class)));
+    } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+      return Optional.empty();
     }
   }
 
-  private void setAccessible(AccessibleObject accessible, boolean value) {
-    AccessController.doPrivileged(new SetAccessibleValueAction(accessible, value));
+  private static void setAccessible(AccessibleObject accessible) {
+    try {
+      AccessController.doPrivileged(new SetAccessibleValueAction(accessible, true));
+    } catch (RuntimeException e) {
+      // not needed to access the public constructors of public classes
+    }
   }
 
   private static class SetAccessibleValueAction implements PrivilegedAction<Void> {
@@ -56,4 +95,27 @@ class ConstructorInvoker {
       return null;
     }
   }
+
+  private static class ConstructorKey {
+    private final String className;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorKey(String className, Class<?>[] parameterTypes) {
+      this.className = className;
+      this.parameterTypes = parameterTypes.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof ConstructorKey)) return false;
+      ConstructorKey other = (ConstructorKey) o;
+      return className.equals(other.className) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * className.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
 }
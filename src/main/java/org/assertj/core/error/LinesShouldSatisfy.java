@@ -0,0 +1,47 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all lines of a text satisfy some
+ * requirements failed.
+ */
+public class LinesShouldSatisfy extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link LinesShouldSatisfy}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param lineIndex the index of the line not satisfying the requirements.
+   * @param line the line not satisfying the requirements.
+   * @param assertionErrorDetails the requirements failure message.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory linesShouldSatisfy(CharSequence actual, int lineIndex, String line,
+                                                       String assertionErrorDetails) {
+    return new LinesShouldSatisfy(actual, lineIndex, line, assertionErrorDetails);
+  }
+
+  private LinesShouldSatisfy(CharSequence actual, int lineIndex, String line, String assertionErrorDetails) {
+    // format the line index in a standard way, we only want actual, line and details to use the representation
+    super(format("%n" +
+                 "Expecting all lines of:%n" +
+                 "  <%s>%n" +
+                 "to satisfy given requirements, but line at index <%s> did not:%n" +
+                 "  <%s> %n" +
+                 "Details: %s",
+                 "%s", lineIndex, "%s", "%s"),
+          actual, line, assertionErrorDetails);
+  }
+}
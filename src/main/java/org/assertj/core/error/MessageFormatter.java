@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.presentation.RenderingContext.renderWith;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.formatIfArgs;
 
@@ -46,7 +47,9 @@ public class MessageFormatter {
    * <li>the value of the given <code>{@link Description}</code> is used as the first argument referenced in the format
    * string</li>
    * <li>each of the arguments in the given array is converted to a {@code String} by invoking
-   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>.
+   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>, an object shown several
+   * times, for example as an argument and as an element of another one, is converted once (see
+   * {@link org.assertj.core.presentation.RenderingContext}).
    * </ol>
    * 
    * @param d the description of the failed assertion, may be {@code null}.
@@ -59,7 +62,7 @@ public class MessageFormatter {
   public String format(Description d, Representation p, String format, Object... args) {
     checkNotNull(format);
     checkNotNull(args);
-    return descriptionFormatter.format(d) + formatIfArgs(format, format(p, args));
+    return descriptionFormatter.format(d) + formatIfArgs(format, renderWith(p, () -> format(p, args)));
   }
 
   private Object[] format(Representation p, Object[] args) {
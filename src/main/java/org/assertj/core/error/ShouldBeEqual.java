@@ -12,10 +12,12 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.String.format;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Objects.HASH_CODE_PRIME;
 import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Objects.hashCodeFor;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
@@ -32,6 +34,9 @@ import org.assertj.core.util.VisibleForTesting;
  * The built {@link AssertionError}'s message differentiates {@link #actual} and {@link #expected} description if their
  * string representation are the same (e.g. 42 float and 42 double). It also mentions the comparator in case of a custom
  * comparator is used (instead of equals method).
+ * <p>
+ * When two big {@code String}s are compared, only the characters around their first difference are shown (see
+ * {@link #setMaxLengthForFullStringComparison(int)}).
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -42,6 +47,19 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   private static final String EXPECTED_BUT_WAS_MESSAGE = "%nExpecting:%n <%s>%nto be equal to:%n <%s>%nbut was not.";
   private static final String EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR = "%nExpecting:%n <%s>%nto be equal to:%n " +
                                                                           "<%s>%n%s but was not.";
+  private static final String WINDOWED_STRINGS_MESSAGE = "%nExpecting:%n <%s>%nto be equal to:%n <%s>%nbut was not.%n";
+  private static final String WINDOWED_STRINGS_DIFFERENCE = "Strings differ from index %s (actual length: %s, "
+                                                            + "expected length: %s, differing section length: %s in "
+                                                            + "actual and %s in expected).%n"
+                                                            + "Only %s characters around the first difference are "
+                                                            + "shown, use "
+                                                            + "Assertions.setMaxLengthForFullStringComparison(int) "
+                                                            + "to get the full strings.";
+  private static final String ELLIPSIS = "...";
+  private static final int DEFAULT_MAX_LENGTH_FOR_FULL_STRING_COMPARISON = 64 * 1024;
+  private static final int DEFAULT_STRING_DIFF_CONTEXT_LENGTH = 100;
+  private static volatile int maxLengthForFullStringComparison = DEFAULT_MAX_LENGTH_FOR_FULL_STRING_COMPARISON;
+  private static volatile int stringDiffContextLength = DEFAULT_STRING_DIFF_CONTEXT_LENGTH;
   private static final Class<?>[] MSG_ARG_TYPES = array(String.class, String.class, String.class);
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class,
                                                                                    Object.class);
@@ -83,6 +101,44 @@ public class ShouldBeEqual implements AssertionErrorFactory {
     return new ShouldBeEqual(actual, expected, comparisonStrategy, representation);
   }
 
+  /**
+   * Sets the maximum total length of two compared {@code String}s for their whole values to be reported when they are
+   * not equal, above it only a window of {@link #setStringDiffContextLength(int) context length} characters around
+   * their first difference is reported, avoiding huge error messages and slow diffs in IDEs. The JUnit/opentest4j
+   * comparison error is still built, with these windows as expected and actual values.
+   * <p>
+   * Defaults to {@value #DEFAULT_MAX_LENGTH_FOR_FULL_STRING_COMPARISON}, use {@link Integer#MAX_VALUE} to always
+   * report the whole values.
+   *
+   * @param value the maximum total length of two {@code String}s to report entirely.
+   * @throws IllegalArgumentException if the given value is negative.
+   */
+  public static void setMaxLengthForFullStringComparison(int value) {
+    checkArgument(value >= 0, "maxLengthForFullStringComparison must be >= 0 but was %s", value);
+    maxLengthForFullStringComparison = value;
+  }
+
+  /**
+   * Sets the number of characters reported before and after the first difference of two big {@code String}s (see
+   * {@link #setMaxLengthForFullStringComparison(int)}), defaults to {@value #DEFAULT_STRING_DIFF_CONTEXT_LENGTH}.
+   *
+   * @param value the number of characters reported on each side of the first difference.
+   * @throws IllegalArgumentException if the given value is not positive.
+   */
+  public static void setStringDiffContextLength(int value) {
+    checkArgument(value > 0, "stringDiffContextLength must be > 0 but was %s", value);
+    stringDiffContextLength = value;
+  }
+
+  /**
+   * Resets the settings of big {@code String}s comparison failures to their defaults.
+   */
+  @VisibleForTesting
+  static void resetDefaults() {
+    maxLengthForFullStringComparison = DEFAULT_MAX_LENGTH_FOR_FULL_STRING_COMPARISON;
+    stringDiffContextLength = DEFAULT_STRING_DIFF_CONTEXT_LENGTH;
+  }
+
   @VisibleForTesting
   ShouldBeEqual(Object actual, Object expected, ComparisonStrategy comparisonStrategy, Representation representation) {
     this.actual = actual;
@@ -113,6 +169,10 @@ public class ShouldBeEqual implements AssertionErrorFactory {
    */
   @Override
   public AssertionError newAssertionError(Description description, Representation representation) {
+    if (areBigStringsComparedWithStandardStrategy()) {
+      // JUnit/opentest4j errors would carry and diff the whole values again, only report the first difference
+      return windowedStringsError(description, representation);
+    }
     // only use JUnit error message if the comparison strategy used was standard, otherwise we need to mention
     // comparison strategy in the assertion error message to make it clear to the user it was used.
     if (comparisonStrategy.isStandard() && !actualAndExpectedHaveSameStringRepresentation()) {
@@ -122,12 +182,69 @@ public class ShouldBeEqual implements AssertionErrorFactory {
       if (error != null) return error;
     }
     String message = smartErrorMessage(description, representation);
-    AssertionError assertionFailedError = assertionFailedError(message);
+    AssertionError assertionFailedError = assertionFailedError(message, expected, actual);
     if (assertionFailedError != null) return assertionFailedError;
     // No JUnit in the classpath => fall back to default error message
     return Failures.instance().failure(message);
   }
 
+  private boolean areBigStringsComparedWithStandardStrategy() {
+    return comparisonStrategy.isStandard() && actual instanceof String && expected instanceof String
+           && (long) ((String) actual).length() + ((String) expected).length() > maxLengthForFullStringComparison;
+  }
+
+  private AssertionError windowedStringsError(Description description, Representation representation) {
+    String actualString = (String) actual;
+    String expectedString = (String) expected;
+    int contextLength = stringDiffContextLength;
+    int commonPrefixLength = commonPrefixLength(actualString, expectedString);
+    int commonSuffixLength = commonSuffixLength(actualString, expectedString, commonPrefixLength);
+    int windowStart = Math.max(commonPrefixLength - contextLength, 0);
+    int windowEnd = commonPrefixLength + contextLength;
+    String actualWindow = window(actualString, windowStart, windowEnd, representation);
+    String expectedWindow = window(expectedString, windowStart, windowEnd, representation);
+    String difference = format(WINDOWED_STRINGS_DIFFERENCE,
+                               commonPrefixLength, actualString.length(), expectedString.length(),
+                               actualString.length() - commonPrefixLength - commonSuffixLength,
+                               expectedString.length() - commonPrefixLength - commonSuffixLength,
+                               contextLength);
+    // the windows are given as expected and actual values so that IDEs can still show their diff
+    AssertionError error = comparisonFailure((descriptionFormatter.format(description) + difference).trim(),
+                                             expectedWindow, actualWindow);
+    if (error != null) return error;
+    String message = descriptionFormatter.format(description)
+                     + format(WINDOWED_STRINGS_MESSAGE, actualWindow, expectedWindow) + difference;
+    AssertionError assertionFailedError = assertionFailedError(message, expectedWindow, actualWindow);
+    if (assertionFailedError != null) return assertionFailedError;
+    return Failures.instance().failure(message);
+  }
+
+  private static int commonPrefixLength(String actual, String expected) {
+    int length = Math.min(actual.length(), expected.length());
+    int index = 0;
+    while (index < length && actual.charAt(index) == expected.charAt(index)) {
+      index++;
+    }
+    return index;
+  }
+
+  // the common suffix does not overlap the common prefix in any of the strings
+  private static int commonSuffixLength(String actual, String expected, int commonPrefixLength) {
+    int maxLength = Math.min(actual.length(), expected.length()) - commonPrefixLength;
+    int length = 0;
+    while (length < maxLength
+           && actual.charAt(actual.length() - 1 - length) == expected.charAt(expected.length() - 1 - length)) {
+      length++;
+    }
+    return length;
+  }
+
+  private static String window(String string, int start, int end, Representation representation) {
+    int windowEnd = Math.min(end, string.length());
+    String window = representation.toStringOf(string.substring(start, windowEnd));
+    return (start > 0 ? ELLIPSIS : "") + window + (windowEnd < string.length() ? ELLIPSIS : "");
+  }
+
   private boolean actualAndExpectedHaveSameStringRepresentation() {
     return areEqual(representation.toStringOf(actual), representation.toStringOf(expected));
   }
@@ -178,13 +295,13 @@ public class ShouldBeEqual implements AssertionErrorFactory {
                                    detailedExpected());
   }
 
-  private AssertionError assertionFailedError(String message) {
+  private AssertionError assertionFailedError(String message, Object expectedValue, Object actualValue) {
     try {
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                expected,
-                                                actual);
+                                                expectedValue,
+                                                actualValue);
       if (o instanceof AssertionError) return (AssertionError) o;
       return null;
     } catch (Throwable e) {
@@ -194,7 +311,18 @@ public class ShouldBeEqual implements AssertionErrorFactory {
 
   private AssertionError comparisonFailure(Description description) {
     try {
-      AssertionError comparisonFailure = newComparisonFailure(descriptionFormatter.format(description).trim());
+      return comparisonFailure(descriptionFormatter.format(description).trim(), representation.toStringOf(expected),
+                               representation.toStringOf(actual));
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  private AssertionError comparisonFailure(String message, String expectedValue, String actualValue) {
+    try {
+      AssertionError comparisonFailure = newComparisonFailure(message, expectedValue, actualValue);
+      // JUnit is not in the classpath
+      if (comparisonFailure == null) return null;
       Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(comparisonFailure);
       return comparisonFailure;
     } catch (Throwable e) {
@@ -202,16 +330,14 @@ public class ShouldBeEqual implements AssertionErrorFactory {
     }
   }
 
-  private AssertionError newComparisonFailure(String description) throws Exception {
-    Object o = constructorInvoker.newInstance("org.junit.ComparisonFailure", MSG_ARG_TYPES, msgArgs(description));
+  private AssertionError newComparisonFailure(String message, String expectedValue,
+                                              String actualValue) throws Exception {
+    Object o = constructorInvoker.newInstance("org.junit.ComparisonFailure", MSG_ARG_TYPES,
+                                              new Object[] { message, expectedValue, actualValue });
     if (o instanceof AssertionError) return (AssertionError) o;
     return null;
   }
 
-  private Object[] msgArgs(String description) {
-    return array(description, representation.toStringOf(expected), representation.toStringOf(actual));
-  }
-
   private String detailedActual() {
     return representation.unambiguousToStringOf(actual);
   }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import java.io.Reader;
 import java.util.Set;
 
 import org.assertj.core.internal.ComparisonStrategy;
@@ -78,6 +79,34 @@ public class ShouldContainCharSequence extends BasicErrorMessageFactory {
     return shouldContain(actual, strings, notFound, StandardComparisonStrategy.instance());
   }
 
+  /**
+   * Creates a new <code>{@link ShouldContainCharSequence}</code>.
+   * 
+   * @param actual the actual Reader in the failed assertion.
+   * @param sequence the sequence of values expected to be in {@code actual}.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to evaluate assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContain(Reader actual, CharSequence sequence, ComparisonStrategy comparisonStrategy) {
+    return new ShouldContainCharSequence("%nExpecting content of:%n <%s>%nto contain:%n <%s> %s", actual, sequence,
+                                   comparisonStrategy);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldContainCharSequence}</code>.
+   * 
+   * @param actual the actual Reader in the failed assertion.
+   * @param strings the sequence of values expected to be in {@code actual}.
+   * @param notFound the values not found.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to evaluate assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContain(Reader actual, CharSequence[] strings, Set<? extends CharSequence> notFound,
+      ComparisonStrategy comparisonStrategy) {
+    return new ShouldContainCharSequence("%nExpecting content of:%n <%s>%nto contain:%n <%s>%nbut could not find:%n <%s>%n %s",
+                                   actual, strings, notFound, comparisonStrategy);
+  }
+
   /**
    * Creates a new <code>{@link ShouldContainCharSequence}</code>.
    * 
@@ -90,11 +119,11 @@ public class ShouldContainCharSequence extends BasicErrorMessageFactory {
                                    StandardComparisonStrategy.instance());
   }
 
-  private ShouldContainCharSequence(String format, CharSequence actual, CharSequence sequence, ComparisonStrategy comparisonStrategy) {
+  private ShouldContainCharSequence(String format, Object actual, CharSequence sequence, ComparisonStrategy comparisonStrategy) {
     super(format, actual, sequence, comparisonStrategy);
   }
 
-  private ShouldContainCharSequence(String format, CharSequence actual, CharSequence[] values, Set<? extends CharSequence> notFound,
+  private ShouldContainCharSequence(String format, Object actual, CharSequence[] values, Set<? extends CharSequence> notFound,
       ComparisonStrategy comparisonStrategy) {
     super(format, actual, values, notFound, comparisonStrategy);
   }
@@ -12,6 +12,8 @@
  */
 package org.assertj.core.error;
 
+import java.io.Reader;
+
 /**
  * Creates an error message indicating that an assertion that verifies that a {@code CharSequence} contains a pattern failed.
  * 
@@ -29,7 +31,21 @@ public class ShouldContainPattern extends BasicErrorMessageFactory {
     return new ShouldContainPattern(actual, pattern);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldContainPattern}</code>.
+   * @param actual the actual Reader in the failed assertion.
+   * @param pattern a regular expression pattern.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainPattern(Reader actual, CharSequence pattern) {
+    return new ShouldContainPattern("%nExpecting content of:%n  %s%nto contain pattern:%n  %s", actual, pattern);
+  }
+
   private ShouldContainPattern(CharSequence actual, CharSequence pattern) {
     super("%nExpecting:%n  %s%nto contain pattern:%n  %s", actual, pattern);
   }
+
+  private ShouldContainPattern(String format, Reader actual, CharSequence pattern) {
+    super(format, actual, pattern);
+  }
 }
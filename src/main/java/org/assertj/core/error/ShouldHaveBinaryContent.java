@@ -46,12 +46,13 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
   }
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
-    super("%nFile:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+    // offset is inlined in the message as a long would be represented with an 'L' suffix
+    super("%nFile:%n <%s>%ndoes not have expected binary content at offset <" + diff.getOffset()
+          + ">, expecting:%n <%s>%nbut was:%n <%s>", actual, diff.expected, diff.actual);
   }
   
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
-    super("%nPath:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+    super("%nPath:%n <%s>%ndoes not have expected binary content at offset <" + diff.getOffset()
+          + ">, expecting:%n <%s>%nbut was:%n <%s>", actual, diff.expected, diff.actual);
   }
 }
@@ -0,0 +1,62 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.DigestDiff;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a file, a path or an input stream has a
+ * given digest failed.
+ */
+public class ShouldHaveDigest extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param diff the computed and expected digests.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDigest(File actual, DigestDiff diff) {
+    return new ShouldHaveDigest("File", actual, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param diff the computed and expected digests.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDigest(Path actual, DigestDiff diff) {
+    return new ShouldHaveDigest("Path", actual, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual input stream in the failed assertion.
+   * @param diff the computed and expected digests.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDigest(InputStream actual, DigestDiff diff) {
+    return new ShouldHaveDigest("InputStream", actual, diff);
+  }
+
+  // digests are inlined in the message as String arguments would be quoted
+  private ShouldHaveDigest(String kind, Object actual, DigestDiff diff) {
+    super("%nExpecting " + kind + ":%n <%s>%n" + diff.getDigestAlgorithm() + " digest to be:%n <" + diff.getExpected()
+          + ">%nbut was:%n <" + diff.getActual() + ">", actual);
+  }
+}
@@ -0,0 +1,35 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.nio.file.Path;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an archive has an entry failed.
+ */
+public class ShouldHaveEntry extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveEntry}</code>.
+   * @param actual the actual archive in the failed assertion.
+   * @param entryName the name of the expected entry.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveEntry(Path actual, String entryName) {
+    return new ShouldHaveEntry(actual, entryName);
+  }
+
+  private ShouldHaveEntry(Path actual, String entryName) {
+    super("%nExpecting archive:%n  <%s>%nto have entry:%n  <%s>%nbut it did not.", actual, entryName);
+  }
+}
@@ -14,6 +14,8 @@ package org.assertj.core.error;
 
 import static java.lang.String.format;
 
+import java.nio.file.Path;
+
 /**
  * Creates an error message indicating that an assertion that verifies that a value have certain number of lines failed.
  * 
@@ -32,6 +34,51 @@ public class ShouldHaveLineCount extends BasicErrorMessageFactory {
     return new ShouldHaveLineCount(actual, actualSize, expectedSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveLineCount}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param actualSize the lines count of {@code actual}.
+   * @param lowerBoundary the lower boundary of the expected lines count (inclusive).
+   * @param higherBoundary the higher boundary of the expected lines count (inclusive).
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLinesCountBetween(Object actual, int actualSize, int lowerBoundary,
+                                                                int higherBoundary) {
+    return new ShouldHaveLineCount(format("%nExpecting text:%n%s%nto have between <%s> and <%s> lines but had <%s>.",
+                                          "%s", lowerBoundary, higherBoundary, actualSize),
+                                   actual);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveLineCount}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param actualSize the lines count of {@code actual}.
+   * @param index the index of the expected line.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLineAtIndex(Object actual, int actualSize, int index) {
+    return new ShouldHaveLineCount(format("%nExpecting text:%n%s%nto have a line at index <%s> but had <%s> lines.",
+                                          "%s", index, actualSize),
+                                   actual);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveLineCount}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param actualSize the lines count of {@code actual}.
+   * @param expectedSize the expected lines count.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLinesCount(Path actual, long actualSize, long expectedSize) {
+    return new ShouldHaveLineCount(format("%nExpecting file:%n  %s%nto have <%s> lines but had <%s>.", "<%s>",
+                                          expectedSize, actualSize),
+                                   actual);
+  }
+
+  private ShouldHaveLineCount(String format, Object actual) {
+    super(format, actual);
+  }
+
   private ShouldHaveLineCount(Object actual, int actualSize, int expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
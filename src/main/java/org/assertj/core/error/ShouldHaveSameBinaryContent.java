@@ -0,0 +1,129 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.BinaryDiffResult;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two files/paths/input streams have the same
+ * binary content, or that an archive entry has an expected binary content, failed.
+ */
+public class ShouldHaveSameBinaryContent extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameBinaryContent}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param expected the expected file in the failed assertion.
+   * @param diff the first difference between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameBinaryContent(File actual, File expected, BinaryDiffResult diff) {
+    return new ShouldHaveSameBinaryContent("File", "file", actual, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameBinaryContent}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param expected the expected path in the failed assertion.
+   * @param diff the first difference between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameBinaryContent(Path actual, Path expected, BinaryDiffResult diff) {
+    return new ShouldHaveSameBinaryContent("Path", "path", actual, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameBinaryContent}</code>.
+   * @param actual the actual input stream in the failed assertion.
+   * @param expected the expected input stream in the failed assertion.
+   * @param diff the first difference between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameBinaryContent(InputStream actual, InputStream expected,
+                                                                BinaryDiffResult diff) {
+    return new ShouldHaveSameBinaryContent("InputStream", "InputStream", actual, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameBinaryContent}</code>.
+   * @param actual the actual archive in the failed assertion.
+   * @param entryName the name of the compared entry of {@code actual}.
+   * @param expected the expected content in the failed assertion.
+   * @param diff the first difference between the entry content and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameBinaryContent(Path actual, String entryName, Object expected,
+                                                                BinaryDiffResult diff) {
+    return new ShouldHaveSameBinaryContent(actual, entryName, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameBinaryContent}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param expected the expected file in the failed assertion.
+   * @param actualSize the size in bytes of {@code actual}.
+   * @param expectedSize the size in bytes of {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameBinaryContent(File actual, File expected, long actualSize,
+                                                                long expectedSize) {
+    return new ShouldHaveSameBinaryContent("File", actual, expected, actualSize, expectedSize);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameBinaryContent}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param expected the expected path in the failed assertion.
+   * @param actualSize the size in bytes of {@code actual}.
+   * @param expectedSize the size in bytes of {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameBinaryContent(Path actual, Path expected, long actualSize,
+                                                                long expectedSize) {
+    return new ShouldHaveSameBinaryContent("Path", actual, expected, actualSize, expectedSize);
+  }
+
+  // offsets and sizes are inlined in the message as a long would be represented with an 'L' suffix, and so are the
+  // hexadecimal windows as a String would be quoted
+  private ShouldHaveSameBinaryContent(String kind, String otherKind, Object actual, Object expected,
+                                      BinaryDiffResult diff) {
+    super("%n" + kind + ":%n <%s>%nand " + otherKind + ":%n <%s>%n"
+          + "do not have same binary content at offset <" + diff.getOffset() + ">, expecting:%n <%s>%nbut was:%n <%s>"
+          + windows(diff),
+          actual, expected, diff.expected, diff.actual);
+  }
+
+  private ShouldHaveSameBinaryContent(Path actual, String entryName, Object expected, BinaryDiffResult diff) {
+    super("%nEntry:%n <%s>%nof archive:%n <%s>%nand expected content:%n <%s>%n"
+          + "do not have same binary content at offset <" + diff.getOffset() + ">, expecting:%n <%s>%nbut was:%n <%s>"
+          + windows(diff),
+          entryName, actual, expected, diff.expected, diff.actual);
+  }
+
+  private ShouldHaveSameBinaryContent(String kind, Object actual, Object expected, long actualSize, long expectedSize) {
+    super("%n" + kind + ":%n <%s>%nand " + kind.toLowerCase() + ":%n <%s>%n"
+          + "do not have same binary content as their sizes differ, expecting:%n <" + expectedSize + "> bytes%n"
+          + "but was:%n <" + actualSize + "> bytes",
+          actual, expected);
+  }
+
+  private static String windows(BinaryDiffResult diff) {
+    if (!diff.hasWindows()) return "";
+    return "%nbytes from offset <" + diff.windowOffset + ">, expecting:%n <" + diff.expectedWindow + ">%nbut was:%n <"
+           + diff.actualWindow + ">";
+  }
+}
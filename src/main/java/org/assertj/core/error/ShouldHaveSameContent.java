@@ -15,13 +15,14 @@ package org.assertj.core.error;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.nio.file.Path;
 import java.util.List;
 
 import org.assertj.core.util.diff.Delta;
 
 /**
- * Creates an error message indicating that an assertion that verifies that two files/inputStreams/paths have same content failed.
+ * Creates an error message indicating that an assertion that verifies that two files/inputStreams/readers/paths have same content failed.
  * 
  * @author Yvonne Wang
  * @author Matthieu Baechler
@@ -62,6 +63,17 @@ public class ShouldHaveSameContent extends AbstractShouldHaveTextContent {
     return new ShouldHaveSameContent(actual, expected, diffsAsString(diffs));
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSameContent}</code>.
+   * @param actual the actual Reader in the failed assertion.
+   * @param expected the expected Reader in the failed assertion.
+   * @param diffs the differences between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameContent(Reader actual, Reader expected, List<Delta<String>> diffs) {
+    return new ShouldHaveSameContent(actual, expected, diffsAsString(diffs));
+  }
+
   private ShouldHaveSameContent(File actual, File expected, String diffs) {
     super("%nFile:%n  <%s>%nand file:%n  <%s>%ndo not have same content:%n", actual, expected);
     this.diffs = diffs;
@@ -72,6 +84,11 @@ public class ShouldHaveSameContent extends AbstractShouldHaveTextContent {
     this.diffs = diffs;
   }
   
+  private ShouldHaveSameContent(Reader actual, Reader expected, String diffs) {
+    super("%nReaders do not have same content:%n", actual, expected);
+    this.diffs = diffs;
+  }
+
   private ShouldHaveSameContent(Path actual, Path expected, String diffs) {
     super("%nPath:%n  <%s>%nand path:%n  <%s>%ndo not have same content:%n", actual, expected);
     this.diffs = diffs;
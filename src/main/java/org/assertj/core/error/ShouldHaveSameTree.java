@@ -0,0 +1,70 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.internal.TreeDiffResult;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two directories have the same tree failed.
+ */
+public class ShouldHaveSameTree extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameTree}</code>.
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the expected directory.
+   * @param diff the differences between the trees.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameTree(File actual, File expected, TreeDiffResult diff) {
+    return new ShouldHaveSameTree(actual, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameTree}</code>.
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the expected directory.
+   * @param diff the differences between the trees.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameTree(Path actual, Path expected, TreeDiffResult diff) {
+    return new ShouldHaveSameTree(actual, expected, diff);
+  }
+
+  private ShouldHaveSameTree(Object actual, Object expected, TreeDiffResult diff) {
+    super(messageFormat(diff), arguments(actual, expected, diff));
+  }
+
+  private static String messageFormat(TreeDiffResult diff) {
+    StringBuilder format = new StringBuilder("%nExpecting directory:%n <%s>%nto have the same tree as:%n <%s>%nbut:");
+    if (!diff.added.isEmpty()) format.append("%nthese entries were added:%n <%s>");
+    if (!diff.removed.isEmpty()) format.append("%nthese entries were removed:%n <%s>");
+    if (!diff.changed.isEmpty()) format.append("%nthese entries were changed:%n <%s>");
+    return format.toString();
+  }
+
+  private static Object[] arguments(Object actual, Object expected, TreeDiffResult diff) {
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(actual);
+    arguments.add(expected);
+    if (!diff.added.isEmpty()) arguments.add(diff.added);
+    if (!diff.removed.isEmpty()) arguments.add(diff.removed);
+    if (!diff.changed.isEmpty()) arguments.add(diff.changed);
+    return arguments.toArray();
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+/**
+ * An {@link AssertionError} created without capturing the stack trace of the current thread, its stack trace is empty
+ * until one is set with {@link #setStackTrace(StackTraceElement[])}.
+ * <p>
+ * Capturing the whole stack trace is most of the cost of creating an error, this lets failures keep only part of it or
+ * get it later on, like soft assertions do when their errors are collected.
+ */
+public class StacklessAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private boolean constructed;
+
+  /**
+   * Creates a new <code>{@link StacklessAssertionError}</code>.
+   * @param message the detail message.
+   */
+  public StacklessAssertionError(String message) {
+    super(message);
+    constructed = true;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    // skipped when called by the Throwable constructor only
+    return constructed ? super.fillInStackTrace() : this;
+  }
+}
@@ -0,0 +1,284 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.util.Arrays.fill;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Finds which of a set of {@code CharSequence}s are contained in a text in a single pass over the text, using an
+ * Aho-Corasick automaton.
+ * <p>
+ * The automaton is built once from the sequences to look for, its nodes and transitions are stored in primitive arrays
+ * to keep the memory footprint low even with thousands of sequences.
+ * <p>
+ * When built with {@code ignoreCase} set, characters are compared the same way as
+ * {@link String#equalsIgnoreCase(String)} does.
+ */
+@VisibleForTesting
+public final class AhoCorasickMatcher {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final int sequenceCount;
+  private final boolean ignoreCase;
+  // node -> first sequence ending at this node, sequence -> next sequence ending at the same node (duplicates)
+  private final int[] firstSequenceEndingAt;
+  private final int[] nextSequenceEndingAtSameNode;
+  // node -> longest proper suffix node, node -> nearest node in the failure chain where a sequence ends
+  private int[] failure;
+  private int[] output;
+  private int nodeCount;
+  // open addressing hash table of the trie transitions: (node, char) -> child node
+  private final long[] transitionKeys;
+  private final int[] transitionTargets;
+
+  private AhoCorasickMatcher(CharSequence[] sequences, boolean ignoreCase) {
+    this.sequenceCount = sequences.length;
+    this.ignoreCase = ignoreCase;
+    this.nextSequenceEndingAtSameNode = new int[sequenceCount];
+    int totalLength = 0;
+    for (CharSequence sequence : sequences) {
+      totalLength += sequence.length();
+    }
+    int maxNodes = totalLength + 1;
+    firstSequenceEndingAt = new int[maxNodes];
+    fill(firstSequenceEndingAt, NONE);
+    // there are less transitions than nodes, keep the table at most half full
+    int tableSize = Integer.highestOneBit(Math.max(maxNodes, 8)) << 2;
+    transitionKeys = new long[tableSize];
+    fill(transitionKeys, NONE);
+    transitionTargets = new int[tableSize];
+    nodeCount = 1;
+    for (int i = 0; i < sequenceCount; i++) {
+      addSequence(sequences[i], i);
+    }
+    buildFailureAndOutputLinks();
+  }
+
+  /**
+   * Builds a matcher looking for the given sequences.
+   *
+   * @param sequences the sequences to look for, must not contain {@code null} elements.
+   * @return the built matcher.
+   */
+  public static AhoCorasickMatcher matcherFor(CharSequence... sequences) {
+    return new AhoCorasickMatcher(sequences, false);
+  }
+
+  /**
+   * Builds a matcher looking for the given sequences, ignoring case considerations.
+   *
+   * @param sequences the sequences to look for, must not contain {@code null} elements.
+   * @return the built matcher.
+   */
+  public static AhoCorasickMatcher matcherIgnoringCaseFor(CharSequence... sequences) {
+    return new AhoCorasickMatcher(sequences, true);
+  }
+
+  /**
+   * Scans the given text once and returns which sequences were found, the returned array is indexed like the
+   * sequences given at construction time.
+   * <p>
+   * The scan stops as soon as all sequences have been found.
+   *
+   * @param text the text to search in.
+   * @return for each sequence whether it is contained in {@code text}.
+   */
+  public boolean[] findIn(CharSequence text) {
+    Search search = newSearch();
+    search.scan(text);
+    return search.found();
+  }
+
+  /**
+   * Starts a search which text is given chunk by chunk, sequences spanning several chunks are found as if the chunks
+   * were a single text.
+   *
+   * @return a new search, not thread safe.
+   */
+  public Search newSearch() {
+    return new Search();
+  }
+
+  /**
+   * Returns true if all sequences are contained in the given text.
+   *
+   * @param text the text to search in.
+   * @return true if all sequences are contained in {@code text}.
+   */
+  public boolean allFoundIn(CharSequence text) {
+    return newSearch().scan(text);
+  }
+
+  /**
+   * A search in a text given chunk by chunk, it keeps the automaton state between the chunks.
+   */
+  public final class Search {
+
+    private final boolean[] found = new boolean[sequenceCount];
+    // nodes whose output chain has already been reported, the chain of a reported node is reported too
+    private final boolean[] reported = new boolean[nodeCount];
+    private int notFoundCount = sequenceCount;
+    private int node = ROOT;
+
+    private Search() {
+      report();
+    }
+
+    /**
+     * Scans the next chunk of the text, the scan stops as soon as all sequences have been found.
+     *
+     * @param chunk the next chunk of the text.
+     * @return true if all sequences have been found so far.
+     */
+    public boolean scan(CharSequence chunk) {
+      for (int i = 0, length = chunk.length(); i < length && notFoundCount > 0; i++) {
+        char c = fold(chunk.charAt(i));
+        int next = transition(node, c);
+        while (next == NONE && node != ROOT) {
+          node = failure[node];
+          next = transition(node, c);
+        }
+        node = next == NONE ? ROOT : next;
+        report();
+      }
+      return notFoundCount == 0;
+    }
+
+    /**
+     * Returns which sequences were found so far, the returned array is indexed like the sequences given at
+     * construction time.
+     *
+     * @return for each sequence whether it was found in the chunks scanned so far.
+     */
+    public boolean[] found() {
+      return found.clone();
+    }
+
+    private void report() {
+      int current = firstSequenceEndingAt[node] != NONE ? node : output[node];
+      while (current != NONE && !reported[current]) {
+        reported[current] = true;
+        int sequence = firstSequenceEndingAt[current];
+        while (sequence != NONE) {
+          found[sequence] = true;
+          notFoundCount--;
+          sequence = nextSequenceEndingAtSameNode[sequence];
+        }
+        current = output[current];
+      }
+    }
+  }
+
+  private void addSequence(CharSequence sequence, int sequenceIndex) {
+    int node = ROOT;
+    for (int i = 0; i < sequence.length(); i++) {
+      char c = fold(sequence.charAt(i));
+      int next = transition(node, c);
+      if (next == NONE) {
+        next = nodeCount++;
+        addTransition(node, c, next);
+      }
+      node = next;
+    }
+    nextSequenceEndingAtSameNode[sequenceIndex] = firstSequenceEndingAt[node];
+    firstSequenceEndingAt[node] = sequenceIndex;
+  }
+
+  private void buildFailureAndOutputLinks() {
+    failure = new int[nodeCount];
+    output = new int[nodeCount];
+    fill(output, NONE);
+    // breadth first traversal so that a node failure link is computed before its children ones
+    int[] queue = new int[nodeCount];
+    int head = 0, tail = 0;
+    queue[tail++] = ROOT;
+    int[] childrenOfNode = childrenIndex();
+    while (head < tail) {
+      int node = queue[head++];
+      for (int slot = childrenOfNode[node]; slot != NONE; slot = childrenOfNode[nodeCount + slot]) {
+        int child = transitionTargets[slot];
+        char c = (char) transitionKeys[slot];
+        queue[tail++] = child;
+        failure[child] = node == ROOT ? ROOT : longestSuffixTransition(failure[node], c);
+        int suffix = failure[child];
+        output[child] = firstSequenceEndingAt[suffix] != NONE ? suffix : output[suffix];
+      }
+    }
+  }
+
+  private int longestSuffixTransition(int fromNode, char c) {
+    int node = fromNode;
+    int next = transition(node, c);
+    while (next == NONE && node != ROOT) {
+      node = failure[node];
+      next = transition(node, c);
+    }
+    return next == NONE ? ROOT : next;
+  }
+
+  /**
+   * Chains the transition slots by source node: the first {@code nodeCount} entries hold the first slot of each node,
+   * the following ones the next slot of each slot.
+   */
+  private int[] childrenIndex() {
+    int[] index = new int[nodeCount + transitionKeys.length];
+    fill(index, NONE);
+    for (int slot = 0; slot < transitionKeys.length; slot++) {
+      if (transitionKeys[slot] == NONE) continue;
+      int node = (int) (transitionKeys[slot] >>> 16);
+      index[nodeCount + slot] = index[node];
+      index[node] = slot;
+    }
+    return index;
+  }
+
+  private int transition(int node, char c) {
+    long key = key(node, c);
+    int mask = transitionKeys.length - 1;
+    for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+      long current = transitionKeys[slot];
+      if (current == key) return transitionTargets[slot];
+      if (current == NONE) return NONE;
+    }
+  }
+
+  private void addTransition(int node, char c, int target) {
+    long key = key(node, c);
+    int mask = transitionKeys.length - 1;
+    int slot = hash(key) & mask;
+    while (transitionKeys[slot] != NONE) {
+      slot = (slot + 1) & mask;
+    }
+    transitionKeys[slot] = key;
+    transitionTargets[slot] = target;
+  }
+
+  private static long key(int node, char c) {
+    return ((long) node << 16) | c;
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private char fold(char c) {
+    return ignoreCase ? toLowerCase(toUpperCase(c)) : c;
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Reads the entries of zip archives (jars included) in place, without extracting them.
+ * <p>
+ * Entries are looked up in the central directory of the archive and only the data of the compared entry is inflated,
+ * block by block, while being compared.
+ */
+@VisibleForTesting
+public class ArchiveReader {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @VisibleForTesting
+  public boolean hasEntry(Path archive, String entryName) throws IOException {
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      return zipFile.getEntry(entryName) != null;
+    }
+  }
+
+  /**
+   * Compares the content of an entry of the given archive with the given stream.
+   *
+   * @param archive the zip archive, it must be on the default file system.
+   * @param entryName the name of the entry to compare.
+   * @param expected the expected content of the entry.
+   * @return the first difference, or {@code null} if the archive has no such entry.
+   * @throws IOException if the archive or the stream can't be read.
+   */
+  @VisibleForTesting
+  public BinaryDiffResult diffEntry(Path archive, String entryName, InputStream expected) throws IOException {
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      ZipEntry entry = zipFile.getEntry(entryName);
+      if (entry == null) return null;
+      try (InputStream entryContent = zipFile.getInputStream(entry)) {
+        return binaryDiff.diff(entryContent, expected);
+      }
+    }
+  }
+}
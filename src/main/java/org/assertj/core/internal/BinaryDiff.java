@@ -12,24 +12,51 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.invoke.MethodType.methodType;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Arrays.copyOfRange;
+import static org.assertj.core.util.Hexadecimals.appendHex;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import org.assertj.core.util.VisibleForTesting;
 
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are compared block by block, without loading the whole contents in memory.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final long MAPPED_SLICE_SIZE = 64 * 1024 * 1024;
+  // smaller files are read, mapping them costs more than it saves
+  private static final long MIN_MAPPED_SIZE = 8 * 1024 * 1024;
+  // releases a mapped buffer without waiting for its garbage collection, a mapped file can't be deleted on Windows
+  private static final Consumer<ByteBuffer> UNMAPPER = unmapper();
+  private static final int NO_MISMATCH = -1;
+  private static final int EOF = -1;
+  // number of bytes shown before and after the first different byte of streams
+  private static final int WINDOW_SIZE = 16;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -55,15 +82,229 @@ public class BinaryDiff {
     }
   }
 
+  /**
+   * Compares the content of two files, big files are memory mapped in large slices (released once compared) so they
+   * are never loaded in the heap, small ones are read by blocks.
+   * <p>
+   * Files of a file system not supporting file channels or memory mapping are compared by streaming them.
+   */
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      return diff(actualChannel, expectedChannel);
+    } catch (UnsupportedOperationException e) {
+      try (InputStream actualStream = Files.newInputStream(actual);
+          InputStream expectedStream = Files.newInputStream(expected)) {
+        return diff(actualStream, expectedStream);
+      }
+    }
+  }
+
+  private static BinaryDiffResult diff(FileChannel actual, FileChannel expected) throws IOException {
+    long actualSize = actual.size();
+    long expectedSize = expected.size();
+    long commonSize = Math.min(actualSize, expectedSize);
+    BinaryDiffResult result = commonSize < MIN_MAPPED_SIZE ? readDiff(actual, expected, commonSize)
+        : mappedDiff(actual, expected, commonSize);
+    if (result != null) return result;
+    if (actualSize == expectedSize) return BinaryDiffResult.noDiff();
+    // the shortest file has reached its end
+    return new BinaryDiffResult(commonSize, byteAt(expected, commonSize), byteAt(actual, commonSize));
+  }
+
+  /**
+   * @return the first difference in the {@code commonSize} first bytes, {@code null} if there is none.
+   */
+  private static BinaryDiffResult readDiff(FileChannel actual, FileChannel expected,
+                                           long commonSize) throws IOException {
+    ByteBuffer actualBlock = ByteBuffer.allocate(BUFFER_SIZE);
+    ByteBuffer expectedBlock = ByteBuffer.allocate(BUFFER_SIZE);
+    for (long position = 0; position < commonSize; position += BUFFER_SIZE) {
+      int blockSize = (int) Math.min(BUFFER_SIZE, commonSize - position);
+      read(actual, actualBlock, position, blockSize);
+      read(expected, expectedBlock, position, blockSize);
+      int mismatch = mismatch(actualBlock, expectedBlock, blockSize);
+      if (mismatch != NO_MISMATCH)
+        return new BinaryDiffResult(position + mismatch, unsigned(expectedBlock.get(mismatch)),
+                                    unsigned(actualBlock.get(mismatch)));
+    }
+    return null;
+  }
+
+  private static void read(FileChannel channel, ByteBuffer block, long position, int length) throws IOException {
+    block.clear().limit(length);
+    // the channel may not fill the block at once
+    while (block.hasRemaining()) {
+      if (channel.read(block, position + block.position()) == EOF) break;
+    }
+  }
+
+  /**
+   * @return the first difference in the {@code commonSize} first bytes, {@code null} if there is none.
+   */
+  private static BinaryDiffResult mappedDiff(FileChannel actual, FileChannel expected,
+                                             long commonSize) throws IOException {
+    for (long position = 0; position < commonSize; position += MAPPED_SLICE_SIZE) {
+      int sliceSize = (int) Math.min(MAPPED_SLICE_SIZE, commonSize - position);
+      MappedByteBuffer actualSlice = actual.map(READ_ONLY, position, sliceSize);
+      MappedByteBuffer expectedSlice = null;
+      try {
+        expectedSlice = expected.map(READ_ONLY, position, sliceSize);
+        int mismatch = mismatch(actualSlice, expectedSlice, sliceSize);
+        if (mismatch != NO_MISMATCH)
+          return new BinaryDiffResult(position + mismatch, unsigned(expectedSlice.get(mismatch)),
+                                      unsigned(actualSlice.get(mismatch)));
+      } finally {
+        // the slices must not be used once released
+        UNMAPPER.accept(actualSlice);
+        if (expectedSlice != null) UNMAPPER.accept(expectedSlice);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds how to release mapped buffers: {@code Unsafe.invokeCleaner} since Java 9, the buffer cleaner before. If none
+   * is accessible, buffers are released when garbage collected.
+   */
+  private static Consumer<ByteBuffer> unmapper() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      MethodHandle invokeCleaner = MethodHandles.lookup()
+                                                .findVirtual(unsafeClass, "invokeCleaner",
+                                                             methodType(void.class, ByteBuffer.class))
+                                                .bindTo(theUnsafe.get(null));
+      return buffer -> {
+        try {
+          invokeCleaner.invokeExact(buffer);
+        } catch (Throwable e) {
+          // released when garbage collected
+        }
+      };
+    } catch (Throwable beforeJava9) {
+      try {
+        Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+        Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+        return buffer -> {
+          try {
+            clean.invoke(cleaner.invoke(buffer));
+          } catch (Exception e) {
+            // released when garbage collected
+          }
+        };
+      } catch (Throwable e) {
+        return buffer -> {};
+      }
+    }
+  }
+
+  private static int byteAt(FileChannel channel, long position) throws IOException {
+    ByteBuffer singleByte = ByteBuffer.allocate(1);
+    return channel.read(singleByte, position) == 1 ? unsigned(singleByte.get(0)) : EOF;
+  }
+
+  /**
+   * Compares the content of two streams block by block and stops at the first difference, the bytes surrounding the
+   * difference are reported in hexadecimal.
+   */
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBuffer = new byte[BUFFER_SIZE];
+    byte[] expectedBuffer = new byte[BUFFER_SIZE];
+    // the last bytes of the previous blocks, which are the same in both streams
+    byte[] previousBytes = new byte[0];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = fill(actualStream, actualBuffer);
+      int expectedLength = fill(expectedStream, expectedBuffer);
+      int commonLength = Math.min(actualLength, expectedLength);
+      int mismatch = mismatch(ByteBuffer.wrap(actualBuffer), ByteBuffer.wrap(expectedBuffer), commonLength);
+      // when lengths differ, the shortest stream has reached its end
+      if (mismatch == NO_MISMATCH && actualLength != expectedLength) mismatch = commonLength;
+      if (mismatch != NO_MISMATCH) {
+        byte[] bytesBefore = bytesBefore(previousBytes, actualBuffer, mismatch);
+        return new BinaryDiffResult(offset + mismatch, byteAt(expectedBuffer, mismatch, expectedLength),
+                                    byteAt(actualBuffer, mismatch, actualLength), offset + mismatch - bytesBefore.length,
+                                    hexWindow(bytesBefore, expectedBuffer, mismatch, expectedLength, expectedStream),
+                                    hexWindow(bytesBefore, actualBuffer, mismatch, actualLength, actualStream));
+      }
+      if (actualLength < BUFFER_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      previousBytes = copyOfRange(actualBuffer, actualLength - WINDOW_SIZE, actualLength);
+      offset += actualLength;
+    }
+  }
+
+  private static byte[] bytesBefore(byte[] previousBytes, byte[] buffer, int index) {
+    int fromBuffer = Math.min(WINDOW_SIZE, index);
+    int fromPreviousBytes = Math.min(WINDOW_SIZE - fromBuffer, previousBytes.length);
+    byte[] bytes = new byte[fromPreviousBytes + fromBuffer];
+    System.arraycopy(previousBytes, previousBytes.length - fromPreviousBytes, bytes, 0, fromPreviousBytes);
+    System.arraycopy(buffer, index - fromBuffer, bytes, fromPreviousBytes, fromBuffer);
+    return bytes;
+  }
+
+  /**
+   * Formats the bytes surrounding the different one, which is put between brackets, reading the following bytes from
+   * the stream if they are not in the buffer yet.
+   */
+  private static String hexWindow(byte[] bytesBefore, byte[] buffer, int index, int length, InputStream stream)
+      throws IOException {
+    StringBuilder window = new StringBuilder();
+    for (byte b : bytesBefore) {
+      appendHex(window, b).append(' ');
+    }
+    if (index == length) return window.append("[EOF]").toString();
+    appendHex(window.append('['), buffer[index]).append(']');
+    int end = Math.min(length, index + 1 + WINDOW_SIZE);
+    for (int i = index + 1; i < end; i++) {
+      appendHex(window.append(' '), buffer[i]);
+    }
+    if (length < BUFFER_SIZE || index + 1 + WINDOW_SIZE <= length) return window.toString();
+    byte[] bytesAfter = new byte[index + 1 + WINDOW_SIZE - length];
+    int readLength = fill(stream, bytesAfter);
+    for (int i = 0; i < readLength; i++) {
+      appendHex(window.append(' '), bytesAfter[i]);
     }
+    return window.toString();
+  }
+
+  /**
+   * Reads bytes until the buffer is full or the end of the stream is reached, so that the buffers of both streams
+   * always hold the bytes at the same offsets.
+   */
+  private static int fill(InputStream stream, byte[] buffer) throws IOException {
+    int length = 0;
+    while (length < buffer.length) {
+      int read = stream.read(buffer, length, buffer.length - length);
+      if (read == -1) break;
+      length += read;
+    }
+    return length;
+  }
+
+  /**
+   * Returns the index of the first different byte in the given length of the buffers, comparing them 8 bytes at a time
+   * until the different word is found.
+   */
+  private static int mismatch(ByteBuffer actual, ByteBuffer expected, int length) {
+    int index = 0;
+    while (index + Long.BYTES <= length && actual.getLong(index) == expected.getLong(index)) {
+      index += Long.BYTES;
+    }
+    for (; index < length; index++) {
+      if (actual.get(index) != expected.get(index)) return index;
+    }
+    return NO_MISMATCH;
+  }
+
+  private static int byteAt(byte[] buffer, int index, int length) {
+    return index < length ? unsigned(buffer[index]) : EOF;
+  }
+
+  private static int unsigned(byte b) {
+    return b & 0xFF;
   }
 }
@@ -20,10 +20,20 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
+  /**
+   * The offset at which the difference occurred, {@link Integer#MAX_VALUE} if it is bigger, see {@link #getOffset()}.
+   */
   public final int offset;
   public final String expected;
   public final String actual;
-  
+  /** The offset of the first byte of the windows, meaningless if there are no windows. */
+  public final long windowOffset;
+  /** The hexadecimal bytes of the expected content around the difference, or {@code null} if unknown. */
+  public final String expectedWindow;
+  /** The hexadecimal bytes of the actual content around the difference, or {@code null} if unknown. */
+  public final String actualWindow;
+  private final long longOffset;
+
   /**
    * Builds a new instance.
    * 
@@ -32,15 +42,58 @@ public class BinaryDiffResult {
    * @param actual the actual byte in the same format.
    */
   public BinaryDiffResult(int offset, int expected, int actual) {
-    this.offset = offset;
+    this((long) offset, expected, actual);
+  }
+  
+  /**
+   * Builds a new instance for a difference which may be beyond {@link Integer#MAX_VALUE}.
+   * 
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   */
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this(offset, expected, actual, EOF, null, null);
+  }
+
+  /**
+   * Builds a new instance showing the bytes surrounding the difference.
+   * 
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   * @param windowOffset the offset of the first byte of the windows.
+   * @param expectedWindow the hexadecimal bytes of the expected content around the difference.
+   * @param actualWindow the hexadecimal bytes of the actual content around the difference.
+   */
+  public BinaryDiffResult(long offset, int expected, int actual, long windowOffset, String expectedWindow,
+                          String actualWindow) {
+    this.offset = (int) Math.min(offset, Integer.MAX_VALUE);
+    this.longOffset = offset;
     this.expected = describe(expected);
     this.actual = describe(actual);
+    this.windowOffset = windowOffset;
+    this.expectedWindow = expectedWindow;
+    this.actualWindow = actualWindow;
   }
   
+  /**
+   * Returns the offset at which the difference occurred, even beyond {@link Integer#MAX_VALUE}.
+   *
+   * @return the offset at which the difference occurred.
+   */
+  public long getOffset() {
+    return longOffset;
+  }
+
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return longOffset == EOF;
   }
   
+  public boolean hasWindows() {
+    return expectedWindow != null && actualWindow != null;
+  }
+
   public static BinaryDiffResult noDiff() {
     return new BinaryDiffResult(EOF, 0, 0);
   }
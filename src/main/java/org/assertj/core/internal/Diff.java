@@ -15,6 +15,8 @@ package org.assertj.core.internal;
 import static java.nio.file.Files.newBufferedReader;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -24,17 +26,30 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.MyersDiff;
 
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * By default both contents are read entirely before being compared, when the streaming diff is enabled (see
+ * {@link #useStreamingDiff(int, int)}) only a bounded window of lines of each content is kept in memory.
+ * <p>
+ * Lines are compared with {@link MyersDiff} unless another algorithm is set with {@link #useDiffAlgorithm(DiffAlgorithm)}.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -46,6 +61,47 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static volatile DiffAlgorithm<String> diffAlgorithm = new MyersDiff<>();
+  // null when the whole contents are compared at once
+  private static volatile StreamingDiffSettings streamingDiffSettings;
+
+  /**
+   * Compares the contents line by line as they are read, keeping at most {@code windowSize} lines of each content in
+   * memory: the lines common to both contents are skipped and the diff algorithm is only run on windows of lines
+   * starting where the contents diverge. The comparison stops once {@code maxDeltas} differences are found.
+   * <p>
+   * A divergent region larger than the window is reported as a change of the window lines and the comparison resumes
+   * after them, the following differences may then not be the minimal ones.
+   *
+   * @param windowSize the maximum number of lines of each content kept in memory, must be greater than 0.
+   * @param maxDeltas the maximum number of differences reported, must be greater than 0.
+   */
+  public static void useStreamingDiff(int windowSize, int maxDeltas) {
+    checkArgument(windowSize > 0, "The streaming diff window size must be greater than 0 but was %s", windowSize);
+    checkArgument(maxDeltas > 0, "The maximum number of reported differences must be greater than 0 but was %s",
+                  maxDeltas);
+    streamingDiffSettings = new StreamingDiffSettings(windowSize, maxDeltas);
+  }
+
+  /**
+   * Compares the whole contents at once, this is the default.
+   */
+  public static void useFullDiff() {
+    streamingDiffSettings = null;
+  }
+
+  /**
+   * Sets the algorithm computing the differences between the lines of the contents, {@link MyersDiff} by default.
+   * <p>
+   * {@link org.assertj.core.util.diff.HistogramDiff} gives fewer and smaller deltas on contents with many repeated
+   * lines, {@link org.assertj.core.util.diff.myers.MyersDiffWithLinearSpace} needs less memory on big contents.
+   *
+   * @param algorithm the algorithm computing the differences between lines, it must be thread safe.
+   */
+  public static void useDiffAlgorithm(DiffAlgorithm<String> algorithm) {
+    diffAlgorithm = checkNotNull(algorithm, "The diff algorithm should not be null");
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -81,10 +137,12 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
+      StreamingDiffSettings settings = streamingDiffSettings;
+      if (settings != null) return unmodifiableList(streamingDiff(actual, expected, settings));
       List<String> actualLines = linesFromBufferedReader(actual);
       List<String> expectedLines = linesFromBufferedReader(expected);
       
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
+      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines, diffAlgorithm);
       return unmodifiableList(patch.getDeltas());
     } finally {
       closeQuietly(actual, expected);
@@ -99,4 +157,155 @@ public class Diff {
     }
     return lines;
   }
+
+  private static List<Delta<String>> streamingDiff(BufferedReader actualReader, BufferedReader expectedReader,
+                                                   StreamingDiffSettings settings) throws IOException {
+    DiffAlgorithm<String> algorithm = diffAlgorithm;
+    List<Delta<String>> deltas = new ArrayList<>();
+    Lines actual = new Lines(actualReader);
+    Lines expected = new Lines(expectedReader);
+    while (deltas.size() < settings.maxDeltas && skipCommonLines(actual, expected)) {
+      int actualStart = actual.position;
+      int expectedStart = expected.position;
+      List<String> actualWindow = actual.next(settings.windowSize);
+      List<String> expectedWindow = expected.next(settings.windowSize);
+      boolean endReached = actual.isExhausted() && expected.isExhausted();
+      int commonSuffixSize = endReached ? commonSuffixSize(actualWindow, expectedWindow) : 0;
+      List<String> divergentActual = actualWindow.subList(0, actualWindow.size() - commonSuffixSize);
+      List<String> divergentExpected = expectedWindow.subList(0, expectedWindow.size() - commonSuffixSize);
+      List<Delta<String>> windowDeltas = DiffUtils.diff(divergentExpected, divergentActual, algorithm).getDeltas();
+      // unless both contents ended, a delta reaching a window end may continue past it and is recomputed from the
+      // next window, but the first delta is always kept to make progress
+      int keptDeltas = 0;
+      while (keptDeltas < windowDeltas.size()
+             && (endReached || keptDeltas == 0
+                 || !reachesWindowEnd(windowDeltas.get(keptDeltas), expectedWindow, actualWindow))) {
+        keptDeltas++;
+      }
+      keptDeltas = Math.min(keptDeltas, settings.maxDeltas - deltas.size());
+      for (Delta<String> delta : windowDeltas.subList(0, keptDeltas)) {
+        deltas.add(shift(delta, expectedStart, actualStart));
+      }
+      if (endReached && keptDeltas == windowDeltas.size()) break;
+      // the lines after the last kept delta are compared again
+      Delta<String> lastKeptDelta = windowDeltas.get(keptDeltas - 1);
+      expected.pushBack(expectedWindow.subList(end(lastKeptDelta.getOriginal()), expectedWindow.size()));
+      actual.pushBack(actualWindow.subList(end(lastKeptDelta.getRevised()), actualWindow.size()));
+    }
+    return deltas;
+  }
+
+  /**
+   * Consumes the lines common to both contents up to the first different ones.
+   *
+   * @return false if both contents were entirely consumed, true if they diverge.
+   */
+  private static boolean skipCommonLines(Lines actual, Lines expected) throws IOException {
+    while (true) {
+      String actualLine = actual.next();
+      String expectedLine = expected.next();
+      if (actualLine == null && expectedLine == null) return false;
+      if (actualLine == null || !actualLine.equals(expectedLine)) {
+        actual.pushBack(actualLine);
+        expected.pushBack(expectedLine);
+        return true;
+      }
+    }
+  }
+
+  private static int commonSuffixSize(List<String> actual, List<String> expected) {
+    int size = 0;
+    int maxSize = Math.min(actual.size(), expected.size());
+    while (size < maxSize && actual.get(actual.size() - 1 - size).equals(expected.get(expected.size() - 1 - size))) {
+      size++;
+    }
+    return size;
+  }
+
+  private static boolean reachesWindowEnd(Delta<String> delta, List<String> expectedWindow,
+                                          List<String> actualWindow) {
+    return end(delta.getOriginal()) == expectedWindow.size() || end(delta.getRevised()) == actualWindow.size();
+  }
+
+  private static int end(Chunk<String> chunk) {
+    return chunk.getPosition() + chunk.size();
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int expectedOffset, int actualOffset) {
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + expectedOffset,
+                                         delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + actualOffset, delta.getRevised().getLines());
+    switch (delta.getType()) {
+    case INSERT:
+      return new InsertDelta<>(original, revised);
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    default:
+      return new ChangeDelta<>(original, revised);
+    }
+  }
+
+  /**
+   * The lines of a content read one at a time, lines can be pushed back to be read again.
+   */
+  private static class Lines {
+
+    private final BufferedReader reader;
+    private final Deque<String> pushedBack = new ArrayDeque<>();
+    // index of the next line to read
+    private int position;
+    private boolean exhausted;
+
+    Lines(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    String next() throws IOException {
+      String line = pushedBack.isEmpty() ? readLine() : pushedBack.removeFirst();
+      if (line != null) position++;
+      return line;
+    }
+
+    List<String> next(int maxLines) throws IOException {
+      List<String> lines = new ArrayList<>(Math.min(maxLines, 1024));
+      String line;
+      while (lines.size() < maxLines && (line = next()) != null) {
+        lines.add(line);
+      }
+      return lines;
+    }
+
+    void pushBack(String line) {
+      if (line == null) return;
+      pushedBack.addFirst(line);
+      position--;
+    }
+
+    void pushBack(List<String> lines) {
+      for (int i = lines.size() - 1; i >= 0; i--) {
+        pushBack(lines.get(i));
+      }
+    }
+
+    boolean isExhausted() {
+      return exhausted && pushedBack.isEmpty();
+    }
+
+    private String readLine() throws IOException {
+      if (exhausted) return null;
+      String line = reader.readLine();
+      if (line == null) exhausted = true;
+      return line;
+    }
+  }
+
+  private static class StreamingDiffSettings {
+    private final int windowSize;
+    private final int maxDeltas;
+
+    StreamingDiffSettings(int windowSize, int maxDeltas) {
+      this.windowSize = windowSize;
+      this.maxDeltas = maxDeltas;
+    }
+  }
 }
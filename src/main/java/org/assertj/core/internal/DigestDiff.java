@@ -0,0 +1,54 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.security.MessageDigest;
+
+/**
+ * Value class to hold the result of comparing the digest of some content to an expected one.
+ */
+public class DigestDiff {
+
+  private final String actual;
+  private final String expected;
+  private final MessageDigest digest;
+
+  /**
+   * Builds a new instance.
+   *
+   * @param actual the hexadecimal representation of the computed digest.
+   * @param expected the hexadecimal representation of the expected digest.
+   * @param digest the algorithm used to compute the digest.
+   */
+  public DigestDiff(String actual, String expected, MessageDigest digest) {
+    this.actual = actual;
+    this.expected = expected;
+    this.digest = digest;
+  }
+
+  public boolean digestsDiffer() {
+    return !expected.equals(actual);
+  }
+
+  public String getActual() {
+    return actual;
+  }
+
+  public String getExpected() {
+    return expected;
+  }
+
+  public String getDigestAlgorithm() {
+    return digest.getAlgorithm();
+  }
+}
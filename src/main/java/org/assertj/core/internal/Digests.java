@@ -0,0 +1,130 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Hexadecimals.appendHex;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes digests of contents read from channels and converts digests from and to their hexadecimal representation.
+ * <p>
+ * Contents are read through a buffer reused by each thread. File channels fill a direct buffer without copying the
+ * bytes to an intermediate array, the other channels, like the ones reading input streams, copy the bytes they read
+ * anyway and fill a heap buffer.
+ */
+public final class Digests {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  // direct buffers are expensive to allocate, one is kept by thread
+  private static final ThreadLocal<ByteBuffer> DIRECT_BUFFER = new ThreadLocal<ByteBuffer>() {
+    @Override
+    protected ByteBuffer initialValue() {
+      return ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+  };
+  private static final ThreadLocal<ByteBuffer> HEAP_BUFFER = new ThreadLocal<ByteBuffer>() {
+    @Override
+    protected ByteBuffer initialValue() {
+      return ByteBuffer.allocate(BUFFER_SIZE);
+    }
+  };
+
+  private Digests() {}
+
+  /**
+   * Returns the uppercase hexadecimal representation of the given digest.
+   *
+   * @param digest the digest to represent.
+   * @return the hexadecimal representation of {@code digest}.
+   */
+  public static String toHex(byte[] digest) {
+    checkNotNull(digest, "The digest should not be null");
+    StringBuilder hex = new StringBuilder(digest.length * 2);
+    for (byte b : digest) {
+      appendHex(hex, b);
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Returns the digest represented by the given hexadecimal {@code String}, lower and upper case digits are accepted.
+   *
+   * @param digest the hexadecimal representation of a digest.
+   * @return the digest bytes.
+   * @throws IllegalArgumentException if {@code digest} is not a valid hexadecimal representation.
+   */
+  public static byte[] fromHex(String digest) {
+    checkNotNull(digest, "The string representation of digest to compare to should not be null");
+    checkArgument(digest.length() % 2 == 0, "The string representation of digest <%s> should have an even length",
+                  digest);
+    byte[] bytes = new byte[digest.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(digest.charAt(2 * i), 16);
+      int low = Character.digit(digest.charAt(2 * i + 1), 16);
+      checkArgument(high != -1 && low != -1, "The string representation of digest <%s> should only contain hexadecimal digits",
+                    digest);
+      bytes[i] = (byte) ((high << 4) | low);
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns a {@link MessageDigest} implementing the given algorithm, like "MD5", "SHA-1" or "SHA-256".
+   *
+   * @param algorithm the name of the digest algorithm.
+   * @return a new {@link MessageDigest}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm}.
+   */
+  public static MessageDigest messageDigest(String algorithm) {
+    checkNotNull(algorithm, "The string representation of digest algorithm should not be null");
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalArgumentException(format("Unable to find digest implementation for: <%s>", algorithm), e);
+    }
+  }
+
+  /**
+   * Computes the digest of the content read from the given channel in a single pass and compares it to the expected
+   * one.
+   * <p>
+   * The channel is read until its end but is not closed.
+   *
+   * @param channel the channel to read the content from.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @return the comparison of the computed digest to the expected one.
+   * @throws IOException if an I/O error occurs.
+   */
+  public static DigestDiff digestDiff(ReadableByteChannel channel, MessageDigest digest, byte[] expected)
+      throws IOException {
+    ByteBuffer buffer = channel instanceof FileChannel ? DIRECT_BUFFER.get() : HEAP_BUFFER.get();
+    buffer.clear();
+    digest.reset();
+    while (channel.read(buffer) != -1) {
+      buffer.flip();
+      digest.update(buffer);
+      buffer.clear();
+    }
+    return new DigestDiff(toHex(digest.digest()), toHex(expected), digest);
+  }
+}
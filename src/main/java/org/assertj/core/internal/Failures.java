@@ -13,11 +13,13 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.description.Description;
@@ -25,6 +27,8 @@ import org.assertj.core.error.AssertionErrorFactory;
 import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
+import org.assertj.core.error.StacklessAssertionError;
+import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.Throwables;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -40,6 +44,8 @@ public class Failures {
 
   private static final Failures INSTANCE = new Failures();
 
+  private static final int ALL_STACK_TRACE_ELEMENTS = Integer.MAX_VALUE;
+
   /**
    * flag indicating that in case of a failure a threaddump is printed out.
    */
@@ -76,6 +82,92 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * maximum number of stack trace elements of the assertion errors, all of them by default.
+   */
+  private int maxStackTraceElementsDisplayed = ALL_STACK_TRACE_ELEMENTS;
+
+  /**
+   * Sets the maximum number of stack trace elements of the errors of failed assertions, only the first ones are
+   * captured: on Java 9+, the stack is then walked up to the last displayed element instead of being fully captured.
+   * <p>
+   * When AssertJ related elements are removed from stack traces, the displayed elements are the first ones not related
+   * to AssertJ.
+   * 
+   * @param maxStackTraceElementsDisplayed the maximum number of stack trace elements, {@link Integer#MAX_VALUE} to
+   *          capture them all.
+   * @throws IllegalArgumentException if the given maximum is negative.
+   */
+  public void setMaxStackTraceElementsDisplayed(int maxStackTraceElementsDisplayed) {
+    checkArgument(maxStackTraceElementsDisplayed >= 0,
+                  "The maximum number of stack trace elements to display should not be negative but was %s",
+                  maxStackTraceElementsDisplayed);
+    this.maxStackTraceElementsDisplayed = maxStackTraceElementsDisplayed;
+  }
+
+  /**
+   * Returns the maximum number of stack trace elements of the errors of failed assertions.
+   * @return the maximum number of stack trace elements of the errors of failed assertions.
+   */
+  public int getMaxStackTraceElementsDisplayed() {
+    return maxStackTraceElementsDisplayed;
+  }
+
+  /**
+   * flag indicating whether the errors of soft assertions are created without stack trace.
+   */
+  private boolean stacklessSoftAssertionErrors = false;
+
+  // set while soft assertions creating stackless errors are evaluated in the current thread
+  private final ThreadLocal<Boolean> creatingStacklessErrors = new ThreadLocal<>();
+
+  /**
+   * Sets whether the errors of soft assertions are created without stack trace, their stack trace being set to the
+   * one of the thread collecting them, typically when {@code assertAll()} is called.
+   * <p>
+   * This spares capturing a stack trace per failed soft assertion but the collected errors (and the line number added
+   * to their message) all report the location where they were collected instead of the location of their assertion.
+   * 
+   * @param stacklessSoftAssertionErrors flag.
+   */
+  public void setStacklessSoftAssertionErrors(boolean stacklessSoftAssertionErrors) {
+    this.stacklessSoftAssertionErrors = stacklessSoftAssertionErrors;
+  }
+
+  /**
+   * Returns whether the errors of soft assertions are created without stack trace.
+   * @return whether the errors of soft assertions are created without stack trace.
+   */
+  public boolean isStacklessSoftAssertionErrors() {
+    return stacklessSoftAssertionErrors;
+  }
+
+  /**
+   * Sets whether the errors of the assertions evaluated in the current thread are created without stack trace, used by
+   * soft assertions when {@link #isStacklessSoftAssertionErrors()} is set.
+   * 
+   * @param creatingStacklessErrors flag.
+   */
+  public void setCreatingStacklessErrorsInCurrentThread(boolean creatingStacklessErrors) {
+    if (creatingStacklessErrors) this.creatingStacklessErrors.set(true);
+    else this.creatingStacklessErrors.remove();
+  }
+
+  /**
+   * Sets the stack trace of the current thread to the errors created without stack trace by soft assertions.
+   * 
+   * @param errors the errors collected by soft assertions.
+   */
+  public void fillInMissingStackTraces(List<? extends Throwable> errors) {
+    StackTraceElement[] stackTrace = null;
+    for (Throwable error : errors) {
+      if (!(error instanceof StacklessAssertionError) || error.getStackTrace().length > 0) continue;
+      // captured once for all the collected errors
+      if (stackTrace == null) stackTrace = stackTraceInCurrentThread();
+      error.setStackTrace(stackTrace);
+    }
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -116,12 +208,30 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory message) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
-    AssertionError assertionError = new AssertionError(message.create(info.description(), info.representation()));
-    removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    AssertionError assertionError = newAssertionError(message, info.description(), info.representation());
     printThreadDumpIfNeeded();
     return assertionError;
   }
 
+  private AssertionError newAssertionError(ErrorMessageFactory message, Description description,
+                                           Representation representation) {
+    String errorMessage = message.create(description, representation);
+    if (creatingStacklessErrors.get() != null) return new StacklessAssertionError(errorMessage);
+    if (maxStackTraceElementsDisplayed == ALL_STACK_TRACE_ELEMENTS) {
+      AssertionError assertionError = new AssertionError(errorMessage);
+      removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+      return assertionError;
+    }
+    AssertionError assertionError = new StacklessAssertionError(errorMessage);
+    assertionError.setStackTrace(stackTraceInCurrentThread());
+    return assertionError;
+  }
+
+  private StackTraceElement[] stackTraceInCurrentThread() {
+    return Throwables.stackTraceInCurrentThread(maxStackTraceElementsDisplayed,
+                                                removeAssertJRelatedElementsFromStackTrace);
+  }
+
   public AssertionError failureIfErrorMessageIsOverridden(AssertionInfo info) {
     String overridingErrorMessage = info.overridingErrorMessage();
     return isNullOrEmpty(overridingErrorMessage) ? null
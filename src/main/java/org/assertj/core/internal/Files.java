@@ -13,7 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.size;
 import static org.assertj.core.error.ShouldBeAbsolutePath.shouldBeAbsolutePath;
 import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
 import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
@@ -23,20 +23,28 @@ import static org.assertj.core.error.ShouldBeWritable.shouldBeWritable;
 import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
+import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.fromHex;
+import static org.assertj.core.internal.Digests.messageDigest;
 import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
+import java.security.MessageDigest;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -70,6 +78,8 @@ public class Files {
   @VisibleForTesting
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
+  TreeDiff treeDiff = new TreeDiff();
+  @VisibleForTesting
   Failures failures = Failures.instance();
 
   @VisibleForTesting
@@ -103,7 +113,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual.toPath(), expected.toPath());
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the RuntimeIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -117,6 +127,65 @@ public class Files {
     }
   }
 
+  /**
+   * Asserts that the given files have the same binary content.
+   * <p>
+   * The sizes of the files are compared first, then their contents are compared by blocks (big files are memory mapped
+   * by large slices), the files are never entirely loaded in memory.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" file.
+   * @param expected the "expected" file.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not an existing file.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing file.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the given files do not have the same binary content.
+   */
+  public void assertSameBinaryContentAs(AssertionInfo info, File actual, File expected) {
+    verifyIsFile(expected);
+    assertIsFile(info, actual);
+    try {
+      long actualSize = size(actual.toPath());
+      long expectedSize = size(expected.toPath());
+      if (actualSize != expectedSize)
+        throw failures.failure(info, shouldHaveSameBinaryContent(actual, expected, actualSize, expectedSize));
+      BinaryDiffResult result = binaryDiff.diff(actual.toPath(), expected.toPath());
+      if (result.hasNoDiff()) return;
+      throw failures.failure(info, shouldHaveSameBinaryContent(actual, expected, result));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), e);
+    }
+  }
+
+  /**
+   * Asserts that the given directories have the same tree: the same entries, with the same types and the same contents.
+   * <p>
+   * Each tree is walked once, files of different sizes are reported without being read and the other files are
+   * compared in parallel.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" directory.
+   * @param expected the "expected" directory.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not an existing directory.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing directory.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if entries were added, removed or changed in {@code actual} compared to {@code expected}.
+   */
+  public void assertSameTreeAs(AssertionInfo info, File actual, File expected) {
+    checkNotNull(expected, "The directory to compare to should not be null");
+    checkArgument(expected.isDirectory(), "Expected file:<'%s'> should be an existing directory", expected);
+    assertIsDirectory(info, actual);
+    try {
+      TreeDiffResult result = treeDiff.diff(actual.toPath(), expected.toPath());
+      if (result.hasNoDiff()) return;
+      throw failures.failure(info, shouldHaveSameTree(actual, expected, result));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to compare trees of files:<%s> and:<%s>", actual, expected), e);
+    }
+  }
+
   /**
    * Asserts that the given file has the given binary content.
    * @param info contains information about the assertion.
@@ -278,6 +347,79 @@ public class Files {
     throw failures.failure(info, shouldBeReadable(actual));
   }
 
+  /**
+   * Asserts that the given file has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual file.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code digest} or {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, File actual, MessageDigest digest, byte[] expected) {
+    checkNotNull(digest, "The message digest algorithm should not be null");
+    checkNotNull(expected, "The binary representation of digest to compare to should not be null");
+    assertIsFile(info, actual);
+    assertCanRead(info, actual);
+    try (FileChannel channel = FileChannel.open(actual.toPath())) {
+      DigestDiff diff = digestDiff(channel, digest, expected);
+      if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to calculate digest of file:<%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the given file has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual file.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the hexadecimal representation of the expected digest.
+   * @throws NullPointerException if {@code digest} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not a hexadecimal representation.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, File actual, MessageDigest digest, String expected) {
+    assertHasDigest(info, actual, digest, fromHex(expected));
+  }
+
+  /**
+   * Asserts that the given file has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual file.
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, File actual, String algorithm, byte[] expected) {
+    assertHasDigest(info, actual, messageDigest(algorithm), expected);
+  }
+
+  /**
+   * Asserts that the given file has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual file.
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the hexadecimal representation of the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm} or if {@code expected} is not a
+   *           hexadecimal representation.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, File actual, String algorithm, String expected) {
+    assertHasDigest(info, actual, messageDigest(algorithm), fromHex(expected));
+  }
+
   /**
    * Asserts that the given {@code File} has the given parent.
    * 
@@ -13,11 +13,18 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.nio.channels.Channels.newChannel;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.fromHex;
+import static org.assertj.core.internal.Digests.messageDigest;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -45,6 +52,8 @@ public class InputStreams {
   @VisibleForTesting
   Diff diff = new Diff();
   @VisibleForTesting
+  BinaryDiff binaryDiff = new BinaryDiff();
+  @VisibleForTesting
   Failures failures = Failures.instance();
 
   @VisibleForTesting
@@ -74,6 +83,106 @@ public class InputStreams {
     }
   }
 
+  /**
+   * Asserts that the given InputStreams have same binary content.
+   * <p>
+   * The streams are compared byte by byte with large buffers, without decoding them and without loading them
+   * entirely in memory. The comparison stops at the first different byte, the streams are not closed.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the "actual" InputStream.
+   * @param expected the "expected" InputStream.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given InputStreams do not have same binary content.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertSameBinaryContentAs(AssertionInfo info, InputStream actual, InputStream expected) {
+    checkNotNull(expected, "The InputStream to compare to should not be null");
+    assertNotNull(info, actual);
+    try {
+      BinaryDiffResult result = binaryDiff.diff(actual, expected);
+      if (result.hasNoDiff()) return;
+      throw failures.failure(info, shouldHaveSameBinaryContent(actual, expected, result));
+    } catch (IOException e) {
+      String msg = format("Unable to compare binary contents of InputStreams:%n  <%s>%nand:%n  <%s>", actual, expected);
+      throw new InputStreamsException(msg, e);
+    }
+  }
+
+  /**
+   * Asserts that the given InputStream has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code digest} or {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, InputStream actual, MessageDigest digest, byte[] expected) {
+    checkNotNull(digest, "The message digest algorithm should not be null");
+    checkNotNull(expected, "The binary representation of digest to compare to should not be null");
+    assertNotNull(info, actual);
+    try {
+      // the stream is read until its end but is left open, closing it is up to the caller
+      DigestDiff diff = digestDiff(newChannel(actual), digest, expected);
+      if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
+    } catch (IOException e) {
+      throw new InputStreamsException(format("Unable to calculate digest of InputStream:%n  <%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the given InputStream has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the hexadecimal representation of the expected digest.
+   * @throws NullPointerException if {@code digest} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not a hexadecimal representation.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, InputStream actual, MessageDigest digest, String expected) {
+    assertHasDigest(info, actual, digest, fromHex(expected));
+  }
+
+  /**
+   * Asserts that the given InputStream has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, InputStream actual, String algorithm, byte[] expected) {
+    assertHasDigest(info, actual, messageDigest(algorithm), expected);
+  }
+
+  /**
+   * Asserts that the given InputStream has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the hexadecimal representation of the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm} or if {@code expected} is not a
+   *           hexadecimal representation.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, InputStream actual, String algorithm, String expected) {
+    assertHasDigest(info, actual, messageDigest(algorithm), fromHex(expected));
+  }
+
   private static void assertNotNull(AssertionInfo info, InputStream stream) {
     Objects.instance().assertNotNull(info, stream);
   }
@@ -12,9 +12,14 @@
  */
 package org.assertj.core.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.assertj.core.util.VisibleForTesting;
 
@@ -68,6 +73,23 @@ public class NioFilesWrapper {
   public boolean isExecutable(Path path) {
 	return Files.isExecutable(path);
   }
+
+  public long size(Path path) throws IOException {
+	return Files.size(path);
+  }
+
+  public SeekableByteChannel newByteChannel(Path path) throws IOException {
+	return Files.newByteChannel(path);
+  }
+
+  public Stream<String> lines(Path path, Charset charset) throws IOException {
+	// unlike Files.lines, malformed input is replaced as when reading the lines of a File
+	return org.assertj.core.util.Files.linesStreamOf(Files.newInputStream(path), charset);
+  }
+
+  public InputStream newInputStream(Path path) throws IOException {
+	return Files.newInputStream(path);
+  }
   
 }
 
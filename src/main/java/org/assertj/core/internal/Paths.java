@@ -13,6 +13,10 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
 import static org.assertj.core.error.ShouldBeAbsolutePath.shouldBeAbsolutePath;
 import static org.assertj.core.error.ShouldBeCanonicalPath.shouldBeCanonicalPath;
 import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
@@ -25,27 +29,51 @@ import static org.assertj.core.error.ShouldBeSymbolicLink.shouldBeSymbolicLink;
 import static org.assertj.core.error.ShouldBeWritable.shouldBeWritable;
 import static org.assertj.core.error.ShouldEndWithPath.shouldEndWith;
 import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldContain.shouldContain;
 import static org.assertj.core.error.ShouldExist.shouldExistNoFollowLinks;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveEntry.shouldHaveEntry;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
 import static org.assertj.core.error.ShouldStartWithPath.shouldStartWith;
+import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.fromHex;
+import static org.assertj.core.internal.Digests.messageDigest;
+import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsEmpty;
+import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.exception.PathsException;
 import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.diff.Delta;
 
@@ -66,7 +94,13 @@ public class Paths {
   @VisibleForTesting
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
+  TreeDiff treeDiff = new TreeDiff();
+  @VisibleForTesting
+  ArchiveReader archiveReader = new ArchiveReader();
+  @VisibleForTesting
   Failures failures = Failures.instance();
+  @VisibleForTesting
+  Predicates predicates = Predicates.instance();
 
   private NioFilesWrapper nioFilesWrapper;
 
@@ -296,6 +330,78 @@ public class Paths {
 	}
   }
 
+  /**
+   * Asserts that the given path has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code digest} or {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, Path actual, MessageDigest digest, byte[] expected) {
+    checkNotNull(digest, "The message digest algorithm should not be null");
+    checkNotNull(expected, "The binary representation of digest to compare to should not be null");
+    assertIsReadable(info, actual);
+    try (ReadableByteChannel channel = nioFilesWrapper.newByteChannel(actual)) {
+      DigestDiff diff = digestDiff(channel, digest, expected);
+      if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to calculate digest of path:<%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the given path has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param digest the algorithm computing the digest, it is reset before use.
+   * @param expected the hexadecimal representation of the expected digest.
+   * @throws NullPointerException if {@code digest} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not a hexadecimal representation.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, Path actual, MessageDigest digest, String expected) {
+    assertHasDigest(info, actual, digest, fromHex(expected));
+  }
+
+  /**
+   * Asserts that the given path has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, Path actual, String algorithm, byte[] expected) {
+    assertHasDigest(info, actual, messageDigest(algorithm), expected);
+  }
+
+  /**
+   * Asserts that the given path has the given digest.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param algorithm the name of the digest algorithm, like "MD5", "SHA-1" or "SHA-256".
+   * @param expected the hexadecimal representation of the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports {@code algorithm} or if {@code expected} is not a
+   *           hexadecimal representation.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of {@code actual} does not have the expected digest.
+   * @throws RuntimeIOException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, Path actual, String algorithm, String expected) {
+    assertHasDigest(info, actual, messageDigest(algorithm), fromHex(expected));
+  }
+
   public void assertHasSameContentAs(AssertionInfo info, Path actual, Charset actualCharset, Path expected, Charset expectedCharset) {
     checkNotNull(expected, "The given Path to compare actual content to should not be null");
     checkArgument(nioFilesWrapper.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
@@ -309,4 +415,312 @@ public class Paths {
 	}
   }
 
+  /**
+   * Asserts that the given paths have the same binary content.
+   * <p>
+   * The sizes of the files are compared first, then their contents are compared by blocks (big files are memory mapped
+   * by large slices), the files are never entirely loaded in memory.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param expected the expected path.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not readable.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if the given paths do not have the same binary content.
+   */
+  public void assertHasSameBinaryContentAs(AssertionInfo info, Path actual, Path expected) {
+    checkNotNull(expected, "The given Path to compare actual content to should not be null");
+    checkArgument(nioFilesWrapper.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
+    assertIsReadable(info, actual);
+    try {
+      // different sizes are reported without reading the contents
+      long actualSize = nioFilesWrapper.size(actual);
+      long expectedSize = nioFilesWrapper.size(expected);
+      if (actualSize != expectedSize)
+        throw failures.failure(info, shouldHaveSameBinaryContent(actual, expected, actualSize, expectedSize));
+      BinaryDiffResult diffResult = binaryDiff.diff(actual, expected);
+      if (diffResult.hasNoDiff()) return;
+      throw failures.failure(info, shouldHaveSameBinaryContent(actual, expected, diffResult));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to compare binary contents of paths:<%s> and:<%s>", actual, expected), e);
+    }
+  }
+
+  /**
+   * Asserts that the given directories have the same tree: the same entries, with the same types and the same contents.
+   * <p>
+   * Each tree is walked once, files of different sizes are reported without being read and the other files are
+   * compared in parallel.
+   * @param info contains information about the assertion.
+   * @param actual the actual directory.
+   * @param expected the expected directory.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not an existing directory.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing directory.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if entries were added, removed or changed in {@code actual} compared to {@code expected}.
+   */
+  public void assertHasSameTreeAs(AssertionInfo info, Path actual, Path expected) {
+    checkNotNull(expected, "The given Path to compare actual tree to should not be null");
+    checkArgument(nioFilesWrapper.isDirectory(expected), "The given Path <%s> to compare actual tree to should be an existing directory", expected);
+    assertIsDirectory(info, actual);
+    try {
+      TreeDiffResult diffResult = treeDiff.diff(actual, expected);
+      if (diffResult.hasNoDiff()) return;
+      throw failures.failure(info, shouldHaveSameTree(actual, expected, diffResult));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to compare trees of paths:<%s> and:<%s>", actual, expected), e);
+    }
+  }
+
+  /**
+   * Asserts that the given zip archive has an entry with the given name, the archive is not extracted.
+   * @param info contains information about the assertion.
+   * @param actual the actual archive.
+   * @param entryName the name of the expected entry.
+   * @throws NullPointerException if {@code entryName} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs, e.g. if {@code actual} is not a zip archive.
+   * @throws AssertionError if {@code actual} does not have the expected entry.
+   */
+  public void assertHasEntry(AssertionInfo info, Path actual, String entryName) {
+    checkNotNull(entryName, "The name of the entry to look for should not be null");
+    assertIsReadable(info, actual);
+    try {
+      if (archiveReader.hasEntry(actual, entryName)) return;
+      throw failures.failure(info, shouldHaveEntry(actual, entryName));
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to read entries of archive:<%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the entry of the given zip archive has the same binary content as the given path, the entry is
+   * inflated and compared block by block without being extracted.
+   * @param info contains information about the assertion.
+   * @param actual the actual archive.
+   * @param entryName the name of the compared entry.
+   * @param expected the path with the expected content.
+   * @throws NullPointerException if {@code entryName} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not readable.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if {@code actual} does not have the entry or if its content differs from {@code expected}.
+   */
+  public void assertEntryHasSameContentAs(AssertionInfo info, Path actual, String entryName, Path expected) {
+    checkNotNull(entryName, "The name of the entry to compare should not be null");
+    checkNotNull(expected, "The given Path to compare entry content to should not be null");
+    checkArgument(nioFilesWrapper.isReadable(expected), "The given Path <%s> to compare entry content to should be readable", expected);
+    try (InputStream expectedContent = nioFilesWrapper.newInputStream(expected)) {
+      assertEntryHasSameContentAs(info, actual, entryName, expectedContent, expected);
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to compare entry:<%s> of archive:<%s> with:<%s>", entryName, actual,
+                                          expected), e);
+    }
+  }
+
+  /**
+   * Asserts that the entry of the given zip archive has the same binary content as the given stream, the entry is
+   * inflated and compared block by block without being extracted.
+   * @param info contains information about the assertion.
+   * @param actual the actual archive.
+   * @param entryName the name of the compared entry.
+   * @param expected the stream with the expected content, it is not closed.
+   * @throws NullPointerException if {@code entryName} or {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if {@code actual} does not have the entry or if its content differs from {@code expected}.
+   */
+  public void assertEntryHasSameContentAs(AssertionInfo info, Path actual, String entryName, InputStream expected) {
+    checkNotNull(entryName, "The name of the entry to compare should not be null");
+    checkNotNull(expected, "The given InputStream to compare entry content to should not be null");
+    try {
+      assertEntryHasSameContentAs(info, actual, entryName, expected, expected);
+    } catch (IOException e) {
+      throw new RuntimeIOException(format("Unable to compare entry:<%s> of archive:<%s> with:<%s>", entryName, actual,
+                                          expected), e);
+    }
+  }
+
+  private void assertEntryHasSameContentAs(AssertionInfo info, Path actual, String entryName, InputStream expected,
+                                           Object expectedDescription) throws IOException {
+    assertIsReadable(info, actual);
+    BinaryDiffResult diffResult = archiveReader.diffEntry(actual, entryName, expected);
+    if (diffResult == null) throw failures.failure(info, shouldHaveEntry(actual, entryName));
+    if (diffResult.hasNoDiff()) return;
+    throw failures.failure(info, shouldHaveSameBinaryContent(actual, entryName, expectedDescription, diffResult));
+  }
+
+  /**
+   * Asserts that the lines of the given path contain all the given values, the lines are read lazily and the reading
+   * stops as soon as all values have been found.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param charset the charset to decode the lines with.
+   * @param values the lines to look for.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code values} is empty.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if some values are not lines of {@code actual}.
+   */
+  public void assertLinesContain(AssertionInfo info, Path actual, Charset charset, String... values) {
+    checkNotNull(values, valuesToLookForIsNull());
+    checkArgument(values.length > 0, valuesToLookForIsEmpty());
+    assertIsReadable(info, actual);
+    Set<String> notFound = new LinkedHashSet<>(asList(values));
+    try (Stream<String> lines = linesOf(actual, charset)) {
+      for (Iterator<String> iterator = lines.iterator(); iterator.hasNext() && !notFound.isEmpty();) {
+        notFound.remove(iterator.next());
+      }
+    } catch (UncheckedIOException e) {
+      throw unableToReadLines(actual, e.getCause());
+    }
+    if (!notFound.isEmpty()) throw failures.failure(info, shouldContain(actual, values, notFound));
+  }
+
+  /**
+   * Asserts that the lines of the given path do not contain any of the given values, the lines are read lazily.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param charset the charset to decode the lines with.
+   * @param values the lines expected not to be found.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code values} is empty.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if some values are lines of {@code actual}.
+   */
+  public void assertLinesDoNotContain(AssertionInfo info, Path actual, Charset charset, String... values) {
+    checkNotNull(values, valuesToLookForIsNull());
+    checkArgument(values.length > 0, valuesToLookForIsEmpty());
+    assertIsReadable(info, actual);
+    Set<String> notExpected = new HashSet<>(asList(values));
+    Set<String> found = new LinkedHashSet<>();
+    try (Stream<String> lines = linesOf(actual, charset)) {
+      for (Iterator<String> iterator = lines.iterator(); iterator.hasNext() && found.size() < notExpected.size();) {
+        String line = iterator.next();
+        if (notExpected.contains(line)) found.add(line);
+      }
+    } catch (UncheckedIOException e) {
+      throw unableToReadLines(actual, e.getCause());
+    }
+    if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(actual, values, found));
+  }
+
+  /**
+   * Asserts that at least one line of the given path matches the given predicate, the lines are read lazily until a
+   * matching one is found.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param charset the charset to decode the lines with.
+   * @param predicate the predicate to evaluate on the lines.
+   * @param predicateDescription the description of the predicate for the error message.
+   * @throws NullPointerException if {@code predicate} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if no line of {@code actual} matches the predicate.
+   */
+  public void assertAnyLineMatches(AssertionInfo info, Path actual, Charset charset, Predicate<? super String> predicate,
+                                   PredicateDescription predicateDescription) {
+    predicates.assertIsNotNull(predicate);
+    assertIsReadable(info, actual);
+    boolean anyMatch;
+    try (Stream<String> lines = linesOf(actual, charset)) {
+      anyMatch = lines.anyMatch(predicate);
+    } catch (UncheckedIOException e) {
+      throw unableToReadLines(actual, e.getCause());
+    }
+    if (!anyMatch) throw failures.failure(info, anyElementShouldMatch(actual, predicateDescription));
+  }
+
+  /**
+   * Asserts that all the lines of the given path match the given predicate, the lines are read lazily until one does
+   * not match.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param charset the charset to decode the lines with.
+   * @param predicate the predicate to evaluate on the lines.
+   * @param predicateDescription the description of the predicate for the error message.
+   * @throws NullPointerException if {@code predicate} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if a line of {@code actual} does not match the predicate.
+   */
+  public void assertAllLinesMatch(AssertionInfo info, Path actual, Charset charset, Predicate<? super String> predicate,
+                                  PredicateDescription predicateDescription) {
+    predicates.assertIsNotNull(predicate);
+    assertIsReadable(info, actual);
+    Optional<String> nonMatch;
+    try (Stream<String> lines = linesOf(actual, charset)) {
+      nonMatch = lines.filter(predicate.negate()).findFirst();
+    } catch (UncheckedIOException e) {
+      throw unableToReadLines(actual, e.getCause());
+    }
+    if (nonMatch.isPresent())
+      throw failures.failure(info, elementsShouldMatch(actual, nonMatch.get(), predicateDescription));
+  }
+
+  /**
+   * Asserts that no line of the given path matches the given predicate, the lines are read lazily until a matching one
+   * is found.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param charset the charset to decode the lines with.
+   * @param predicate the predicate to evaluate on the lines.
+   * @param predicateDescription the description of the predicate for the error message.
+   * @throws NullPointerException if {@code predicate} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if a line of {@code actual} matches the predicate.
+   */
+  public void assertNoLineMatches(AssertionInfo info, Path actual, Charset charset, Predicate<? super String> predicate,
+                                  PredicateDescription predicateDescription) {
+    predicates.assertIsNotNull(predicate);
+    assertIsReadable(info, actual);
+    Optional<String> match;
+    try (Stream<String> lines = linesOf(actual, charset)) {
+      match = lines.filter(predicate).findFirst();
+    } catch (UncheckedIOException e) {
+      throw unableToReadLines(actual, e.getCause());
+    }
+    if (match.isPresent()) throw failures.failure(info, noElementsShouldMatch(actual, match.get(), predicateDescription));
+  }
+
+  /**
+   * Asserts that the given path has the given number of lines, the lines are counted without being kept in memory.
+   * @param info contains information about the assertion.
+   * @param actual the actual path.
+   * @param charset the charset to decode the lines with.
+   * @param expected the expected number of lines.
+   * @throws AssertionError if {@code actual} is {@code null}, does not exist or is not readable.
+   * @throws RuntimeIOException if an I/O error occurs.
+   * @throws AssertionError if {@code actual} does not have the expected number of lines.
+   */
+  public void assertHasLineCount(AssertionInfo info, Path actual, Charset charset, long expected) {
+    assertIsReadable(info, actual);
+    long count;
+    try (Stream<String> lines = linesOf(actual, charset)) {
+      count = lines.count();
+    } catch (UncheckedIOException e) {
+      throw unableToReadLines(actual, e.getCause());
+    }
+    if (count != expected) throw failures.failure(info, shouldHaveLinesCount(actual, count, expected));
+  }
+
+  private Stream<String> linesOf(Path actual, Charset charset) {
+    try {
+      return nioFilesWrapper.lines(actual, charset);
+    } catch (IOException e) {
+      throw unableToReadLines(actual, e);
+    }
+  }
+
+  private static RuntimeIOException unableToReadLines(Path actual, IOException cause) {
+    return new RuntimeIOException(format("Unable to read lines of path:<%s>", actual), cause);
+  }
+
 }
@@ -0,0 +1,367 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.error.ShouldContainCharSequence.shouldContain;
+import static org.assertj.core.error.ShouldContainPattern.shouldContainPattern;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
+import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsNull;
+import static org.assertj.core.internal.CommonValidations.checkLineCounts;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+
+/**
+ * Reusable assertions for <code>{@link Reader}</code>s.
+ * <p>
+ * The content of the actual {@code Reader} is streamed through a fixed size buffer, it is never entirely loaded in
+ * memory; assertions consume the {@code Reader} but do not close it.
+ */
+public class Readers {
+
+  private static final Readers INSTANCE = new Readers();
+
+  /**
+   * The content is read by chunks of this size.
+   */
+  @VisibleForTesting
+  public static final int BUFFER_SIZE = 8192;
+  /**
+   * Regular expressions are looked for in a window sliding over the content, a match longer than this length might
+   * not be found.
+   */
+  @VisibleForTesting
+  public static final int MAX_PATTERN_MATCH_LENGTH = 8192;
+
+  /**
+   * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   * @return the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   */
+  public static Readers instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  Failures failures = Failures.instance();
+
+  private final ComparisonStrategy comparisonStrategy;
+
+  @VisibleForTesting
+  Readers() {
+    this(StandardComparisonStrategy.instance());
+  }
+
+  public Readers(ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  @VisibleForTesting
+  public ComparisonStrategy getComparisonStrategy() {
+    return comparisonStrategy;
+  }
+
+  /**
+   * Asserts that the content of the given {@code Reader} starts with the given prefix, only the first
+   * {@code prefix.length()} characters are read.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param prefix the given prefix.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the given {@code Reader} does not start with the given prefix.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertStartsWith(AssertionInfo info, Reader actual, CharSequence prefix) {
+    checkNotNull(prefix, "The given prefix should not be null");
+    assertNotNull(info, actual);
+    char[] start = new char[prefix.length()];
+    int read = fill(actual, start);
+    String actualStart = read == -1 ? "" : new String(start, 0, read);
+    if (!comparisonStrategy.stringStartsWith(actualStart, prefix.toString()))
+      throw failures.failure(info, shouldStartWith(actual, prefix, comparisonStrategy));
+  }
+
+  /**
+   * Asserts that the content of the given {@code Reader} contains the given values, the content is read once
+   * whatever the number of values and reading stops as soon as all values are found.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param values the values to look for.
+   * @throws NullPointerException if the given values is {@code null} or has {@code null} elements.
+   * @throws IllegalArgumentException if the given values is empty.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the given {@code Reader} does not contain all the given values.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertContains(AssertionInfo info, Reader actual, CharSequence... values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+    for (int i = 0; i < values.length; i++) {
+      checkNotNull(values[i], "Expecting CharSequence elements not to be null but found one at index " + i);
+    }
+    assertNotNull(info, actual);
+    boolean[] found = comparisonStrategy instanceof StandardComparisonStrategy ? find(actual, values)
+        : findWithComparisonStrategy(actual, values);
+    Set<CharSequence> notFound = new LinkedHashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      if (!found[i]) notFound.add(values[i]);
+    }
+    if (notFound.isEmpty()) return;
+    if (notFound.size() == 1 && values.length == 1) {
+      throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
+    }
+    throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
+  }
+
+  private static boolean[] find(Reader actual, CharSequence[] values) {
+    AhoCorasickMatcher.Search search = AhoCorasickMatcher.matcherFor(values).newSearch();
+    char[] buffer = new char[BUFFER_SIZE];
+    // the matcher keeps its state from one chunk to the next one, no need to keep the end of the previous chunk
+    int read;
+    while ((read = fill(actual, buffer)) != -1) {
+      if (search.scan(CharBuffer.wrap(buffer, 0, read))) break;
+    }
+    return search.found();
+  }
+
+  private boolean[] findWithComparisonStrategy(Reader actual, CharSequence[] values) {
+    boolean[] found = new boolean[values.length];
+    int notFoundCount = values.length;
+    int longestValueLength = 0;
+    for (CharSequence value : values) {
+      longestValueLength = Math.max(longestValueLength, value.length());
+    }
+    // keeps the end of the previous chunk to find the values overlapping two chunks
+    int overlap = Math.max(longestValueLength - 1, 0);
+    StringBuilder window = new StringBuilder(BUFFER_SIZE + overlap);
+    char[] buffer = new char[BUFFER_SIZE];
+    boolean endReached = false;
+    while (!endReached && notFoundCount > 0) {
+      int read = fill(actual, buffer);
+      if (read == -1) endReached = true;
+      else window.append(buffer, 0, read);
+      String text = window.toString();
+      for (int i = 0; i < values.length; i++) {
+        if (!found[i] && comparisonStrategy.stringContains(text, values[i].toString())) {
+          found[i] = true;
+          notFoundCount--;
+        }
+      }
+      if (window.length() > overlap) window.delete(0, window.length() - overlap);
+    }
+    return found;
+  }
+
+  /**
+   * Asserts that the content of the given {@code Reader} contains the given regular expression.
+   * <p>
+   * The regular expression is looked for in a window sliding over the content, a match longer than
+   * {@value #MAX_PATTERN_MATCH_LENGTH} characters might not be found.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param regex the regular expression to find in the content of the actual {@code Reader}.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the given {@code Reader} does not contain the given regular expression.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertContainsPattern(AssertionInfo info, Reader actual, CharSequence regex) {
+    checkNotNull(regex, "The regular expression pattern to match should not be null");
+    assertContainsPattern(info, actual, Pattern.compile(regex.toString()));
+  }
+
+  /**
+   * Asserts that the content of the given {@code Reader} contains the given regular expression.
+   * <p>
+   * The regular expression is looked for in a window sliding over the content, a match longer than
+   * {@value #MAX_PATTERN_MATCH_LENGTH} characters might not be found.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param pattern the regular expression to find in the content of the actual {@code Reader}.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the given {@code Reader} does not contain the given regular expression.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertContainsPattern(AssertionInfo info, Reader actual, Pattern pattern) {
+    checkNotNull(pattern, "The regular expression pattern to match should not be null");
+    assertNotNull(info, actual);
+    if (!containsPattern(actual, pattern)) throw failures.failure(info, shouldContainPattern(actual, pattern.pattern()));
+  }
+
+  private static boolean containsPattern(Reader actual, Pattern pattern) {
+    StringBuilder window = new StringBuilder(BUFFER_SIZE + MAX_PATTERN_MATCH_LENGTH + 1);
+    // transparent bounds let look-around constructs see the character preceding the searched region, non anchoring
+    // bounds prevent ^ to match at the region start when it is not the start of the content
+    Matcher matcher = pattern.matcher(window).useTransparentBounds(true).useAnchoringBounds(false);
+    char[] buffer = new char[BUFFER_SIZE];
+    int regionStart = 0;
+    boolean endReached = false;
+    while (!endReached) {
+      int read = fill(actual, buffer);
+      if (read == -1) endReached = true;
+      else window.append(buffer, 0, read);
+      matcher.reset(window).region(regionStart, window.length());
+      while (matcher.find()) {
+        // a match relying on the content following it ($, \b, a lookahead, ...) may not hold once more content is
+        // read, it is only valid at the end of the content, otherwise it is looked for again after the next fill
+        if (endReached || !matcher.hitEnd()) return true;
+        // unless it starts before the part of the window kept for the next search
+        if (!matcher.requireEnd() && window.length() - matcher.start() > MAX_PATTERN_MATCH_LENGTH) return true;
+      }
+      if (window.length() > MAX_PATTERN_MATCH_LENGTH + 1) {
+        window.delete(0, window.length() - MAX_PATTERN_MATCH_LENGTH - 1);
+        regionStart = 1;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Asserts that the line count of the content of the given {@code Reader} is equal to the expected one, lines are
+   * counted as in {@link Strings#assertHasLineCount(AssertionInfo, CharSequence, int)}.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param expectedLineCount the expected line count of the content of the actual {@code Reader}.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the line count of the content of the given {@code Reader} is different than the expected
+   *           one.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertHasLineCount(AssertionInfo info, Reader actual, int expectedLineCount) {
+    assertNotNull(info, actual);
+    checkLineCounts(actual, lineCount(actual), expectedLineCount, info);
+  }
+
+  private static int lineCount(Reader actual) {
+    char[] buffer = new char[BUFFER_SIZE];
+    int lineCount = 0;
+    boolean inLine = false;
+    // a \r\n line terminator can be split over two chunks
+    boolean previousWasCarriageReturn = false;
+    for (int read = fill(actual, buffer); read != -1; read = fill(actual, buffer)) {
+      for (int i = 0; i < read; i++) {
+        char c = buffer[i];
+        if (c == '\n') {
+          if (!previousWasCarriageReturn) lineCount++;
+          inLine = false;
+        } else if (c == '\r') {
+          lineCount++;
+          inLine = false;
+        } else {
+          inLine = true;
+        }
+        previousWasCarriageReturn = c == '\r';
+      }
+    }
+    return inLine ? lineCount + 1 : lineCount;
+  }
+
+  /**
+   * Asserts that the given {@code Reader}s have the same content, line by line. Only the first different line is
+   * reported.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param expected the expected {@code Reader}.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given {@code Reader}s do not have same content.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertSameContentAs(AssertionInfo info, Reader actual, Reader expected) {
+    checkNotNull(expected, "The Reader to compare to should not be null");
+    assertNotNull(info, actual);
+    BufferedReader actualLines = buffered(actual);
+    BufferedReader expectedLines = buffered(expected);
+    try {
+      for (int lineIndex = 0;; lineIndex++) {
+        String actualLine = actualLines.readLine();
+        String expectedLine = expectedLines.readLine();
+        if (actualLine == null && expectedLine == null) return;
+        if (actualLine == null || !actualLine.equals(expectedLine)) {
+          List<Delta<String>> diffs = singletonList(delta(lineIndex, actualLine, expectedLine));
+          throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs));
+        }
+      }
+    } catch (IOException e) {
+      String msg = format("Unable to compare contents of Readers:%n  <%s>%nand:%n  <%s>", actual, expected);
+      throw new ReadersException(msg, e);
+    }
+  }
+
+  private static Delta<String> delta(int lineIndex, String actualLine, String expectedLine) {
+    // same orientation as the deltas computed by Diff: expected is the original text, actual the revised one
+    List<String> noLines = emptyList();
+    if (actualLine == null)
+      return new DeleteDelta<>(new Chunk<>(lineIndex, singletonList(expectedLine)), new Chunk<>(lineIndex, noLines));
+    if (expectedLine == null)
+      return new InsertDelta<>(new Chunk<>(lineIndex, noLines), new Chunk<>(lineIndex, singletonList(actualLine)));
+    return new ChangeDelta<>(new Chunk<>(lineIndex, singletonList(expectedLine)),
+                             new Chunk<>(lineIndex, singletonList(actualLine)));
+  }
+
+  private static BufferedReader buffered(Reader reader) {
+    return reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, BUFFER_SIZE);
+  }
+
+  /**
+   * Reads characters until the buffer is full or the end of the content is reached.
+   *
+   * @return the number of characters read or -1 if the end of the content was already reached.
+   */
+  private static int fill(Reader reader, char[] buffer) {
+    try {
+      int filled = 0;
+      while (filled < buffer.length) {
+        int read = reader.read(buffer, filled, buffer.length - filled);
+        if (read == -1) return filled == 0 ? -1 : filled;
+        filled += read;
+      }
+      return filled;
+    } catch (IOException e) {
+      throw new ReadersException(format("Unable to read content of Reader:%n  <%s>", reader), e);
+    }
+  }
+
+  private static void assertNotNull(AssertionInfo info, Reader reader) {
+    Objects.instance().assertNotNull(info, reader);
+  }
+}
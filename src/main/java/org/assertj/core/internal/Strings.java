@@ -14,7 +14,8 @@ package org.assertj.core.internal;
 
 import static java.lang.Character.isDigit;
 import static java.lang.Character.isWhitespace;
-import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.LinesShouldSatisfy.linesShouldSatisfy;
 import static org.assertj.core.error.ShouldBeBlank.shouldBeBlank;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
@@ -31,6 +32,8 @@ import static org.assertj.core.error.ShouldContainCharSequenceSequence.shouldCon
 import static org.assertj.core.error.ShouldContainOnlyDigits.shouldContainOnlyDigits;
 import static org.assertj.core.error.ShouldContainPattern.shouldContainPattern;
 import static org.assertj.core.error.ShouldEndWith.shouldEndWith;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLineAtIndex;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCountBetween;
 import static org.assertj.core.error.ShouldMatchPattern.shouldMatch;
 import static org.assertj.core.error.ShouldNotBeBlank.shouldNotBeBlank;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
@@ -51,15 +54,14 @@ import static org.assertj.core.internal.CommonValidations.checkOtherIsNotNull;
 import static org.assertj.core.internal.CommonValidations.checkSameSizes;
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -79,9 +81,13 @@ import org.assertj.core.util.VisibleForTesting;
 public class Strings {
 
   private static final Strings INSTANCE = new Strings();
+  // above this total length, XML documents differences only show formatted parts of the documents
+  private static final int MAX_XML_LENGTH_FOR_FULL_FORMATTING = 64 * 1024;
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
+  @VisibleForTesting
+  XmlDiff xmlDiff = new XmlDiff();
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -237,13 +243,106 @@ public class Strings {
    */
   public void assertHasLineCount(AssertionInfo info, CharSequence actual, int expectedLineCount) {
     assertNotNull(info, actual);
-    LineNumberReader reader = new LineNumberReader(new StringReader(actual.toString()));
-    try {
-      while (reader.readLine() != null);
-    } catch (IOException e) {
-      throw new InputStreamsException(format("Unable to count lines in `%s`", actual), e);
+    checkLineCounts(actual, lineCount(actual), expectedLineCount, info);
+  }
+
+  /**
+   * Asserts that the line count of the given {@code CharSequence} is between the given boundaries (inclusive).
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param lowerBoundary the lower boundary compared to which actual line count should be greater than or equal to.
+   * @param higherBoundary the higher boundary compared to which actual line count should be less than or equal to.
+   * @throws IllegalArgumentException if the higher boundary is less than the lower boundary.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the line count of the given {@code CharSequence} is not between the given boundaries.
+   */
+  public void assertHasLineCountBetween(AssertionInfo info, CharSequence actual, int lowerBoundary,
+                                        int higherBoundary) {
+    assertNotNull(info, actual);
+    checkArgument(lowerBoundary <= higherBoundary,
+                  "The higher boundary <%s> must be greater than or equal to the lower boundary <%s>.",
+                  higherBoundary, lowerBoundary);
+    int lineCount = lineCount(actual);
+    if (lineCount < lowerBoundary || lineCount > higherBoundary)
+      throw failures.failure(info, shouldHaveLinesCountBetween(actual, lineCount, lowerBoundary, higherBoundary));
+  }
+
+  /**
+   * Returns the line at the given index of the given {@code CharSequence}, lines before it are skipped without being
+   * extracted.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param index the index of the line to return (starting from 0).
+   * @return the line at the given index, without its line terminator.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} has no line at the given index.
+   */
+  public String lineAt(AssertionInfo info, CharSequence actual, int index) {
+    assertNotNull(info, actual);
+    int lineIndex = 0;
+    for (int lineStart = 0; lineStart < actual.length(); lineIndex++) {
+      int lineEnd = lineEnd(actual, lineStart);
+      if (lineIndex == index) return actual.subSequence(lineStart, lineEnd).toString();
+      lineStart = nextLineStart(actual, lineEnd);
     }
-    checkLineCounts(actual, reader.getLineNumber(), expectedLineCount, info);
+    throw failures.failure(info, shouldHaveLineAtIndex(actual, lineIndex, index));
+  }
+
+  /**
+   * Asserts that each line of the given {@code CharSequence} satisfies the given requirements, lines are extracted one
+   * at a time and the first one not satisfying the requirements stops the verification.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param requirements the requirements each line must satisfy, expressed as assertions.
+   * @throws NullPointerException if the given requirements are {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if one of the lines does not satisfy the given requirements.
+   */
+  public void assertLinesSatisfy(AssertionInfo info, CharSequence actual, Consumer<String> requirements) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<String> expressing the lines requirements must not be null");
+    for (int lineStart = 0, lineIndex = 0; lineStart < actual.length(); lineIndex++) {
+      int lineEnd = lineEnd(actual, lineStart);
+      String line = actual.subSequence(lineStart, lineEnd).toString();
+      try {
+        requirements.accept(line);
+      } catch (AssertionError e) {
+        throw failures.failure(info, linesShouldSatisfy(actual, lineIndex, line, e.getMessage()));
+      }
+      lineStart = nextLineStart(actual, lineEnd);
+    }
+  }
+
+  // line scanning working directly on the CharSequence without copying it, lines are terminated by '\n', '\r' or
+  // "\r\n" like with LineNumberReader.
+
+  private static int lineCount(CharSequence text) {
+    int lineCount = 0;
+    for (int lineStart = 0; lineStart < text.length(); lineStart = nextLineStart(text, lineEnd(text, lineStart))) {
+      lineCount++;
+    }
+    return lineCount;
+  }
+
+  private static int lineEnd(CharSequence text, int lineStart) {
+    int index = lineStart;
+    while (index < text.length() && !isLineTerminator(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int nextLineStart(CharSequence text, int lineEnd) {
+    if (lineEnd == text.length()) return lineEnd;
+    boolean crlf = text.charAt(lineEnd) == '\r' && lineEnd + 1 < text.length() && text.charAt(lineEnd + 1) == '\n';
+    return crlf ? lineEnd + 2 : lineEnd + 1;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r';
   }
 
   /**
@@ -300,12 +399,7 @@ public class Strings {
     checkIsNotNull(values);
     checkIsNotEmpty(values);
     checkCharSequenceArrayDoesNotHaveNullElements(values);
-    Set<CharSequence> notFound = new LinkedHashSet<>();
-    for (CharSequence value : values) {
-      if (!stringContains(actual, value)) {
-        notFound.add(value);
-      }
-    }
+    Set<CharSequence> notFound = notFound(actual, values);
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
@@ -338,6 +432,31 @@ public class Strings {
     if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
   }
 
+  /**
+   * Returns the values not contained in {@code actual} (in the given values order).
+   * <p>
+   * With the standard comparison strategy, all the values are looked for in a single pass over {@code actual} instead
+   * of one scan per value, other strategies compare characters their own way and need to go through
+   * {@link ComparisonStrategy#stringContains(String, String)} for each value.
+   */
+  private Set<CharSequence> notFound(CharSequence actual, CharSequence... values) {
+    Set<CharSequence> notFound = new LinkedHashSet<>();
+    if (values.length > 1 && comparisonStrategy instanceof StandardComparisonStrategy) {
+      boolean[] found = AhoCorasickMatcher.matcherFor(values).findIn(actual);
+      for (int i = 0; i < values.length; i++) {
+        if (!found[i]) notFound.add(values[i]);
+      }
+      return notFound;
+    }
+    String actualString = actual.toString();
+    for (CharSequence value : values) {
+      if (!comparisonStrategy.stringContains(actualString, value.toString())) {
+        notFound.add(value);
+      }
+    }
+    return notFound;
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#stringContains(String, String)}
    */
@@ -358,7 +477,7 @@ public class Strings {
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
-    if (!actual.toString().toLowerCase().contains(sequence.toString().toLowerCase()))
+    if (!AhoCorasickMatcher.matcherIgnoringCaseFor(sequence).allFoundIn(actual))
       throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
   }
 
@@ -462,19 +581,7 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
-  }
-
-  private String removeAllWhitespaces(CharSequence toBeStripped) {
-    final StringBuilder result = new StringBuilder();
-    for (int i = 0; i < toBeStripped.length(); i++) {
-      char c = toBeStripped.charAt(i);
-      if (isWhitespace(c)) {
-        continue;
-      }
-      result.append(c);
-    }
-    return result.toString().trim();
+    return areEqualSkippingWhitespace(actual, expected, false);
   }
 
   /**
@@ -510,23 +617,62 @@ public class Strings {
   private boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return normalizeWhitespace(actual).equals(normalizeWhitespace(expected));
+    return areEqualSkippingWhitespace(actual, expected, true);
   }
 
-  private String normalizeWhitespace(CharSequence toNormalize) {
-    final StringBuilder result = new StringBuilder();
-    boolean lastWasSpace = true;
-    for (int i = 0; i < toNormalize.length(); i++) {
-      char c = toNormalize.charAt(i);
-      if (isWhitespace(c)) {
-        if (!lastWasSpace) result.append(' ');
-        lastWasSpace = true;
+  /**
+   * Compares the two given {@code CharSequence}s with one cursor each, skipping whitespace on the fly instead of
+   * building stripped copies, and returns as soon as a difference is found.
+   * <p>
+   * When {@code normalize} is true, a whitespace run must be matched by a whitespace run in the other sequence (i.e.
+   * whitespace is collapsed to a single space), otherwise whitespace is simply ignored. In both modes leading and
+   * trailing characters are ignored the same way {@link String#trim()} would ignore them once whitespace has been
+   * removed or normalized.
+   */
+  private static boolean areEqualSkippingWhitespace(CharSequence actual, CharSequence expected, boolean normalize) {
+    int actualEnd = trimmedEnd(actual);
+    int expectedEnd = trimmedEnd(expected);
+    int actualIndex = trimmedStart(actual, actualEnd);
+    int expectedIndex = trimmedStart(expected, expectedEnd);
+    while (actualIndex < actualEnd && expectedIndex < expectedEnd) {
+      char actualChar = actual.charAt(actualIndex);
+      char expectedChar = expected.charAt(expectedIndex);
+      boolean actualCharIsWhitespace = isWhitespace(actualChar);
+      boolean expectedCharIsWhitespace = isWhitespace(expectedChar);
+      if (actualCharIsWhitespace || expectedCharIsWhitespace) {
+        if (normalize && actualCharIsWhitespace != expectedCharIsWhitespace) return false;
+        actualIndex = skipWhitespace(actual, actualIndex, actualEnd);
+        expectedIndex = skipWhitespace(expected, expectedIndex, expectedEnd);
       } else {
-        result.append(c);
-        lastWasSpace = false;
+        if (actualChar != expectedChar) return false;
+        actualIndex++;
+        expectedIndex++;
       }
     }
-    return result.toString().trim();
+    // the trimmed ranges end with a non whitespace character, so both cursors must have reached their end
+    return actualIndex == actualEnd && expectedIndex == expectedEnd;
+  }
+
+  private static int skipWhitespace(CharSequence sequence, int from, int end) {
+    int index = from;
+    while (index < end && isWhitespace(sequence.charAt(index))) index++;
+    return index;
+  }
+
+  private static int trimmedEnd(CharSequence sequence) {
+    int end = sequence.length();
+    while (end > 0 && isTrimmedAway(sequence.charAt(end - 1))) end--;
+    return end;
+  }
+
+  private static int trimmedStart(CharSequence sequence, int end) {
+    int start = 0;
+    while (start < end && isTrimmedAway(sequence.charAt(start))) start++;
+    return start;
+  }
+
+  private static boolean isTrimmedAway(char c) {
+    return isWhitespace(c) || c <= ' ';
   }
 
   /**
@@ -773,7 +919,20 @@ public class Strings {
     // we consider that null values don't make much sense when you want to compare XML document as String/CharSequence.
     checkCharSequenceIsNotNull(expectedXml);
     assertNotNull(info, actualXml);
-    // we only use default comparison strategy, it does not make sense to use a specific comparison strategy
+    if (comparisonStrategy instanceof StandardComparisonStrategy) {
+      // stream both documents and stop at the first difference, documents are only formatted to report it
+      XmlDiffResult diffResult = xmlDiff.diff(actualXml, expectedXml);
+      if (diffResult.hasNoDiff()) return;
+      if (actualXml.length() + expectedXml.length() > MAX_XML_LENGTH_FOR_FULL_FORMATTING) {
+        // only show the formatted documents parts around the first difference
+        throw failures.failure(info, shouldBeEqual(diffResult.actualWindow, diffResult.expectedWindow,
+                                                   comparisonStrategy, info.representation()));
+      }
+      throw failures.failure(info, shouldBeEqual(xmlPrettyFormat(actualXml.toString()),
+                                                 xmlPrettyFormat(expectedXml.toString()), comparisonStrategy,
+                                                 info.representation()));
+    }
+    // specific comparison strategies compare the formatted documents
     final String formattedActualXml = xmlPrettyFormat(actualXml.toString());
     final String formattedExpectedXml = xmlPrettyFormat(expectedXml.toString());
     if (!comparisonStrategy.areEqual(formattedActualXml, formattedExpectedXml))
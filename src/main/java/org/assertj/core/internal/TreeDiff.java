@@ -0,0 +1,226 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.nio.file.Files.walkFileTree;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Compares two directory trees.
+ * <p>
+ * Each tree is walked once to collect its entries and their sizes. Entries only in one of the trees and entries with
+ * different types or sizes are reported without reading any content, the remaining files are compared with
+ * {@link BinaryDiff} on a bounded pool of threads, the comparison of a file stopping at its first different byte.
+ */
+@VisibleForTesting
+public class TreeDiff {
+
+  private static final long DIRECTORY = -1;
+  private static final int MAX_PARALLELISM = 8;
+
+  // comparison threads must not prevent the JVM from exiting
+  private static final ThreadFactory DAEMON_THREADS = new ThreadFactory() {
+    private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = defaultFactory.newThread(runnable);
+      thread.setDaemon(true);
+      return thread;
+    }
+  };
+
+  private final int parallelism;
+  @VisibleForTesting
+  BinaryDiff binaryDiff = new BinaryDiff();
+
+  public TreeDiff() {
+    this(min(Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM));
+  }
+
+  /**
+   * Creates a new <code>{@link TreeDiff}</code>.
+   * @param parallelism the maximum number of files compared at the same time.
+   */
+  @VisibleForTesting
+  public TreeDiff(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  @VisibleForTesting
+  public TreeDiffResult diff(Path actual, Path expected) throws IOException {
+    SortedMap<String, Long> actualEntries = entriesOf(actual);
+    SortedMap<String, Long> expectedEntries = entriesOf(expected);
+    List<String> added = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    List<String> changed = new ArrayList<>();
+    // sub entries of a directory reported as a whole are not reported, parents are visited before their sub entries
+    Set<String> reportedDirectories = new HashSet<>();
+    List<String> filesToCompare = new ArrayList<>();
+    for (Map.Entry<String, Long> entry : actualEntries.entrySet()) {
+      String name = entry.getKey();
+      if (reportedDirectories.contains(parentOf(name))) {
+        if (entry.getValue() == DIRECTORY) reportedDirectories.add(name);
+        continue;
+      }
+      Long expectedSize = expectedEntries.get(name);
+      if (expectedSize == null) {
+        added.add(name);
+        if (entry.getValue() == DIRECTORY) reportedDirectories.add(name);
+      } else if (entry.getValue() == DIRECTORY ^ expectedSize == DIRECTORY) {
+        changed.add(name);
+        reportedDirectories.add(name);
+      } else if (!entry.getValue().equals(expectedSize)) {
+        changed.add(name);
+      } else if (entry.getValue() > 0) {
+        filesToCompare.add(name);
+      }
+    }
+    for (Map.Entry<String, Long> entry : expectedEntries.entrySet()) {
+      String name = entry.getKey();
+      if (reportedDirectories.contains(parentOf(name))) {
+        if (entry.getValue() == DIRECTORY) reportedDirectories.add(name);
+        continue;
+      }
+      if (actualEntries.containsKey(name)) continue;
+      removed.add(name);
+      if (entry.getValue() == DIRECTORY) reportedDirectories.add(name);
+    }
+    changed.addAll(filesWithDifferentContents(actual, expected, filesToCompare));
+    Collections.sort(changed);
+    return new TreeDiffResult(added, removed, changed);
+  }
+
+  /**
+   * Walks the given directory and returns its entries, sorted by relative path, with their sizes or -1 for
+   * directories.
+   */
+  private static SortedMap<String, Long> entriesOf(final Path root) throws IOException {
+    final SortedMap<String, Long> entries = new TreeMap<>();
+    walkFileTree(root, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+        if (!dir.equals(root)) entries.put(relativeName(root, dir), DIRECTORY);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+        entries.put(relativeName(root, file), attributes.size());
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    return entries;
+  }
+
+  private static String relativeName(Path root, Path entry) {
+    StringBuilder name = new StringBuilder();
+    for (Path element : root.relativize(entry)) {
+      if (name.length() > 0) name.append('/');
+      name.append(element);
+    }
+    return name.toString();
+  }
+
+  private static String parentOf(String name) {
+    int lastSeparator = name.lastIndexOf('/');
+    return lastSeparator < 0 ? "" : name.substring(0, lastSeparator);
+  }
+
+  private List<String> filesWithDifferentContents(Path actual, Path expected, List<String> names) throws IOException {
+    Map<String, Callable<Boolean>> comparisons = new LinkedHashMap<>();
+    for (String name : names) {
+      comparisons.put(name, contentsDiffer(actual.resolve(name), expected.resolve(name)));
+    }
+    List<String> different = new ArrayList<>();
+    if (comparisons.size() <= 1 || parallelism <= 1) {
+      for (Map.Entry<String, Callable<Boolean>> comparison : comparisons.entrySet()) {
+        if (call(comparison.getValue())) different.add(comparison.getKey());
+      }
+      return different;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(min(parallelism, comparisons.size()), DAEMON_THREADS);
+    try {
+      Map<String, Future<Boolean>> results = new LinkedHashMap<>();
+      for (Map.Entry<String, Callable<Boolean>> comparison : comparisons.entrySet()) {
+        results.put(comparison.getKey(), executor.submit(comparison.getValue()));
+      }
+      for (Map.Entry<String, Future<Boolean>> result : results.entrySet()) {
+        if (get(result.getValue(), actual, expected)) different.add(result.getKey());
+      }
+      return different;
+    } finally {
+      // pending comparisons are useless once one of them has failed
+      executor.shutdownNow();
+    }
+  }
+
+  private Callable<Boolean> contentsDiffer(final Path actualFile, final Path expectedFile) {
+    return new Callable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return !binaryDiff.diff(actualFile, expectedFile).hasNoDiff();
+      }
+    };
+  }
+
+  private static boolean call(Callable<Boolean> comparison) throws IOException {
+    try {
+      return comparison.call();
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean get(Future<Boolean> result, Path actual, Path expected) throws IOException {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(format("Interrupted while comparing trees <%s> and <%s>", actual, expected));
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException(cause);
+    }
+  }
+}
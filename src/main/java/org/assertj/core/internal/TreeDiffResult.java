@@ -0,0 +1,47 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Value class to hold the result of comparing two directory trees.
+ * <p>
+ * Entries are the paths relative to the compared directories, using {@code /} as separator, sorted in lexicographic
+ * order. When a directory is only in one tree, or is a file in the other tree, its content is not reported.
+ */
+public class TreeDiffResult {
+
+  public final List<String> added;
+  public final List<String> removed;
+  public final List<String> changed;
+
+  /**
+   * Builds a new instance.
+   *
+   * @param added the entries only in the actual tree.
+   * @param removed the entries only in the expected tree.
+   * @param changed the entries in both trees having different types, sizes or contents.
+   */
+  public TreeDiffResult(List<String> added, List<String> removed, List<String> changed) {
+    this.added = unmodifiableList(added);
+    this.removed = unmodifiableList(removed);
+    this.changed = unmodifiableList(changed);
+  }
+
+  public boolean hasNoDiff() {
+    return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+  }
+}
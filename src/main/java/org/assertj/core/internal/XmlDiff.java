@@ -0,0 +1,330 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static javax.xml.stream.XMLInputFactory.IS_COALESCING;
+import static javax.xml.stream.XMLInputFactory.IS_NAMESPACE_AWARE;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.COMMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.PROCESSING_INSTRUCTION;
+import static javax.xml.stream.XMLStreamConstants.START_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.Comment;
+import javax.xml.stream.events.ProcessingInstruction;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Compares two XML documents by streaming their parsing events side by side, stopping at the first divergence.
+ * <p>
+ * Documents are equivalent if they have the same XML declaration, elements, attributes (in any order), text, CDATA
+ * sections, comments and processing instructions; whitespace only text is ignored. As with
+ * {@link org.assertj.core.util.xml.XmlStringPrettyFormatter}, parsing is not namespace aware: elements and attributes
+ * are compared by their qualified names and namespace declarations are compared as attributes, and the XML
+ * declaration is only taken into account when the document starts with it.
+ * <p>
+ * Only a window of events around the first difference is kept and pretty formatted in the result.
+ */
+@VisibleForTesting
+public class XmlDiff {
+
+  private static final int WINDOW_EVENTS = 10;
+  private static final String INDENTATION = "    ";
+  private static final String XMLNS_URI = "http://www.w3.org/2000/xmlns/";
+  private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+  // configured once, XMLInputFactory is safe to share for creating readers once configured
+  private static final XMLInputFactory XML_INPUT_FACTORY = xmlInputFactory();
+  // only used to create text events, without setting its location which is its only state
+  private static final XMLEventFactory XML_EVENT_FACTORY = XMLEventFactory.newInstance();
+
+  private static XMLInputFactory xmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(IS_NAMESPACE_AWARE, false);
+    // CDATA sections are kept apart from the text surrounding them, as when formatting documents
+    factory.setProperty(IS_COALESCING, false);
+    // the JDK parser reports CDATA sections as text unless asked not to
+    if (factory.isPropertySupported(REPORT_CDATA_EVENT)) factory.setProperty(REPORT_CDATA_EVENT, true);
+    return factory;
+  }
+
+  @VisibleForTesting
+  public XmlDiffResult diff(CharSequence actualXml, CharSequence expectedXml) {
+    try {
+      SignificantEvents actual = new SignificantEvents(actualXml);
+      SignificantEvents expected = new SignificantEvents(expectedXml);
+      while (true) {
+        DepthEvent actualEvent = actual.next();
+        DepthEvent expectedEvent = expected.next();
+        if (actualEvent == null && expectedEvent == null) return XmlDiffResult.noDiff();
+        if (!areEquivalent(actualEvent, expectedEvent)) return new XmlDiffResult(actual.window(), expected.window());
+      }
+    } catch (XMLStreamException e) {
+      // same error as when formatting a malformed document
+      throw new RuntimeException("Unable to format XML string", e);
+    }
+  }
+
+  private static boolean areEquivalent(DepthEvent actual, DepthEvent expected) {
+    if (actual == null || expected == null) return false;
+    XMLEvent actualEvent = actual.event;
+    XMLEvent expectedEvent = expected.event;
+    if (actualEvent.getEventType() != expectedEvent.getEventType()) return false;
+    switch (actualEvent.getEventType()) {
+    case START_DOCUMENT:
+      return render(actualEvent).equals(render(expectedEvent));
+    case START_ELEMENT:
+      StartElement actualElement = actualEvent.asStartElement();
+      StartElement expectedElement = expectedEvent.asStartElement();
+      return actualElement.getName().equals(expectedElement.getName())
+             && attributesOf(actualElement).equals(attributesOf(expectedElement));
+    case END_ELEMENT:
+      return actualEvent.asEndElement().getName().equals(expectedEvent.asEndElement().getName());
+    case CHARACTERS:
+    case CDATA:
+      return actualEvent.asCharacters().isCData() == expectedEvent.asCharacters().isCData()
+             && actualEvent.asCharacters().getData().equals(expectedEvent.asCharacters().getData());
+    case COMMENT:
+      return textOf(actualEvent).equals(textOf(expectedEvent));
+    case PROCESSING_INSTRUCTION:
+      return render(actualEvent).equals(render(expectedEvent));
+    default:
+      return true;
+    }
+  }
+
+  private static Map<String, String> attributesOf(StartElement element) {
+    Map<String, String> attributes = new TreeMap<>();
+    for (Iterator<?> iterator = element.getAttributes(); iterator.hasNext();) {
+      Attribute attribute = (Attribute) iterator.next();
+      attributes.put(qualifiedName(attribute), attribute.getValue());
+    }
+    return attributes;
+  }
+
+  private static String qualifiedName(Attribute attribute) {
+    String prefix = attribute.getName().getPrefix();
+    String localPart = attribute.getName().getLocalPart();
+    // xmlns:p declarations are reported with the 'xmlns' namespace and 'p' as local part
+    if (XMLNS_URI.equals(attribute.getName().getNamespaceURI())) return "xmlns:" + localPart;
+    return prefix == null || prefix.isEmpty() ? localPart : prefix + ":" + localPart;
+  }
+
+  private static String textOf(XMLEvent comment) {
+    return ((Comment) comment).getText();
+  }
+
+  /**
+   * Streams the significant events of a document (XML declaration, elements, non whitespace text, CDATA sections,
+   * comments and processing instructions) and keeps the last ones to be able to show the events surrounding a
+   * difference.
+   */
+  private static class SignificantEvents {
+
+    private final XMLEventReader reader;
+    private final boolean declared;
+    private final Deque<DepthEvent> lastEvents = new ArrayDeque<>(WINDOW_EVENTS + 1);
+    private DepthEvent current;
+    private int depth;
+
+    SignificantEvents(CharSequence xml) throws XMLStreamException {
+      String document = xml.toString();
+      reader = XML_INPUT_FACTORY.createXMLEventReader(new StringReader(document));
+      // like XmlStringPrettyFormatter which only keeps the declaration in that case
+      declared = document.startsWith("<?xml");
+    }
+
+    DepthEvent next() throws XMLStreamException {
+      while (reader.hasNext()) {
+        XMLEvent event = reader.nextEvent();
+        int line = event.getLocation().getLineNumber();
+        event = withFollowingText(event);
+        if (!isSignificant(event)) continue;
+        if (event.isEndElement()) depth--;
+        DepthEvent depthEvent = new DepthEvent(event, depth, line);
+        if (event.isStartElement()) depth++;
+        if (lastEvents.size() == WINDOW_EVENTS + 1) lastEvents.removeFirst();
+        lastEvents.addLast(depthEvent);
+        current = depthEvent;
+        return depthEvent;
+      }
+      current = null;
+      return null;
+    }
+
+    /**
+     * Merges the given text event with the following ones, as the parser may split text anywhere when not coalescing.
+     */
+    private XMLEvent withFollowingText(XMLEvent event) throws XMLStreamException {
+      if (!isText(event) || !isText(reader.peek())) return event;
+      StringBuilder text = new StringBuilder(event.asCharacters().getData());
+      while (isText(reader.peek())) {
+        text.append(reader.nextEvent().asCharacters().getData());
+      }
+      return XML_EVENT_FACTORY.createCharacters(text.toString());
+    }
+
+    private static boolean isText(XMLEvent event) {
+      return event != null && event.isCharacters() && !event.asCharacters().isCData();
+    }
+
+    private boolean isSignificant(XMLEvent event) {
+      switch (event.getEventType()) {
+      case START_DOCUMENT:
+        return declared;
+      case CDATA:
+        return true;
+      case START_ELEMENT:
+      case END_ELEMENT:
+      case COMMENT:
+      case PROCESSING_INSTRUCTION:
+        return true;
+      case CHARACTERS:
+        return event.asCharacters().isCData() || !event.asCharacters().isWhiteSpace();
+      default:
+        return false;
+      }
+    }
+
+    /**
+     * Pretty formats the events preceding the last read one, the last read one and the ones following it.
+     */
+    String window() throws XMLStreamException {
+      List<DepthEvent> window = new ArrayList<>(lastEvents);
+      DepthEvent differentEvent = current;
+      boolean endReached = current == null;
+      for (int i = 0; i < WINDOW_EVENTS && !endReached; i++) {
+        DepthEvent event = next();
+        if (event == null) endReached = true;
+        else window.add(event);
+      }
+      StringBuilder formatted = new StringBuilder();
+      formatted.append(differentEvent == null ? "... (first difference: end of document)"
+          : format("... (first difference near line %s)", differentEvent.line));
+      formatted.append(System.lineSeparator());
+      for (int i = 0; i < window.size(); i++) {
+        DepthEvent event = window.get(i);
+        indent(formatted, event.depth);
+        if (isElementWithOnlyText(window, i)) {
+          formatted.append(render(event.event)).append(render(window.get(i + 1).event))
+                   .append(render(window.get(i + 2).event));
+          i += 2;
+        } else if (isEmptyElement(window, i)) {
+          String start = render(event.event);
+          formatted.append(start, 0, start.length() - 1).append("/>");
+          i++;
+        } else {
+          formatted.append(render(event.event));
+        }
+        formatted.append(System.lineSeparator());
+      }
+      if (!endReached) formatted.append("...");
+      return formatted.toString();
+    }
+
+    private static boolean isEmptyElement(List<DepthEvent> events, int index) {
+      return events.get(index).event.isStartElement() && index + 1 < events.size()
+             && events.get(index + 1).event.isEndElement();
+    }
+
+    private static boolean isElementWithOnlyText(List<DepthEvent> events, int index) {
+      return events.get(index).event.isStartElement() && index + 2 < events.size()
+             && events.get(index + 1).event.isCharacters() && events.get(index + 2).event.isEndElement();
+    }
+
+    private static void indent(StringBuilder formatted, int depth) {
+      for (int i = 0; i < depth; i++) {
+        formatted.append(INDENTATION);
+      }
+    }
+  }
+
+  private static String render(XMLEvent event) {
+    switch (event.getEventType()) {
+    case START_DOCUMENT:
+      StartDocument startDocument = (StartDocument) event;
+      return "<?xml version=\"" + startDocument.getVersion() + "\""
+             + (startDocument.standaloneSet() ? " standalone=\"" + (startDocument.isStandalone() ? "yes" : "no") + "\""
+                 : "")
+             + "?>";
+    case START_ELEMENT:
+      StartElement element = event.asStartElement();
+      StringBuilder rendered = new StringBuilder("<").append(element.getName().getLocalPart());
+      for (Map.Entry<String, String> attribute : attributesOf(element).entrySet()) {
+        rendered.append(' ').append(attribute.getKey()).append("=\"").append(escape(attribute.getValue(), true))
+                .append('"');
+      }
+      return rendered.append('>').toString();
+    case END_ELEMENT:
+      return "</" + event.asEndElement().getName().getLocalPart() + ">";
+    case CHARACTERS:
+    case CDATA:
+      Characters characters = event.asCharacters();
+      return characters.isCData() ? "<![CDATA[" + characters.getData() + "]]>" : escape(characters.getData(), false);
+    case COMMENT:
+      return "<!--" + textOf(event) + "-->";
+    case PROCESSING_INSTRUCTION:
+      ProcessingInstruction processingInstruction = (ProcessingInstruction) event;
+      String data = processingInstruction.getData();
+      return "<?" + processingInstruction.getTarget() + (data == null || data.isEmpty() ? "" : " " + data) + "?>";
+    default:
+      return "";
+    }
+  }
+
+  private static String escape(String text, boolean attributeValue) {
+    StringBuilder escaped = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '&') escaped.append("&amp;");
+      else if (c == '<') escaped.append("&lt;");
+      else if (c == '>') escaped.append("&gt;");
+      else if (c == '"' && attributeValue) escaped.append("&quot;");
+      else escaped.append(c);
+    }
+    return escaped.toString();
+  }
+
+  private static class DepthEvent {
+    private final XMLEvent event;
+    private final int depth;
+    private final int line;
+
+    DepthEvent(XMLEvent event, int depth, int line) {
+      this.event = event;
+      this.depth = depth;
+      this.line = line;
+    }
+  }
+}
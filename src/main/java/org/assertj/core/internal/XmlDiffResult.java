@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Value class to hold the result of comparing two XML documents.
+ * <p>
+ * If the documents are not equivalent, holds a pretty formatted window of each document around the first difference.
+ */
+public class XmlDiffResult {
+
+  private static final XmlDiffResult NO_DIFF = new XmlDiffResult(null, null);
+
+  public final String actualWindow;
+  public final String expectedWindow;
+
+  /**
+   * Builds a new instance.
+   *
+   * @param actualWindow the pretty formatted window of the actual document around the first difference
+   * @param expectedWindow the pretty formatted window of the expected document around the first difference
+   */
+  public XmlDiffResult(String actualWindow, String expectedWindow) {
+    this.actualWindow = actualWindow;
+    this.expectedWindow = expectedWindow;
+  }
+
+  public static XmlDiffResult noDiff() {
+    return NO_DIFF;
+  }
+
+  public boolean hasDiff() {
+    return this != NO_DIFF;
+  }
+
+  public boolean hasNoDiff() {
+    return this == NO_DIFF;
+  }
+}
@@ -0,0 +1,125 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.util.Hexadecimals.appendHex;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * Represents byte arrays as hexadecimal dumps, other objects are represented like {@link StandardRepresentation} does.
+ * <p>
+ * Each line of the dump shows the offset of its first byte, up to {@value #BYTES_PER_LINE} bytes in hexadecimal and
+ * their ASCII characters, non printable ones being replaced by a dot:
+ * <pre><code class='java'> 00000000  48 65 6C 6C 6F 2C 20 57 6F 72 6C 64 21 0A        |Hello, World!.|</code></pre>
+ * Only the lines of a window of {@value #DEFAULT_WINDOW_SIZE} bytes are dumped, the bytes outside the window are
+ * summarized by their number. The window starts with the first byte unless the representation is built with
+ * {@link #hexDumpAround(int)} to dump the bytes around an offset, typically the one of the first difference between
+ * two arrays:
+ * <pre><code class='java'> assertThat(actual).withRepresentation(hexDumpAround(4096))
+ *                   .isEqualTo(expected);</code></pre>
+ */
+public class HexDumpRepresentation extends StandardRepresentation {
+
+  public static final int BYTES_PER_LINE = 16;
+  public static final int DEFAULT_WINDOW_SIZE = 256;
+
+  public static final HexDumpRepresentation HEX_DUMP_REPRESENTATION = new HexDumpRepresentation();
+
+  // the character displayed in the ASCII gutter for each unsigned byte value
+  private static final char[] ASCII_GUTTER = new char[256];
+
+  static {
+    for (int v = 0; v < ASCII_GUTTER.length; v++) {
+      ASCII_GUTTER[v] = v >= ' ' && v <= '~' ? (char) v : '.';
+    }
+  }
+
+  private final int offsetOfInterest;
+  private final int windowSize;
+
+  /**
+   * Creates a representation dumping the first {@value #DEFAULT_WINDOW_SIZE} bytes of byte arrays.
+   */
+  public HexDumpRepresentation() {
+    this(0, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Creates a representation dumping the bytes of byte arrays in a window around the given offset.
+   *
+   * @param offsetOfInterest the offset of the byte to dump the window around.
+   * @param windowSize the number of bytes to dump, rounded up to whole lines.
+   * @throws IllegalArgumentException if {@code offsetOfInterest} is negative or {@code windowSize} is less than 1.
+   */
+  public HexDumpRepresentation(int offsetOfInterest, int windowSize) {
+    checkArgument(offsetOfInterest >= 0, "The offset of interest should not be negative but was %s", offsetOfInterest);
+    checkArgument(windowSize >= 1, "The window size should be >= 1 but was %s", windowSize);
+    this.offsetOfInterest = offsetOfInterest;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Returns a representation dumping the {@value #DEFAULT_WINDOW_SIZE} bytes around the given offset of byte arrays.
+   *
+   * @param offset the offset of the byte to dump the window around.
+   * @return the created representation.
+   * @throws IllegalArgumentException if {@code offset} is negative.
+   */
+  public static HexDumpRepresentation hexDumpAround(int offset) {
+    return new HexDumpRepresentation(offset, DEFAULT_WINDOW_SIZE);
+  }
+
+  @Override
+  public String toStringOf(Object object) {
+    if (hasCustomFormatterFor(object)) return customFormat(object);
+    if (object instanceof byte[]) return hexDump((byte[]) object);
+    return super.toStringOf(object);
+  }
+
+  protected String hexDump(byte[] bytes) {
+    if (bytes.length == 0) return "[]";
+    int lineCount = (bytes.length + BYTES_PER_LINE - 1) / BYTES_PER_LINE;
+    int windowLineCount = (windowSize + BYTES_PER_LINE - 1) / BYTES_PER_LINE;
+    int lineOfInterest = Math.min(offsetOfInterest, bytes.length - 1) / BYTES_PER_LINE;
+    // center the window on the line of interest, then move it back if it goes past the last line
+    int endLine = Math.min(lineCount, Math.max(0, lineOfInterest - windowLineCount / 2) + windowLineCount);
+    int startLine = Math.max(0, endLine - windowLineCount);
+    int start = startLine * BYTES_PER_LINE;
+    int end = Math.min(bytes.length, endLine * BYTES_PER_LINE);
+    StringBuilder dump = new StringBuilder((endLine - startLine + 2) * (10 + 4 * BYTES_PER_LINE + 4));
+    if (start > 0) appendSkippedBytes(dump, start).append('\n');
+    for (int lineStart = start; lineStart < end; lineStart += BYTES_PER_LINE) {
+      if (lineStart != start) dump.append('\n');
+      appendLine(dump, bytes, lineStart, Math.min(end, lineStart + BYTES_PER_LINE));
+    }
+    if (end < bytes.length) appendSkippedBytes(dump.append('\n'), bytes.length - end);
+    return dump.toString();
+  }
+
+  private static void appendLine(StringBuilder dump, byte[] bytes, int start, int end) {
+    appendHex(appendHex(dump, (char) (start >>> 16)), (char) start).append("  ");
+    for (int i = start; i < start + BYTES_PER_LINE; i++) {
+      if (i < end) appendHex(dump, bytes[i]).append(' ');
+      else dump.append("   ");
+    }
+    dump.append(" |");
+    for (int i = start; i < end; i++) {
+      dump.append(ASCII_GUTTER[bytes[i] & 0xFF]);
+    }
+    dump.append('|');
+  }
+
+  private static StringBuilder appendSkippedBytes(StringBuilder dump, int count) {
+    return dump.append("... (").append(count).append(count == 1 ? " byte)" : " bytes)");
+  }
+}
@@ -12,8 +12,12 @@
  */
 package org.assertj.core.presentation;
 
+import static org.assertj.core.util.Hexadecimals.appendHex;
 import static org.assertj.core.util.Strings.concat;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Hexadecimal object representation instead of standard java representation.
  * 
@@ -84,6 +88,26 @@ public class HexadecimalRepresentation extends StandardRepresentation {
     return concat("\"", representation.toStringOf(s.toCharArray()), "\"");
   }
 
+  @Override
+  PrimitiveElementRenderer primitiveElementRenderer(Class<?> componentType) {
+    return getClass() == HexadecimalRepresentation.class ? HEXADECIMAL_PRIMITIVE_RENDERERS.get(componentType) : null;
+  }
+
+  // hexadecimal values short enough not to be grouped, formatted without boxing them nor using String.format
+  private static final Map<Class<?>, PrimitiveElementRenderer> HEXADECIMAL_PRIMITIVE_RENDERERS = new HashMap<>();
+
+  static {
+    HEXADECIMAL_PRIMITIVE_RENDERERS.put(byte.class,
+                                        (buffer, array, index) -> appendHex(buffer.append(PREFIX),
+                                                                            ((byte[]) array)[index]));
+    HEXADECIMAL_PRIMITIVE_RENDERERS.put(short.class,
+                                        (buffer, array, index) -> appendHex(buffer.append(PREFIX),
+                                                                            (char) ((short[]) array)[index]));
+    HEXADECIMAL_PRIMITIVE_RENDERERS.put(char.class,
+                                        (buffer, array, index) -> appendHex(buffer.append('\'').append(PREFIX),
+                                                                            ((char[]) array)[index]).append('\''));
+  }
+
   private static String toGroupedHex(Number value, int size) {
     return PREFIX + NumberGrouping.toHexLiteral(toHex(value, size));
   }
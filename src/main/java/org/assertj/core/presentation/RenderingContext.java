@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes by identity the {@link StandardRepresentation#toStringOf(Object)} results of a representation while a
+ * message is rendered.
+ * <p>
+ * Error messages often show the same objects several times, like the actual collection and the elements of it that
+ * were not expected. Within a rendering context each object is converted to a {@code String} at most once, the
+ * context being limited to the rendering of one message the objects are not expected to change meanwhile.
+ */
+public final class RenderingContext {
+
+  private static final ThreadLocal<RenderingContext> CURRENT_CONTEXT = new ThreadLocal<>();
+
+  private final Representation representation;
+  private final Map<Object, String> representations = new IdentityHashMap<>();
+
+  private RenderingContext(Representation representation) {
+    this.representation = representation;
+  }
+
+  /**
+   * Renders with the given supplier, the objects formatted meanwhile in the current thread by the given representation
+   * being converted to a {@code String} at most once.
+   * <p>
+   * The context of an enclosing rendering with the same representation is reused.
+   *
+   * @param <T> the type of the rendering result.
+   * @param representation the representation which results are memoized.
+   * @param rendering the rendering to perform.
+   * @return the result of the rendering.
+   */
+  public static <T> T renderWith(Representation representation, Supplier<T> rendering) {
+    RenderingContext enclosingContext = CURRENT_CONTEXT.get();
+    if (enclosingContext != null && enclosingContext.representation == representation) return rendering.get();
+    CURRENT_CONTEXT.set(new RenderingContext(representation));
+    try {
+      return rendering.get();
+    } finally {
+      if (enclosingContext == null) CURRENT_CONTEXT.remove();
+      else CURRENT_CONTEXT.set(enclosingContext);
+    }
+  }
+
+  /**
+   * Returns the context of the current thread if it renders with the given representation, {@code null} otherwise.
+   */
+  static RenderingContext currentContextOf(Representation representation) {
+    RenderingContext context = CURRENT_CONTEXT.get();
+    return context != null && context.representation == representation ? context : null;
+  }
+
+  String memoizedToStringOf(Object object) {
+    return representations.get(object);
+  }
+
+  void memoize(Object object, String toStringOf) {
+    if (toStringOf != null) representations.put(object, toStringOf);
+  }
+}
@@ -0,0 +1,164 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable configuration of a {@link StandardRepresentation}: the limits used to format objects and the formatters
+ * registered per type.
+ * <p>
+ * Being immutable, a configuration can be shared by threads formatting objects concurrently, the {@code with...}
+ * methods return a new configuration leaving the original one untouched.
+ * <p>
+ * Example:
+ * <pre><code class='java'> RepresentationConfiguration configuration = DEFAULT_CONFIGURATION
+ *     .withMaxElementsForPrinting(10)
+ *     .withFormatterForType(Money.class, Money::format);
+ *
+ * // for a single assertion
+ * assertThat(wallet).withRepresentation(new StandardRepresentation(configuration))
+ *                   .contains(euros(10));
+ *
+ * // for the assertions of the current thread
+ * StandardRepresentation.setConfigurationForCurrentThread(configuration);</code></pre>
+ */
+public final class RepresentationConfiguration {
+
+  /**
+   * The default configuration: 80 characters for single line descriptions, 1000 elements and 100000 characters
+   * printed, no formatters.
+   */
+  public static final RepresentationConfiguration DEFAULT_CONFIGURATION = new RepresentationConfiguration(80, 1000,
+                                                                                                        100_000,
+                                                                                                        emptyMap());
+
+  private final int maxLengthForSingleLineDescription;
+  private final int maxElementsForPrinting;
+  private final int maxLengthForPrinting;
+  private final Map<Class<?>, Function<?, String>> formatterByType;
+
+  private RepresentationConfiguration(int maxLengthForSingleLineDescription, int maxElementsForPrinting,
+                                      int maxLengthForPrinting, Map<Class<?>, Function<?, String>> formatterByType) {
+    this.maxLengthForSingleLineDescription = maxLengthForSingleLineDescription;
+    this.maxElementsForPrinting = maxElementsForPrinting;
+    this.maxLengthForPrinting = maxLengthForPrinting;
+    this.formatterByType = formatterByType;
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum length of single line descriptions, longer
+   * descriptions of iterables and arrays are formatted on several lines.
+   *
+   * @param value the maximum length of single line descriptions.
+   * @return the new configuration.
+   * @throws IllegalArgumentException if the given value is not positive.
+   */
+  public RepresentationConfiguration withMaxLengthForSingleLineDescription(int value) {
+    checkArgument(value > 0, "maxLengthForSingleLineDescription must be > 0 but was %s", value);
+    return new RepresentationConfiguration(value, maxElementsForPrinting, maxLengthForPrinting, formatterByType);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum number of elements printed for iterables, arrays and
+   * maps.
+   *
+   * @param value the maximum number of elements printed.
+   * @return the new configuration.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public RepresentationConfiguration withMaxElementsForPrinting(int value) {
+    checkArgument(value >= 1, "maxElementsForPrinting must be >= 1, but was %s", value);
+    return new RepresentationConfiguration(maxLengthForSingleLineDescription, value, maxLengthForPrinting,
+                                           formatterByType);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum number of characters printed for the elements of an
+   * iterable or an array, the elements exceeding it are truncated and followed by {@code ...(truncated)}.
+   *
+   * @param value the maximum number of characters printed for the elements of an iterable or an array.
+   * @return the new configuration.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public RepresentationConfiguration withMaxLengthForPrinting(int value) {
+    checkArgument(value >= 1, "maxLengthForPrinting must be >= 1, but was %s", value);
+    return new RepresentationConfiguration(maxLengthForSingleLineDescription, maxElementsForPrinting, value,
+                                           formatterByType);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given formatter for the given type, replacing any formatter already
+   * registered for it.
+   *
+   * @param <T> the type to register a formatter for
+   * @param type the class of the type to register a formatter for
+   * @param formatter the formatter
+   * @return the new configuration.
+   */
+  public <T> RepresentationConfiguration withFormatterForType(Class<T> type, Function<T, String> formatter) {
+    checkNotNull(type, "The type to register a formatter for should not be null");
+    checkNotNull(formatter, "The formatter should not be null");
+    Map<Class<?>, Function<?, String>> newFormatterByType = new HashMap<>(formatterByType);
+    newFormatterByType.put(type, formatter);
+    return new RepresentationConfiguration(maxLengthForSingleLineDescription, maxElementsForPrinting,
+                                           maxLengthForPrinting, unmodifiableMap(newFormatterByType));
+  }
+
+  /**
+   * Returns a copy of this configuration without any formatters.
+   *
+   * @return the new configuration.
+   */
+  public RepresentationConfiguration withoutFormatters() {
+    return new RepresentationConfiguration(maxLengthForSingleLineDescription, maxElementsForPrinting,
+                                           maxLengthForPrinting, emptyMap());
+  }
+
+  public int getMaxLengthForSingleLineDescription() {
+    return maxLengthForSingleLineDescription;
+  }
+
+  public int getMaxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
+  public int getMaxLengthForPrinting() {
+    return maxLengthForPrinting;
+  }
+
+  /**
+   * Returns the formatter registered for the given type, formatters are looked up by exact type.
+   *
+   * @param type the type to get the formatter of.
+   * @return the formatter registered for the given type or {@code null} if there is none.
+   */
+  public Function<?, String> getFormatterForType(Class<?> type) {
+    return formatterByType.isEmpty() ? null : formatterByType.get(type);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("RepresentationConfiguration [maxLengthForSingleLineDescription=%s, "
+                         + "maxElementsForPrinting=%s, maxLengthForPrinting=%s, formattedTypes=%s]",
+                         maxLengthForSingleLineDescription, maxElementsForPrinting, maxLengthForPrinting,
+                         formatterByType.keySet());
+  }
+}
@@ -17,14 +17,18 @@ import static java.lang.reflect.Array.getLength;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
-import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.presentation.RepresentationConfiguration.DEFAULT_CONFIGURATION;
+import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 
 import java.io.File;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -35,8 +39,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.SortedMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -50,6 +56,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.groups.Tuple;
@@ -80,6 +89,8 @@ public class StandardRepresentation implements Representation {
 
   private static final String DEFAULT_MAX_ELEMENTS_EXCEEDED = "...";
 
+  private static final String TRUNCATED = "...(truncated)";
+
   // 4 spaces indentation : 2 space indentation after new line + '<' + '['
   static final String INDENTATION_AFTER_NEWLINE = "    ";
   // used when formatting iterables to a single line
@@ -88,11 +99,33 @@ public class StandardRepresentation implements Representation {
   public static final String ELEMENT_SEPARATOR = ",";
   public static final String ELEMENT_SEPARATOR_WITH_NEWLINE = ELEMENT_SEPARATOR + Compatibility.System.lineSeparator();
 
-  private static int maxLengthForSingleLineDescription = 80;
+  // the configuration shared by all threads, replaced as a whole when updated
+  private static final AtomicReference<RepresentationConfiguration> globalConfiguration =
+      new AtomicReference<>(DEFAULT_CONFIGURATION);
+
+  private static final ThreadLocal<RepresentationConfiguration> configurationOfCurrentThread = new ThreadLocal<>();
 
-  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
+  // null to use the configuration of the current thread or the global one
+  private final RepresentationConfiguration configuration;
 
-  private static int maxElementsForPrinting = 1000;
+  /**
+   * Creates a representation using the configuration set for the current thread if any, the global one otherwise.
+   */
+  public StandardRepresentation() {
+    this.configuration = null;
+  }
+
+  /**
+   * Creates a representation using the given configuration whatever the global or current thread ones are, for example
+   * to use specific limits or formatters in a single assertion with
+   * {@link org.assertj.core.api.AbstractAssert#withRepresentation(Representation) withRepresentation}.
+   *
+   * @param configuration the configuration to use.
+   * @throws NullPointerException if the given configuration is {@code null}.
+   */
+  public StandardRepresentation(RepresentationConfiguration configuration) {
+    this.configuration = checkNotNull(configuration, "The representation configuration should not be null");
+  }
 
   /**
    * It resets the static defaults for the standard representation.
@@ -101,25 +134,32 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription = 80}</li>
    *   <li>{@code maxElementsForPrinting = 1000}</li>
+   *   <li>{@code maxLengthForPrinting = 100000}</li>
    * </ul>
    */
   public static void resetDefaults() {
-    maxLengthForSingleLineDescription = 80;
-    maxElementsForPrinting = 1000;
+    int defaultMaxLength = DEFAULT_CONFIGURATION.getMaxLengthForSingleLineDescription();
+    int defaultMaxElements = DEFAULT_CONFIGURATION.getMaxElementsForPrinting();
+    int defaultMaxLengthForPrinting = DEFAULT_CONFIGURATION.getMaxLengthForPrinting();
+    updateGlobalConfiguration(configuration -> configuration.withMaxLengthForSingleLineDescription(defaultMaxLength)
+                                                            .withMaxElementsForPrinting(defaultMaxElements)
+                                                            .withMaxLengthForPrinting(defaultMaxLengthForPrinting));
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
-    checkArgument(value > 0, "maxLengthForSingleLineDescription must be > 0 but was %s", value);
-    maxLengthForSingleLineDescription = value;
+    updateGlobalConfiguration(configuration -> configuration.withMaxLengthForSingleLineDescription(value));
   }
 
   public static int getMaxLengthForSingleLineDescription() {
-    return maxLengthForSingleLineDescription;
+    return currentConfiguration().getMaxLengthForSingleLineDescription();
   }
 
   public static void setMaxElementsForPrinting(int value) {
-    checkArgument(value >= 1, "maxElementsForPrinting must be >= 1, but was %s", value);
-    maxElementsForPrinting = value;
+    updateGlobalConfiguration(configuration -> configuration.withMaxElementsForPrinting(value));
+  }
+
+  public static void setMaxLengthForPrinting(int value) {
+    updateGlobalConfiguration(configuration -> configuration.withMaxLengthForPrinting(value));
   }
 
   /**
@@ -130,14 +170,74 @@ public class StandardRepresentation implements Representation {
    * @param formatter the formatter  
    */
   public static <T> void registerFormatterForType(Class<T> type, Function<T, String> formatter) {
-    customFormatterByType.put(type, formatter);
+    updateGlobalConfiguration(configuration -> configuration.withFormatterForType(type, formatter));
   }
 
   /**
    * Clear all formatters registered per type with {@link #registerFormatterForType(Class, Function)}.
    */
   public static void removeAllRegisteredFormatters() {
-    customFormatterByType.clear();
+    updateGlobalConfiguration(RepresentationConfiguration::withoutFormatters);
+  }
+
+  /**
+   * Returns the configuration shared by all threads, the static setters of this class update it.
+   *
+   * @return the global configuration.
+   */
+  public static RepresentationConfiguration getGlobalConfiguration() {
+    return globalConfiguration.get();
+  }
+
+  /**
+   * Replaces the configuration shared by all threads.
+   *
+   * @param configuration the new global configuration.
+   * @throws NullPointerException if the given configuration is {@code null}.
+   */
+  public static void setGlobalConfiguration(RepresentationConfiguration configuration) {
+    globalConfiguration.set(checkNotNull(configuration, "The representation configuration should not be null"));
+  }
+
+  /**
+   * Sets the configuration used by the representations created without configuration in the current thread instead
+   * of the global one, typically to use specific limits or formatters in a test class running in parallel with others.
+   * <p>
+   * The static setters of this class keep updating the global configuration, call
+   * {@link #removeConfigurationForCurrentThread()} when done, especially in threads of a pool.
+   *
+   * @param configuration the configuration to use in the current thread.
+   * @throws NullPointerException if the given configuration is {@code null}.
+   */
+  public static void setConfigurationForCurrentThread(RepresentationConfiguration configuration) {
+    checkNotNull(configuration, "The representation configuration should not be null");
+    configurationOfCurrentThread.set(configuration);
+  }
+
+  /**
+   * Removes the configuration set for the current thread, the global configuration is used again.
+   */
+  public static void removeConfigurationForCurrentThread() {
+    configurationOfCurrentThread.remove();
+  }
+
+  private static RepresentationConfiguration currentConfiguration() {
+    RepresentationConfiguration threadConfiguration = configurationOfCurrentThread.get();
+    return threadConfiguration != null ? threadConfiguration : globalConfiguration.get();
+  }
+
+  private static void updateGlobalConfiguration(UnaryOperator<RepresentationConfiguration> update) {
+    globalConfiguration.updateAndGet(update);
+  }
+
+  /**
+   * Returns the configuration used by this representation: the one given at construction time if any, the one set for
+   * the current thread otherwise or the global one by default.
+   *
+   * @return the configuration used by this representation.
+   */
+  protected RepresentationConfiguration configuration() {
+    return configuration != null ? configuration : currentConfiguration();
   }
 
   /**
@@ -150,48 +250,112 @@ public class StandardRepresentation implements Representation {
   @Override
   public String toStringOf(Object object) {
     if (object == null) return null;
+    RenderingContext renderingContext = RenderingContext.currentContextOf(this);
+    if (renderingContext == null) return formatObject(object);
+    String memoized = renderingContext.memoizedToStringOf(object);
+    if (memoized != null) return memoized;
+    // the elements of the object are memoized while it is formatted
+    String formatted = formatObject(object);
+    renderingContext.memoize(object, formatted);
+    return formatted;
+  }
+
+  private String formatObject(Object object) {
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof Calendar) return toStringOf((Calendar) object);
-    if (object instanceof Class<?>) return toStringOf((Class<?>) object);
-    if (object instanceof Date) return toStringOf((Date) object);
-    if (object instanceof AtomicBoolean) return toStringOf((AtomicBoolean) object);
-    if (object instanceof AtomicInteger) return toStringOf((AtomicInteger) object);
-    if (object instanceof AtomicLong) return toStringOf((AtomicLong) object);
-    if (object instanceof AtomicReference) return toStringOf((AtomicReference<?>) object);
-    if (object instanceof AtomicMarkableReference) return toStringOf((AtomicMarkableReference<?>) object);
-    if (object instanceof AtomicStampedReference) return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof Number) return toStringOf((Number) object);
-    if (object instanceof File) return toStringOf((File) object);
-    if (object instanceof String) return toStringOf((String) object);
-    if (object instanceof Character) return toStringOf((Character) object);
-    if (object instanceof Comparator) return toStringOf((Comparator<?>) object);
-    if (object instanceof SimpleDateFormat) return toStringOf((SimpleDateFormat) object);
-    if (object instanceof PredicateDescription) return toStringOf((PredicateDescription) object);
-    if (object instanceof CompletableFuture) return toStringOf((CompletableFuture<?>) object);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?>) return smartFormat((Collection<?>) object);
-    if (object instanceof Map<?, ?>) return toStringOf((Map<?, ?>) object);
-    if (object instanceof Tuple) return toStringOf((Tuple) object);
-    if (object instanceof MapEntry) return toStringOf((MapEntry<?, ?>) object);
-    if (object instanceof Method) return ((Method) object).toGenericString();
-    if (object instanceof InsertDelta<?>) return toStringOf((InsertDelta<?>) object);
-    if (object instanceof ChangeDelta<?>) return toStringOf((ChangeDelta<?>) object);
-    if (object instanceof DeleteDelta<?>) return toStringOf((DeleteDelta<?>) object);
-    return object == null ? null : fallbackToStringOf(object);
+    return FORMATTER_BY_CLASS.get(object.getClass()).format(this, object);
+  }
+
+  /**
+   * Formatters in {@link #toStringOf(Object)} precedence order, the first one accepting an object type formats it.
+   */
+  private static final List<TypeFormatter> FORMATTERS = new ArrayList<>();
+
+  static {
+    addFormatter(Calendar.class, (representation, object) -> representation.toStringOf((Calendar) object));
+    addFormatter(Class.class, (representation, object) -> representation.toStringOf((Class<?>) object));
+    addFormatter(Date.class, (representation, object) -> representation.toStringOf((Date) object));
+    addFormatter(AtomicBoolean.class, (representation, object) -> representation.toStringOf((AtomicBoolean) object));
+    addFormatter(AtomicInteger.class, (representation, object) -> representation.toStringOf((AtomicInteger) object));
+    addFormatter(AtomicLong.class, (representation, object) -> representation.toStringOf((AtomicLong) object));
+    addFormatter(AtomicReference.class,
+                 (representation, object) -> representation.toStringOf((AtomicReference<?>) object));
+    addFormatter(AtomicMarkableReference.class,
+                 (representation, object) -> representation.toStringOf((AtomicMarkableReference<?>) object));
+    addFormatter(AtomicStampedReference.class,
+                 (representation, object) -> representation.toStringOf((AtomicStampedReference<?>) object));
+    addFormatter(AtomicIntegerFieldUpdater.class,
+                 (representation, object) -> AtomicIntegerFieldUpdater.class.getSimpleName());
+    addFormatter(AtomicLongFieldUpdater.class,
+                 (representation, object) -> AtomicLongFieldUpdater.class.getSimpleName());
+    addFormatter(AtomicReferenceFieldUpdater.class,
+                 (representation, object) -> AtomicReferenceFieldUpdater.class.getSimpleName());
+    addFormatter(Number.class, (representation, object) -> representation.toStringOf((Number) object));
+    addFormatter(File.class, (representation, object) -> representation.toStringOf((File) object));
+    addFormatter(String.class, (representation, object) -> representation.toStringOf((String) object));
+    addFormatter(Character.class, (representation, object) -> representation.toStringOf((Character) object));
+    addFormatter(Comparator.class, (representation, object) -> representation.toStringOf((Comparator<?>) object));
+    addFormatter(SimpleDateFormat.class,
+                 (representation, object) -> representation.toStringOf((SimpleDateFormat) object));
+    addFormatter(PredicateDescription.class,
+                 (representation, object) -> representation.toStringOf((PredicateDescription) object));
+    addFormatter(CompletableFuture.class,
+                 (representation, object) -> representation.toStringOf((CompletableFuture<?>) object));
+    // primitive arrays included
+    addFormatter(Class::isArray, (representation, object) -> representation.formatArray(object));
+    addFormatter(Collection.class, (representation, object) -> representation.smartFormat((Collection<?>) object));
+    addFormatter(Map.class, (representation, object) -> representation.toStringOf((Map<?, ?>) object));
+    addFormatter(Tuple.class, (representation, object) -> representation.toStringOf((Tuple) object));
+    addFormatter(MapEntry.class, (representation, object) -> representation.toStringOf((MapEntry<?, ?>) object));
+    addFormatter(Method.class, (representation, object) -> ((Method) object).toGenericString());
+    addFormatter(InsertDelta.class, (representation, object) -> representation.toStringOf((InsertDelta<?>) object));
+    addFormatter(ChangeDelta.class, (representation, object) -> representation.toStringOf((ChangeDelta<?>) object));
+    addFormatter(DeleteDelta.class, (representation, object) -> representation.toStringOf((DeleteDelta<?>) object));
+  }
+
+  private static final ObjectFormatter FALLBACK_FORMATTER = StandardRepresentation::fallbackToStringOf;
+
+  // resolved once per concrete class instead of going through the instanceof checks for each formatted object
+  private static final ClassValue<ObjectFormatter> FORMATTER_BY_CLASS = new ClassValue<ObjectFormatter>() {
+    @Override
+    protected ObjectFormatter computeValue(Class<?> type) {
+      for (TypeFormatter typeFormatter : FORMATTERS) {
+        if (typeFormatter.accepts.test(type)) return typeFormatter.formatter;
+      }
+      return FALLBACK_FORMATTER;
+    }
+  };
+
+  private static void addFormatter(Class<?> type, ObjectFormatter formatter) {
+    addFormatter(type::isAssignableFrom, formatter);
+  }
+
+  private static void addFormatter(Predicate<Class<?>> accepts, ObjectFormatter formatter) {
+    FORMATTERS.add(new TypeFormatter(accepts, formatter));
+  }
+
+  private interface ObjectFormatter {
+    String format(StandardRepresentation representation, Object object);
+  }
+
+  private static class TypeFormatter {
+    private final Predicate<Class<?>> accepts;
+    private final ObjectFormatter formatter;
+
+    private TypeFormatter(Predicate<Class<?>> accepts, ObjectFormatter formatter) {
+      this.accepts = accepts;
+      this.formatter = formatter;
+    }
   }
 
   @SuppressWarnings("unchecked")
   protected <T> String customFormat(T object) {
     if (object == null) return null;
-    return ((Function<T, String>) customFormatterByType.get(object.getClass())).apply(object);
+    return ((Function<T, String>) configuration().getFormatterForType(object.getClass())).apply(object);
   }
 
   protected boolean hasCustomFormatterFor(Object object) {
     if (object == null) return false;
-    return customFormatterByType.containsKey(object.getClass());
+    return configuration().getFormatterForType(object.getClass()) != null;
   }
 
   @Override
@@ -305,32 +469,130 @@ public class StandardRepresentation implements Representation {
 
   protected String toStringOf(Map<?, ?> map) {
     if (map == null) return null;
-    Map<?, ?> sortedMap = toSortedMapIfPossible(map);
-    Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
-    if (!entriesIterator.hasNext()) return "{}";
+    if (map.isEmpty()) return "{}";
+    int maxElementsForPrinting = configuration().getMaxElementsForPrinting();
+    List<Entry<?, ?>> printedEntries = firstEntriesInKeysOrder(map, maxElementsForPrinting);
     StringBuilder builder = new StringBuilder("{");
-    int printedElements = 0;
-    for (;;) {
-      Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
-        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return builder.append("}").toString();
-      }
+    for (int i = 0; i < printedEntries.size(); i++) {
+      if (i != 0) builder.append(", ");
+      Entry<?, ?> entry = printedEntries.get(i);
       builder.append(format(map, entry.getKey())).append('=').append(format(map, entry.getValue()));
-      printedElements++;
-      if (!entriesIterator.hasNext()) return builder.append("}").toString();
-      builder.append(", ");
     }
+    if (map.size() > printedEntries.size()) builder.append(", ").append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+    return builder.append("}").toString();
+  }
+
+  /**
+   * Returns the first entries of the given map in the natural order of its keys if they are mutually comparable, in
+   * the map iteration order otherwise.
+   * <p>
+   * Only the first entries are sorted: the map is neither copied nor fully sorted.
+   */
+  private static List<Entry<?, ?>> firstEntriesInKeysOrder(Map<?, ?> map, int maxEntries) {
+    return firstEntriesInKeysOrder(map, maxEntries, haveMutuallyComparableKeys(map));
   }
 
-  private static Map<?, ?> toSortedMapIfPossible(Map<?, ?> map) {
+  private static List<Entry<?, ?>> firstEntriesInKeysOrder(Map<?, ?> map, int maxEntries, boolean sortable) {
+    boolean alreadySorted = map instanceof SortedMap && ((SortedMap<?, ?>) map).comparator() == null;
+    if (!sortable || alreadySorted) {
+      List<Entry<?, ?>> firstEntries = new ArrayList<>(Math.min(map.size(), maxEntries));
+      Iterator<? extends Entry<?, ?>> entries = map.entrySet().iterator();
+      while (entries.hasNext() && firstEntries.size() < maxEntries) {
+        firstEntries.add(entries.next());
+      }
+      return firstEntries;
+    }
     try {
-      return new TreeMap<>(map);
-    } catch (ClassCastException | NullPointerException e) {
-      return map;
+      return smallestEntriesByKey(map, maxEntries);
+    } catch (ClassCastException e) {
+      // compareTo implementation not accepting the type it declares
+      return firstEntriesInKeysOrder(map, maxEntries, false);
     }
   }
 
+  private static List<Entry<?, ?>> smallestEntriesByKey(Map<?, ?> map, int maxEntries) {
+    // bounded max-heap keeping the entries with the smallest keys seen so far, the largest one on top
+    PriorityQueue<Entry<?, ?>> smallestEntries = new PriorityQueue<>(Math.min(map.size(), maxEntries) + 1,
+                                                                     BY_KEY.reversed());
+    for (Entry<?, ?> entry : map.entrySet()) {
+      if (smallestEntries.size() < maxEntries) smallestEntries.add(entry);
+      else if (BY_KEY.compare(entry, smallestEntries.peek()) < 0) {
+        smallestEntries.poll();
+        smallestEntries.add(entry);
+      }
+    }
+    List<Entry<?, ?>> firstEntries = new ArrayList<>(smallestEntries);
+    firstEntries.sort(BY_KEY);
+    return firstEntries;
+  }
+
+  private static final Comparator<Entry<?, ?>> BY_KEY = StandardRepresentation::compareKeys;
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static int compareKeys(Entry<?, ?> entry1, Entry<?, ?> entry2) {
+    return ((Comparable) entry1.getKey()).compareTo(entry2.getKey());
+  }
+
+  /**
+   * Returns whether the keys of the given map can be sorted in their natural order: they are not null and each of them
+   * is an instance of the type the others declare to be {@code Comparable} to.
+   */
+  private static boolean haveMutuallyComparableKeys(Map<?, ?> map) {
+    List<Class<?>> keyTypes = new ArrayList<>();
+    Class<?> lastKeyType = null;
+    for (Object key : map.keySet()) {
+      if (key == null) return false;
+      if (key.getClass() == lastKeyType) continue;
+      lastKeyType = key.getClass();
+      if (keyTypes.contains(lastKeyType)) continue;
+      Optional<Class<?>> comparableType = COMPARABLE_TYPE.get(lastKeyType);
+      if (!comparableType.isPresent()) return false;
+      for (Class<?> keyType : keyTypes) {
+        if (!comparableType.get().isAssignableFrom(keyType)) return false;
+        if (!COMPARABLE_TYPE.get(keyType).get().isAssignableFrom(lastKeyType)) return false;
+      }
+      keyTypes.add(lastKeyType);
+    }
+    return true;
+  }
+
+  // the type the instances of a class can be compared to, empty if the class is not Comparable
+  private static final ClassValue<Optional<Class<?>>> COMPARABLE_TYPE = new ClassValue<Optional<Class<?>>>() {
+    @Override
+    protected Optional<Class<?>> computeValue(Class<?> type) {
+      if (!Comparable.class.isAssignableFrom(type)) return Optional.empty();
+      // enum constants with a body are instances of a subclass of their enum
+      if (Enum.class.isAssignableFrom(type)) return Optional.of(type.isEnum() ? type : type.getSuperclass());
+      Class<?> declaredComparableType = declaredComparableType(type);
+      // raw or generic Comparable: only instances of the same class are considered comparable
+      return Optional.of(declaredComparableType != null ? declaredComparableType : type);
+    }
+  };
+
+  private static Class<?> declaredComparableType(Class<?> type) {
+    for (Type implementedInterface : type.getGenericInterfaces()) {
+      if (implementedInterface instanceof ParameterizedType
+          && ((ParameterizedType) implementedInterface).getRawType() == Comparable.class) {
+        Type typeArgument = ((ParameterizedType) implementedInterface).getActualTypeArguments()[0];
+        if (typeArgument instanceof Class) return (Class<?>) typeArgument;
+        if (typeArgument instanceof ParameterizedType) {
+          return (Class<?>) ((ParameterizedType) typeArgument).getRawType();
+        }
+        return null;
+      }
+    }
+    for (Class<?> implementedInterface : type.getInterfaces()) {
+      if (implementedInterface == Comparable.class || !Comparable.class.isAssignableFrom(implementedInterface)) {
+        continue;
+      }
+      Class<?> declaredComparableType = declaredComparableType(implementedInterface);
+      if (declaredComparableType != null) return declaredComparableType;
+    }
+    Class<?> superclass = type.getSuperclass();
+    if (superclass == null || !Comparable.class.isAssignableFrom(superclass)) return null;
+    return declaredComparableType(superclass);
+  }
+
   private String format(Map<?, ?> map, Object o) {
     return o == map ? "(this Map)" : toStringOf(o);
   }
@@ -387,21 +649,60 @@ public class StandardRepresentation implements Representation {
     return isObjectArray(o) ? smartFormat(this, (Object[]) o) : formatPrimitiveArray(o);
   }
 
+  /**
+   * Formats the given array on multiple lines.
+   *
+   * @param representation not used.
+   * @param iterable the array to format.
+   * @param alreadyFormatted the arrays being formatted, used to detect arrays containing themselves.
+   * @return the multiple lines representation of the given array.
+   * @deprecated no longer called by {@link #smartFormat(Representation, Object[])}, which formats each element once to
+   *             choose between a single line and a multiple lines description, override {@link #toStringOf(Object)}
+   *             instead to customize the representation of the elements.
+   */
+  @Deprecated
   protected String multiLineFormat(Representation representation, Object[] iterable, Set<Object[]> alreadyFormatted) {
     return format(iterable, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, alreadyFormatted);
   }
 
+  /**
+   * Formats the given array on a single line.
+   *
+   * @param representation not used.
+   * @param iterable the array to format.
+   * @param start not used, arrays start with {@code [}.
+   * @param end not used, arrays end with {@code ]}.
+   * @param alreadyFormatted the arrays being formatted, used to detect arrays containing themselves.
+   * @return the single line representation of the given array.
+   * @deprecated no longer called by {@link #smartFormat(Representation, Object[])}, which formats each element once to
+   *             choose between a single line and a multiple lines description, override {@link #toStringOf(Object)}
+   *             instead to customize the representation of the elements.
+   */
+  @Deprecated
   protected String singleLineFormat(Representation representation, Object[] iterable, String start, String end,
                                     Set<Object[]> alreadyFormatted) {
     return format(iterable, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, alreadyFormatted);
   }
 
   protected String smartFormat(Representation representation, Object[] iterable) {
+    if (iterable == null) return null;
     Set<Object[]> alreadyFormatted = new HashSet<>();
-    String singleLineDescription = singleLineFormat(representation, iterable, DEFAULT_START, DEFAULT_END,
-                                                    alreadyFormatted);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription
-        : multiLineFormat(representation, iterable, alreadyFormatted);
+    // used to avoid infinite recursion when array contains itself
+    alreadyFormatted.add(iterable);
+    RenderedElements elements = new RenderedElements(configuration());
+    for (Object element : iterable) {
+      if (!elements.acceptsNextElement()) break;
+      if (!isArray(element)) elements.add(element == null ? NULL : toStringOf(element));
+      else if (isArrayTypePrimitive(element)) elements.add(formatPrimitiveArray(element));
+      else if (alreadyFormatted.contains(element)) elements.add("(this array)");
+      else {
+        Object[] array = (Object[]) element;
+        // nested arrays are formatted with the separators of the enclosing one
+        elements.add(format(array, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, alreadyFormatted),
+                     () -> format(array, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, alreadyFormatted));
+      }
+    }
+    return elements.format(DEFAULT_START, DEFAULT_END);
   }
 
   protected String format(Object[] array, String elementSeparator,
@@ -412,6 +713,7 @@ public class StandardRepresentation implements Representation {
     StringBuilder desc = new StringBuilder();
     desc.append(DEFAULT_START);
     alreadyFormatted.add(array); // used to avoid infinite recursion when array contains itself
+    int maxElementsForPrinting = configuration().getMaxElementsForPrinting();
     int i = 0;
     while (true) {
       Object element = array[i];
@@ -443,9 +745,11 @@ public class StandardRepresentation implements Representation {
     if (!isArrayTypePrimitive(o)) throw Arrays.notAnArrayOfPrimitives(o);
     int size = getLength(o);
     if (size == 0) return DEFAULT_START + DEFAULT_END;
+    PrimitiveElementRenderer renderer = elementRendererOf(o);
     StringBuilder buffer = new StringBuilder();
     buffer.append(DEFAULT_START);
-    buffer.append(toStringOf(Array.get(o, 0)));
+    renderer.append(buffer, o, 0);
+    int maxElementsForPrinting = configuration().getMaxElementsForPrinting();
     for (int i = 1; i < size; i++) {
       buffer.append(ELEMENT_SEPARATOR)
             .append(INDENTATION_FOR_SINGLE_LINE);
@@ -454,18 +758,75 @@ public class StandardRepresentation implements Representation {
         break;
       }
 
-      buffer.append(toStringOf(Array.get(o, i)));
+      renderer.append(buffer, o, i);
     }
     buffer.append(DEFAULT_END);
     return buffer.toString();
   }
 
+  private PrimitiveElementRenderer elementRendererOf(Object primitiveArray) {
+    Class<?> componentType = primitiveArray.getClass().getComponentType();
+    PrimitiveElementRenderer renderer = primitiveElementRenderer(componentType);
+    // custom formatters are registered for the wrapper types, they need the boxed elements
+    if (renderer == null || configuration().getFormatterForType(WRAPPER_TYPES.get(componentType)) != null) {
+      return (buffer, array, index) -> buffer.append(toStringOf(Array.get(array, index)));
+    }
+    return renderer;
+  }
+
+  /**
+   * Returns the renderer formatting the elements of the given primitive type without boxing them, or {@code null} to
+   * format each boxed element with {@link #toStringOf(Object)}.
+   * <p>
+   * The renderers must format elements exactly like {@link #toStringOf(Object)} does, they are thus only used by the
+   * representations of this package, subclasses may override how primitives are formatted.
+   */
+  PrimitiveElementRenderer primitiveElementRenderer(Class<?> componentType) {
+    return getClass() == StandardRepresentation.class ? STANDARD_PRIMITIVE_RENDERERS.get(componentType) : null;
+  }
+
+  /**
+   * Appends the element at the given index of a primitive array to a buffer, without boxing it.
+   */
+  interface PrimitiveElementRenderer {
+    void append(StringBuilder buffer, Object array, int index);
+  }
+
+  private static final Map<Class<?>, Class<?>> WRAPPER_TYPES = new HashMap<>();
+  private static final Map<Class<?>, PrimitiveElementRenderer> STANDARD_PRIMITIVE_RENDERERS = new HashMap<>();
+
+  static {
+    WRAPPER_TYPES.put(boolean.class, Boolean.class);
+    WRAPPER_TYPES.put(byte.class, Byte.class);
+    WRAPPER_TYPES.put(char.class, Character.class);
+    WRAPPER_TYPES.put(short.class, Short.class);
+    WRAPPER_TYPES.put(int.class, Integer.class);
+    WRAPPER_TYPES.put(long.class, Long.class);
+    WRAPPER_TYPES.put(float.class, Float.class);
+    WRAPPER_TYPES.put(double.class, Double.class);
+    STANDARD_PRIMITIVE_RENDERERS.put(boolean.class,
+                                     (buffer, array, index) -> buffer.append(((boolean[]) array)[index]));
+    STANDARD_PRIMITIVE_RENDERERS.put(byte.class, (buffer, array, index) -> buffer.append(((byte[]) array)[index]));
+    STANDARD_PRIMITIVE_RENDERERS.put(char.class,
+                                     (buffer, array, index) -> buffer.append('\'').append(((char[]) array)[index])
+                                                                     .append('\''));
+    STANDARD_PRIMITIVE_RENDERERS.put(short.class, (buffer, array, index) -> buffer.append(((short[]) array)[index]));
+    STANDARD_PRIMITIVE_RENDERERS.put(int.class, (buffer, array, index) -> buffer.append(((int[]) array)[index]));
+    STANDARD_PRIMITIVE_RENDERERS.put(long.class,
+                                     (buffer, array, index) -> buffer.append(((long[]) array)[index]).append('L'));
+    STANDARD_PRIMITIVE_RENDERERS.put(float.class,
+                                     (buffer, array, index) -> buffer.append(((float[]) array)[index]).append('f'));
+    STANDARD_PRIMITIVE_RENDERERS.put(double.class,
+                                     (buffer, array, index) -> buffer.append(((double[]) array)[index]));
+  }
+
   public String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation) {
     if (iterable == null) return null;
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
     // iterable has some elements
     StringBuilder desc = new StringBuilder(start);
+    int maxElementsForPrinting = configuration().getMaxElementsForPrinting();
     boolean firstElement = true;
     int printedElements = 0;
     while (true) {
@@ -487,10 +848,29 @@ public class StandardRepresentation implements Representation {
     }
   }
 
+  /**
+   * Formats the given {@code Iterable} on multiple lines.
+   *
+   * @param iterable the {@code Iterable} to format.
+   * @return the multiple lines representation of the given {@code Iterable}.
+   * @deprecated no longer called by {@link #smartFormat(Iterable)}, which formats each element once to choose between a
+   *             single line and a multiple lines description, override {@link #toStringOf(Object)} instead to
+   *             customize the representation of the elements.
+   */
+  @Deprecated
   protected String multiLineFormat(Iterable<?> iterable) {
     return format(iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE);
   }
 
+  /**
+   * Formats the given {@code Iterable} on a single line, this is used for tuples, {@link #smartFormat(Iterable)} does
+   * not call it.
+   *
+   * @param iterable the {@code Iterable} to format.
+   * @param start the start of the representation.
+   * @param end the end of the representation.
+   * @return the single line representation of the given {@code Iterable}.
+   */
   protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
     return format(iterable, start, end, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE);
   }
@@ -499,19 +879,101 @@ public class StandardRepresentation implements Representation {
    * Returns the {@code String} representation of the given {@code Iterable}, or {@code null} if the given
    * {@code Iterable} is {@code null}.
    * <p>
-   * The {@code Iterable} will be formatted to a single line if it does not exceed 100 char, otherwise each elements
-   * will be formatted on a new line with 4 space indentation.
+   * The {@code Iterable} will be formatted to a single line if it does not exceed
+   * {@link RepresentationConfiguration#getMaxLengthForSingleLineDescription() maxLengthForSingleLineDescription}
+   * chars, otherwise each elements will be formatted on a new line with 4 space indentation. Each element is formatted
+   * once and the formatted elements are truncated once they exceed
+   * {@link RepresentationConfiguration#getMaxLengthForPrinting() maxLengthForPrinting} chars.
    *
    * @param iterable the {@code Iterable} to format.
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (iterable == null) return null;
+    RenderedElements elements = new RenderedElements(configuration());
+    for (Object element : iterable) {
+      if (!elements.acceptsNextElement()) break;
+      elements.add(element == iterable ? "(this Collection)" : toStringOf(element));
+    }
+    return elements.format(DEFAULT_START, DEFAULT_END);
   }
 
-  private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() < maxLengthForSingleLineDescription;
-  }
+  /**
+   * The elements of an iterable or an array formatted once to choose between a single line and a multiple lines
+   * description, their total length is bounded by {@link RepresentationConfiguration#getMaxLengthForPrinting()}.
+   */
+  private static final class RenderedElements {
+
+    private final int maxElements;
+    private final int maxLength;
+    private final int maxLengthForSingleLine;
+    private final List<String> elements = new ArrayList<>();
+    // the elements formatted differently on multiple lines (nested arrays) by index, only formatted if needed
+    private final Map<Integer, Supplier<String>> multiLineElements = new HashMap<>();
+    private int length;
+    private boolean full;
+
+    private RenderedElements(RepresentationConfiguration configuration) {
+      maxElements = configuration.getMaxElementsForPrinting();
+      maxLength = configuration.getMaxLengthForPrinting();
+      maxLengthForSingleLine = configuration.getMaxLengthForSingleLineDescription();
+    }
+
+    /**
+     * To be called before formatting each element, returns false if there is no room for it.
+     */
+    private boolean acceptsNextElement() {
+      if (full) return false;
+      if (elements.size() < maxElements) return true;
+      elements.add(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+      length += DEFAULT_MAX_ELEMENTS_EXCEEDED.length();
+      full = true;
+      return false;
+    }
+
+    private void add(String element) {
+      // like StringBuilder.append(null)
+      if (element == null) element = NULL;
+      int remainingLength = maxLength - length;
+      if (element.length() > remainingLength) {
+        element = truncate(element, remainingLength);
+        full = true;
+      }
+      elements.add(element);
+      length += element.length();
+    }
+
+    private void add(String singleLineElement, Supplier<String> multiLineElement) {
+      int remainingLength = maxLength - length;
+      add(singleLineElement);
+      multiLineElements.put(elements.size() - 1, () -> {
+        String element = multiLineElement.get();
+        return element.length() > remainingLength ? truncate(element, remainingLength) : element;
+      });
+    }
 
+    private String truncate(String element, int remainingLength) {
+      return element.substring(0, Math.max(remainingLength, 0)) + TRUNCATED;
+    }
+
+    private String format(String start, String end) {
+      String singleLineSeparator = ELEMENT_SEPARATOR + INDENTATION_FOR_SINGLE_LINE;
+      int singleLineLength = start.length() + length + end.length()
+                             + Math.max(elements.size() - 1, 0) * singleLineSeparator.length();
+      if (singleLineLength < maxLengthForSingleLine) {
+        return join(start, end, singleLineSeparator, singleLineLength, false);
+      }
+      return join(start, end, ELEMENT_SEPARATOR_WITH_NEWLINE + INDENTATION_AFTER_NEWLINE, singleLineLength, true);
+    }
+
+    private String join(String start, String end, String separator, int capacity, boolean multiLine) {
+      StringBuilder description = new StringBuilder(capacity).append(start);
+      for (int i = 0; i < elements.size(); i++) {
+        if (i != 0) description.append(separator);
+        Supplier<String> multiLineElement = multiLine ? multiLineElements.get(i) : null;
+        description.append(multiLineElement == null ? elements.get(i) : multiLineElement.get());
+      }
+      return description.append(end).toString();
+    }
+  }
 }
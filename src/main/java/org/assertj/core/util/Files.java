@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static java.io.File.separator;
+import static java.nio.charset.CodingErrorAction.REPLACE;
 import static org.assertj.core.util.Arrays.isNullOrEmpty;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
@@ -24,12 +25,18 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.assertj.core.api.exception.RuntimeIOException;
 
@@ -310,6 +317,98 @@ public class Files {
     return linesOf(file, Charset.forName(charsetName));
   }
 
+  /**
+   * Returns a lazily populated stream of the lines of a file, the lines are read as the stream is consumed so that
+   * even very big files can be processed in constant memory. The line endings are either \n, \r or \r\n.
+   * <p>
+   * The returned stream holds an open file and must be closed, typically with a try-with-resources statement.
+   * <p>
+   * Like in {@link #linesOf(File, Charset)}, malformed or unmappable bytes are replaced by the charset replacement
+   * string.
+   * 
+   * @param file the file.
+   * @param charset the character set to use.
+   * @return the lines of the file.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws RuntimeIOException if an I/O exception occurs when opening the file.
+   * @throws java.io.UncheckedIOException if an I/O exception occurs when reading the file.
+   */
+  public static Stream<String> linesStreamOf(File file, Charset charset) {
+    checkNotNull(charset, "The charset should not be null");
+    try {
+      return linesStreamOf(new FileInputStream(file), charset);
+    } catch (IOException e) {
+      throw new RuntimeIOException("Unable to read " + file.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Returns a lazily populated stream of the lines of the given content, the lines are read as the stream is consumed.
+   * The line endings are either \n, \r or \r\n.
+   * <p>
+   * Closing the returned stream closes the given content. Like in {@link #linesOf(File, Charset)}, malformed or
+   * unmappable bytes are replaced by the charset replacement string.
+   * 
+   * @param content the content to read the lines of.
+   * @param charset the character set to use.
+   * @return the lines of the content.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws java.io.UncheckedIOException if an I/O exception occurs when reading the content.
+   */
+  public static Stream<String> linesStreamOf(InputStream content, Charset charset) {
+    checkNotNull(charset, "The charset should not be null");
+    CharsetDecoder decoder = charset.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+    BufferedReader reader = new BufferedReader(new InputStreamReader(content, decoder));
+    return reader.lines().onClose(() -> {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Returns a lazily populated stream of the lines of a file, the lines are read as the stream is consumed so that
+   * even very big files can be processed in constant memory. The line endings are either \n, \r or \r\n.
+   * <p>
+   * The returned stream holds an open file and must be closed, typically with a try-with-resources statement.
+   * 
+   * @param file the file.
+   * @param charsetName the name of the character set to use.
+   * @return the lines of the file.
+   * @throws IllegalArgumentException if the given character set is not supported on this platform.
+   * @throws RuntimeIOException if an I/O exception occurs when opening the file.
+   * @throws java.io.UncheckedIOException if an I/O exception occurs when reading the file.
+   */
+  public static Stream<String> linesStreamOf(File file, String charsetName) {
+    checkArgumentCharsetIsSupported(charsetName);
+    return linesStreamOf(file, Charset.forName(charsetName));
+  }
+
+  /**
+   * Returns a stream on the decompressed content of a gzip file, the content is inflated as the stream is read so that
+   * it is never written to disk nor fully loaded in memory.
+   * <p>
+   * The returned stream holds an open file and must be closed, typically with a try-with-resources statement.
+   * 
+   * @param path the gzip file.
+   * @return the decompressed content of the file.
+   * @throws NullPointerException if the given path is {@code null}.
+   * @throws RuntimeIOException if an I/O exception occurs when opening the file or if it is not in the gzip format.
+   */
+  public static InputStream gzipContentOf(Path path) {
+    checkNotNull(path, "The path of the gzip file should not be null");
+    InputStream compressed = null;
+    try {
+      compressed = java.nio.file.Files.newInputStream(path);
+      return new GZIPInputStream(compressed);
+    } catch (IOException e) {
+      Closeables.closeQuietly(compressed);
+      throw new RuntimeIOException("Unable to read gzip content of " + path, e);
+    }
+  }
+
   private static List<String> loadLines(File file, Charset charset) throws IOException {
     try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), charset))) {
       List<String> strings = Lists.newArrayList();
@@ -19,9 +19,42 @@ public class Hexadecimals {
 
   protected static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
 
+  // the two hexadecimal digits of each unsigned byte value, starting at twice that value
+  private static final char[] BYTE_TO_HEX = new char[2 * 256];
+
+  static {
+    for (int v = 0; v < 256; v++) {
+      BYTE_TO_HEX[2 * v] = HEX_ARRAY[v >>> 4];
+      BYTE_TO_HEX[2 * v + 1] = HEX_ARRAY[v & 0x0F];
+    }
+  }
+
   public static String byteToHexString(Byte b) {
-    int v = b & 0xFF;
-    return new String(new char[]{HEX_ARRAY[v >>> 4], HEX_ARRAY[v & 0x0F]});
+    return new String(BYTE_TO_HEX, 2 * (b & 0xFF), 2);
+  }
+
+  /**
+   * Appends the two uppercase hexadecimal digits of the given byte to the given buffer, without creating any object.
+   *
+   * @param buffer the buffer to append to.
+   * @param b the byte to append.
+   * @return the given buffer.
+   */
+  public static StringBuilder appendHex(StringBuilder buffer, byte b) {
+    int index = 2 * (b & 0xFF);
+    return buffer.append(BYTE_TO_HEX[index]).append(BYTE_TO_HEX[index + 1]);
+  }
+
+  /**
+   * Appends the four uppercase hexadecimal digits of the given {@code char}, or {@code short} value, to the given
+   * buffer, without creating any object.
+   *
+   * @param buffer the buffer to append to.
+   * @param value the value to append.
+   * @return the given buffer.
+   */
+  public static StringBuilder appendHex(StringBuilder buffer, char value) {
+    return appendHex(appendHex(buffer, (byte) (value >>> 8)), (byte) value);
   }
 
   private Hexadecimals() {
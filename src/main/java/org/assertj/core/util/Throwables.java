@@ -12,12 +12,19 @@
  */
 package org.assertj.core.util;
 
+import static java.lang.invoke.MethodType.methodType;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Utility methods related to <code>{@link Throwable}</code>s.
@@ -29,6 +36,7 @@ public final class Throwables {
   private static final String ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER = "org.assertj.core.error.ConstructorInvoker";
   private static final String JAVA_LANG_REFLECT_CONSTRUCTOR = "java.lang.reflect.Constructor";
   private static final String ORG_ASSERTJ = "org.assert";
+  private static final String THROWABLES = Throwables.class.getName();
 
   /**
    * Appends the stack trace of the current thread to the one in the given <code>{@link Throwable}</code>.
@@ -109,6 +117,139 @@ public final class Throwables {
   }
 
 
+  /**
+   * Returns the first elements of the stack trace of the current thread, starting from the caller of this method.
+   * <p>
+   * On Java 9+, the stack is walked with a {@code StackWalker} and only the returned elements are created, older JVMs
+   * fall back to capturing the whole stack trace.
+   *
+   * @param maxElements the maximum number of elements to return.
+   * @param removeAssertJRelatedElements whether to leave out the elements related to AssertJ.
+   * @return the first elements of the stack trace of the current thread.
+   */
+  public static StackTraceElement[] stackTraceInCurrentThread(int maxElements, boolean removeAssertJRelatedElements) {
+    StackTraceElementCollector collector = new StackTraceElementCollector(maxElements, removeAssertJRelatedElements);
+    if (StackWalkerHandles.available()) return StackWalkerHandles.walk(collector);
+    for (StackTraceElement element : new Throwable().getStackTrace()) {
+      if (collector.isFull()) break;
+      collector.add(element.getClassName(), element);
+    }
+    return collector.elements();
+  }
+
+  /**
+   * Collects the stack trace elements following the ones of this class, the elements are only created if they are
+   * collected.
+   */
+  private static class StackTraceElementCollector {
+
+    private final List<StackTraceElement> elements = new ArrayList<>();
+    private final int maxElements;
+    private final boolean removeAssertJRelatedElements;
+    private boolean callerReached;
+
+    StackTraceElementCollector(int maxElements, boolean removeAssertJRelatedElements) {
+      this.maxElements = maxElements;
+      this.removeAssertJRelatedElements = removeAssertJRelatedElements;
+    }
+
+    void add(String className, Object element) {
+      boolean isThrowablesElement = className.equals(THROWABLES) || className.startsWith(THROWABLES + "$");
+      if (!callerReached) {
+        // skip the frames of this class and of the stack walking above them
+        callerReached = isThrowablesElement;
+        return;
+      }
+      if (isThrowablesElement) return;
+      if (removeAssertJRelatedElements && className.contains(ORG_ASSERTJ)) return;
+      elements.add(element instanceof StackTraceElement ? (StackTraceElement) element
+          : StackWalkerHandles.toStackTraceElement(element));
+    }
+
+    boolean isFull() {
+      return elements.size() >= maxElements;
+    }
+
+    StackTraceElement[] elements() {
+      return elements.toArray(new StackTraceElement[elements.size()]);
+    }
+  }
+
+  /**
+   * Method handles on {@code java.lang.StackWalker}, only available from Java 9.
+   */
+  private static final class StackWalkerHandles {
+
+    private static final Object STACK_WALKER;
+    private static final MethodHandle WALK;
+    private static final MethodHandle GET_CLASS_NAME;
+    private static final MethodHandle TO_STACK_TRACE_ELEMENT;
+
+    static {
+      Object stackWalker = null;
+      MethodHandle walk = null;
+      MethodHandle getClassName = null;
+      MethodHandle toStackTraceElement = null;
+      try {
+        Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+        Class<?> stackFrameClass = Class.forName("java.lang.StackWalker$StackFrame");
+        Class<?> optionClass = Class.forName("java.lang.StackWalker$Option");
+        Lookup lookup = MethodHandles.publicLookup();
+        // reflection frames are kept to get the same elements as Throwable.getStackTrace()
+        Object showReflectFrames = optionClass.getField("SHOW_REFLECT_FRAMES").get(null);
+        stackWalker = lookup.findStatic(stackWalkerClass, "getInstance", methodType(stackWalkerClass, optionClass))
+                            .invoke(showReflectFrames);
+        walk = lookup.findVirtual(stackWalkerClass, "walk", methodType(Object.class, Function.class));
+        getClassName = lookup.findVirtual(stackFrameClass, "getClassName", methodType(String.class));
+        toStackTraceElement = lookup.findVirtual(stackFrameClass, "toStackTraceElement",
+                                                 methodType(StackTraceElement.class));
+      } catch (Throwable notAvailable) {
+        stackWalker = null;
+      }
+      STACK_WALKER = stackWalker;
+      WALK = walk;
+      GET_CLASS_NAME = getClassName;
+      TO_STACK_TRACE_ELEMENT = toStackTraceElement;
+    }
+
+    static boolean available() {
+      return STACK_WALKER != null;
+    }
+
+    static StackTraceElement[] walk(StackTraceElementCollector collector) {
+      Function<Stream<?>, StackTraceElement[]> collectFrames = frames -> {
+        for (Iterator<?> iterator = frames.iterator(); iterator.hasNext() && !collector.isFull();) {
+          Object frame = iterator.next();
+          collector.add(className(frame), frame);
+        }
+        return collector.elements();
+      };
+      try {
+        return (StackTraceElement[]) WALK.invoke(STACK_WALKER, collectFrames);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private static String className(Object frame) {
+      try {
+        return (String) GET_CLASS_NAME.invoke(frame);
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    static StackTraceElement toStackTraceElement(Object frame) {
+      try {
+        return (StackTraceElement) TO_STACK_TRACE_ELEMENT.invoke(frame);
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
   /**
    * Get the root cause (ie the last non null cause) from a {@link Throwable}.
    * 
@@ -20,6 +20,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.assertj.core.util.diff.myers.MyersDiff;
+import org.assertj.core.util.diff.myers.MyersDiffWithLinearSpace;
 
 /**
  * Copy from https://code.google.com/p/java-diff-utils/.
@@ -49,6 +50,42 @@ public class DiffUtils {
     return DiffUtils.diff(original, revised, new MyersDiff<T>());
   }
 
+  /**
+   * Computes the difference between the original and revised list of elements
+   * with the linear space variant of the Myers algorithm, better suited to big
+   * lists than the default one.
+   *
+   * @param <T> the type of elements.
+   * @param original
+   *            The original text. Must not be {@code null}.
+   * @param revised
+   *            The revised text. Must not be {@code null}.
+   * @return The patch describing the difference between the original and
+   *         revised sequences. Never {@code null}.
+   * @see MyersDiffWithLinearSpace
+   */
+  public static <T> Patch<T> diffWithLinearSpace(List<T> original, List<T> revised) {
+    return DiffUtils.diff(original, revised, new MyersDiffWithLinearSpace<T>());
+  }
+
+  /**
+   * Computes the difference between the original and revised list of elements
+   * with the histogram diff algorithm, giving smaller deltas than the default
+   * one on texts with many repeated lines.
+   *
+   * @param <T> the type of elements.
+   * @param original
+   *            The original text. Must not be {@code null}.
+   * @param revised
+   *            The revised text. Must not be {@code null}.
+   * @return The patch describing the difference between the original and
+   *         revised sequences. Never {@code null}.
+   * @see HistogramDiff
+   */
+  public static <T> Patch<T> diffWithHistogram(List<T> original, List<T> revised) {
+    return DiffUtils.diff(original, revised, new HistogramDiff<T>());
+  }
+
   /**
    * Computes the difference between the original and revised list of elements
    * with default diff algorithm
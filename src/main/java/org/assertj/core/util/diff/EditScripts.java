@@ -0,0 +1,89 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers shared by the diff algorithms marking the edited elements of {@code int} ids sequences, like
+ * {@link HistogramDiff} and {@link org.assertj.core.util.diff.myers.MyersDiffWithLinearSpace}.
+ */
+public final class EditScripts {
+
+  private EditScripts() {}
+
+  /**
+   * Maps the given elements to {@code int} ids, equal elements having the same id.
+   *
+   * @param <T> the type of elements.
+   * @param elements the elements to map.
+   * @param ids the ids of the elements already mapped, updated with the new elements.
+   * @return the ids of the given elements, in the same order.
+   */
+  public static <T> int[] idsOf(List<T> elements, Map<T, Integer> ids) {
+    int[] elementIds = new int[elements.size()];
+    int index = 0;
+    for (T element : elements) {
+      Integer id = ids.get(element);
+      if (id == null) {
+        id = ids.size();
+        ids.put(element, id);
+      }
+      elementIds[index++] = id;
+    }
+    return elementIds;
+  }
+
+  /**
+   * Builds the patch from the marked elements, the longest runs of consecutive insertions and deletions giving one
+   * delta like in {@link org.assertj.core.util.diff.myers.MyersDiff}.
+   *
+   * @param <T> the type of elements.
+   * @param orig the original sequence.
+   * @param rev the revised sequence.
+   * @param deleted whether each element of the original sequence is deleted.
+   * @param inserted whether each element of the revised sequence is inserted.
+   * @return the patch transforming the original sequence into the revised one.
+   */
+  public static <T> Patch<T> buildRevision(List<T> orig, List<T> rev, boolean[] deleted, boolean[] inserted) {
+    Patch<T> patch = new Patch<>();
+    int i = 0;
+    int j = 0;
+    while (i < orig.size() || j < rev.size()) {
+      // unchanged elements of both sequences are matched in order
+      if (i < orig.size() && j < rev.size() && !deleted[i] && !inserted[j]) {
+        i++;
+        j++;
+        continue;
+      }
+      int ianchor = i;
+      int janchor = j;
+      while (i < orig.size() && deleted[i]) i++;
+      while (j < rev.size() && inserted[j]) j++;
+      Chunk<T> original = new Chunk<>(ianchor, new ArrayList<>(orig.subList(ianchor, i)));
+      Chunk<T> revised = new Chunk<>(janchor, new ArrayList<>(rev.subList(janchor, j)));
+      Delta<T> delta;
+      if (original.size() == 0 && revised.size() != 0) {
+        delta = new InsertDelta<>(original, revised);
+      } else if (original.size() > 0 && revised.size() == 0) {
+        delta = new DeleteDelta<>(original, revised);
+      } else {
+        delta = new ChangeDelta<>(original, revised);
+      }
+      patch.addDelta(delta);
+    }
+    return patch;
+  }
+}
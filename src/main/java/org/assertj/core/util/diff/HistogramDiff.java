@@ -0,0 +1,195 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import static java.util.Arrays.fill;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.diff.EditScripts.buildRevision;
+import static org.assertj.core.util.diff.EditScripts.idsOf;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.util.diff.myers.MyersDiffWithLinearSpace;
+
+/**
+ * A histogram differencing algorithm, an extension of the patience diff in the spirit of the one of git/JGit.
+ * <p>
+ * The compared ranges are split around their longest common run of elements containing the elements occurring the
+ * least in the original range (ideally once, like the patience diff unique lines), the ranges before and after that
+ * run are then compared the same way. This gives deltas that follow the structure of the text when it has many repeated
+ * lines (blank lines, braces, repeated CSV or log entries) and runs in near linear time on typical inputs.
+ * <p>
+ * Ranges whose common elements all occur more than {@value #MAX_CHAIN_LENGTH} times are compared with
+ * {@link MyersDiffWithLinearSpace}.
+ * <p>
+ * Deltas are built the same way as the Myers ones, the longest runs of consecutive insertions and deletions giving one
+ * delta.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class HistogramDiff<T> implements DiffAlgorithm<T> {
+
+  /** Elements occurring more than this number of times in a range are not used to split it. */
+  public static final int MAX_CHAIN_LENGTH = 64;
+
+  private static final int NONE = -1;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Patch<T> diff(final List<T> original, final List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    Map<T, Integer> ids = new HashMap<>();
+    int[] originalIds = idsOf(original, ids);
+    int[] revisedIds = idsOf(revised, ids);
+    EditScript script = new EditScript(originalIds, revisedIds, ids.size());
+    Deque<int[]> ranges = new ArrayDeque<>();
+    ranges.push(new int[] { 0, originalIds.length, 0, revisedIds.length });
+    while (!ranges.isEmpty()) {
+      int[] range = ranges.pop();
+      script.compare(range[0], range[1], range[2], range[3], ranges, original, revised);
+    }
+    return buildRevision(original, revised, script.deleted, script.inserted);
+  }
+
+  /**
+   * Marks the deleted elements of the original sequence and the inserted elements of the revised one.
+   */
+  private static final class EditScript {
+
+    private final int[] original;
+    private final int[] revised;
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    // histogram of the original range being compared: occurrences count and last position by id, previous position
+    // of the same id by position
+    private final int[] occurrences;
+    private final int[] lastPosition;
+    private final int[] previousPosition;
+    // the run found by findSplittingRun
+    private int runOriginalStart;
+    private int runRevisedStart;
+    private int runLength;
+    private boolean hasCommonElements;
+
+    EditScript(int[] original, int[] revised, int idCount) {
+      this.original = original;
+      this.revised = revised;
+      deleted = new boolean[original.length];
+      inserted = new boolean[revised.length];
+      occurrences = new int[idCount];
+      lastPosition = new int[idCount];
+      fill(lastPosition, NONE);
+      previousPosition = new int[original.length];
+    }
+
+    <T> void compare(int xoff, int xlim, int yoff, int ylim, Deque<int[]> ranges, List<T> orig, List<T> rev) {
+      while (xoff < xlim && yoff < ylim && original[xoff] == revised[yoff]) {
+        xoff++;
+        yoff++;
+      }
+      while (xlim > xoff && ylim > yoff && original[xlim - 1] == revised[ylim - 1]) {
+        xlim--;
+        ylim--;
+      }
+      if (xoff == xlim || yoff == ylim) {
+        mark(inserted, yoff, ylim);
+        mark(deleted, xoff, xlim);
+        return;
+      }
+      boolean found = findSplittingRun(xoff, xlim, yoff, ylim);
+      if (found) {
+        // the range after the run is pushed first to compare the ranges in order
+        ranges.push(new int[] { runOriginalStart + runLength, xlim, runRevisedStart + runLength, ylim });
+        ranges.push(new int[] { xoff, runOriginalStart, yoff, runRevisedStart });
+      } else if (!hasCommonElements) {
+        mark(inserted, yoff, ylim);
+        mark(deleted, xoff, xlim);
+      } else {
+        // only frequent common elements, fall back to Myers
+        Patch<T> patch = new MyersDiffWithLinearSpace<T>().diff(orig.subList(xoff, xlim), rev.subList(yoff, ylim));
+        for (Delta<T> delta : patch.getDeltas()) {
+          int originalStart = xoff + delta.getOriginal().getPosition();
+          mark(deleted, originalStart, originalStart + delta.getOriginal().size());
+          int revisedStart = yoff + delta.getRevised().getPosition();
+          mark(inserted, revisedStart, revisedStart + delta.getRevised().size());
+        }
+      }
+    }
+
+    /**
+     * Finds the longest common run of the ranges containing the elements with the lowest occurrences count in the
+     * original range.
+     *
+     * @return false if no common element occurs at most {@link HistogramDiff#MAX_CHAIN_LENGTH} times.
+     */
+    private boolean findSplittingRun(int xoff, int xlim, int yoff, int ylim) {
+      for (int x = xoff; x < xlim; x++) {
+        int id = original[x];
+        previousPosition[x] = lastPosition[id];
+        lastPosition[id] = x;
+        occurrences[id]++;
+      }
+      hasCommonElements = false;
+      runLength = 0;
+      int lowestOccurrences = MAX_CHAIN_LENGTH;
+      for (int y = yoff; y < ylim;) {
+        int id = revised[y];
+        int nextY = y + 1;
+        if (occurrences[id] > 0) hasCommonElements = true;
+        if (occurrences[id] > 0 && occurrences[id] <= lowestOccurrences) {
+          for (int x = lastPosition[id]; x != NONE; x = previousPosition[x]) {
+            int runOccurrences = occurrences[id];
+            int runStartX = x, runStartY = y;
+            while (runStartX > xoff && runStartY > yoff && original[runStartX - 1] == revised[runStartY - 1]) {
+              runStartX--;
+              runStartY--;
+              runOccurrences = Math.min(runOccurrences, occurrences[original[runStartX]]);
+            }
+            int runEndX = x + 1, runEndY = y + 1;
+            while (runEndX < xlim && runEndY < ylim && original[runEndX] == revised[runEndY]) {
+              runOccurrences = Math.min(runOccurrences, occurrences[original[runEndX]]);
+              runEndX++;
+              runEndY++;
+            }
+            if (runLength < runEndX - runStartX || runOccurrences < lowestOccurrences) {
+              runOriginalStart = runStartX;
+              runRevisedStart = runStartY;
+              runLength = runEndX - runStartX;
+              lowestOccurrences = runOccurrences;
+            }
+            // the elements of the run have already been considered
+            nextY = Math.max(nextY, runEndY);
+          }
+        }
+        y = nextY;
+      }
+      // reset the histogram for the next range
+      for (int x = xoff; x < xlim; x++) {
+        occurrences[original[x]] = 0;
+        lastPosition[original[x]] = NONE;
+      }
+      return runLength > 0;
+    }
+
+    private static void mark(boolean[] edited, int from, int to) {
+      for (int i = from; i < to; i++) edited[i] = true;
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.diff.EditScripts.buildRevision;
+import static org.assertj.core.util.diff.EditScripts.idsOf;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * A variant of Eugene Myers differencing algorithm, see
+ * <a href="http://www.xmailserver.org/diff2.pdf">An O(ND) Difference Algorithm and Its Variations</a>, using less
+ * memory than {@link MyersDiff} while computing the same {@link Patch}.
+ * <p>
+ * Elements are first mapped to {@code int} ids (equal elements having the same id) so that the algorithm only compares
+ * {@code int}s. The furthest reaching paths are then searched with the same rules as {@link MyersDiff} on an
+ * {@code int[]} diagonal vector, instead of keeping the nodes of all explored paths. To find the path without keeping
+ * every step, the search is run again on halves of the steps (saving the vector at the first step of each half), which
+ * multiplies the search time by the logarithm of the number of edits. Memory is linear in the size of the compared
+ * sequences times that logarithm.
+ * <p>
+ * The chosen path and the deltas built from it are the same as {@link MyersDiff} ones, the longest runs of
+ * consecutive insertions and deletions giving one delta.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class MyersDiffWithLinearSpace<T> implements DiffAlgorithm<T> {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Patch<T> diff(final List<T> original, final List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    Map<T, Integer> ids = new HashMap<>();
+    int[] originalIds = idsOf(original, ids);
+    int[] revisedIds = idsOf(revised, ids);
+    EditScript script = new EditScript(originalIds, revisedIds);
+    script.compare();
+    return buildRevision(original, revised, script.deleted, script.inserted);
+  }
+
+  /**
+   * Marks the deleted elements of the original sequence and the inserted elements of the revised one along the path
+   * that {@link MyersDiff} would choose.
+   * <p>
+   * Diagonals are identified by {@code k = x - y} where {@code x} is an index in the original sequence and {@code y}
+   * one in the revised sequence, the vector holds the furthest {@code x} reached on each diagonal after a number of
+   * edits (a step). The search uses the same rules as {@link MyersDiff} but only keeps the vector of the current step,
+   * the diagonal the path goes through at each step is found by running the search again on halves of the steps,
+   * keeping the vector of the first step of each half and tracking from which diagonal of the middle step each
+   * diagonal was reached. Once the choices made on every diagonal of the remaining steps fit in a bit set as big as the
+   * vector, they are recorded and the path is read back from them.
+   */
+  private static final class EditScript {
+
+    private static final int NO_DIAGONAL = Integer.MIN_VALUE;
+
+    private final int[] original;
+    private final int[] revised;
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    private final int[] vector;
+    private final int[] middleDiagonals;
+    // for each step and diagonal, whether the diagonal was reached from the upper one (an insertion)
+    private long[] insertions;
+    private long maxChoices;
+    // index of diagonal 0 in the vectors, diagonals range from -(original.length + revised.length + 1) to
+    // original.length + revised.length + 1
+    private final int diagonalOffset;
+    // diagonal of the path after each step
+    private int[] pathDiagonals;
+
+    EditScript(int[] original, int[] revised) {
+      this.original = original;
+      this.revised = revised;
+      deleted = new boolean[original.length];
+      inserted = new boolean[revised.length];
+      diagonalOffset = original.length + revised.length + 1;
+      vector = new int[2 * diagonalOffset + 1];
+      middleDiagonals = new int[2 * diagonalOffset + 1];
+    }
+
+    void compare() {
+      restore(-1, null);
+      int steps = 0;
+      int lastDiagonal;
+      while ((lastDiagonal = step(steps, false, -1)) == NO_DIAGONAL) {
+        steps++;
+        if (steps >= diagonalOffset) throw new IllegalStateException("could not find a diff path");
+      }
+      pathDiagonals = new int[steps + 1];
+      maxChoices = Math.min(choiceCount(-1, steps), Math.min(64L * vector.length, Integer.MAX_VALUE));
+      insertions = new long[(int) ((maxChoices + 63) / 64)];
+      findPath(null, -1, steps, lastDiagonal);
+      markEdits();
+    }
+
+    /**
+     * Finds the diagonals of the path between two steps, {@code startVector} being the vector after the start step.
+     */
+    private void findPath(int[] startVector, int startStep, int endStep, int endDiagonal) {
+      if (choiceCount(startStep, endStep) <= maxChoices) {
+        readPath(startVector, startStep, endStep, endDiagonal);
+        return;
+      }
+      int middleStep = (startStep + endStep) / 2;
+      restore(startStep, startVector);
+      for (int d = startStep + 1; d <= middleStep; d++) step(d, false, -1);
+      int[] middleVector = Arrays.copyOfRange(vector, diagonalOffset - middleStep, diagonalOffset + middleStep + 1);
+      for (int k = -middleStep; k <= middleStep; k += 2) middleDiagonals[diagonalOffset + k] = k;
+      for (int d = middleStep + 1; d <= endStep; d++) step(d, true, -1);
+      int middleDiagonal = middleDiagonals[diagonalOffset + endDiagonal];
+      findPath(startVector, startStep, middleStep, middleDiagonal);
+      findPath(middleVector, middleStep, endStep, endDiagonal);
+    }
+
+    private void readPath(int[] startVector, int startStep, int endStep, int endDiagonal) {
+      restore(startStep, startVector);
+      int firstChoice = 0;
+      for (int d = startStep + 1; d <= endStep; d++) {
+        step(d, false, firstChoice);
+        firstChoice += d + 1;
+      }
+      int k = endDiagonal;
+      for (int d = endStep; d > startStep; d--) {
+        pathDiagonals[d] = k;
+        firstChoice -= d + 1;
+        int choice = firstChoice + (k + d) / 2;
+        k = (insertions[choice >>> 6] & 1L << choice) != 0 ? k + 1 : k - 1;
+      }
+    }
+
+    // the number of diagonals searched by the steps after startStep up to endStep
+    private static long choiceCount(int startStep, int endStep) {
+      return ((long) endStep + 1) * (endStep + 2) / 2 - ((long) startStep + 1) * (startStep + 2) / 2;
+    }
+
+    private void restore(int step, int[] savedVector) {
+      // before the first step, MyersDiff starts from a node on diagonal 1
+      if (step < 0) vector[diagonalOffset + 1] = 0;
+      else System.arraycopy(savedVector, 0, vector, diagonalOffset - step, savedVector.length);
+    }
+
+    /**
+     * Extends the furthest reaching paths by one edit and the following snake, like {@link MyersDiff} does.
+     *
+     * @param firstChoice the index in {@link #insertions} of the choice made on diagonal {@code -d}, negative to not
+     *          record the choices.
+     * @return the diagonal reaching the end of both sequences, {@link #NO_DIAGONAL} if none does.
+     */
+    private int step(int d, boolean trackMiddleDiagonals, int firstChoice) {
+      for (int k = -d; k <= d; k += 2) {
+        int from;
+        int x;
+        if (k == -d || (k != d && vector[diagonalOffset + k - 1] < vector[diagonalOffset + k + 1])) {
+          from = k + 1;
+          x = vector[diagonalOffset + from];
+          if (firstChoice >= 0) {
+            int choice = firstChoice + (k + d) / 2;
+            insertions[choice >>> 6] |= 1L << choice;
+          }
+        } else {
+          from = k - 1;
+          x = vector[diagonalOffset + from] + 1;
+          if (firstChoice >= 0) {
+            int choice = firstChoice + (k + d) / 2;
+            insertions[choice >>> 6] &= ~(1L << choice);
+          }
+        }
+        int y = x - k;
+        while (x < original.length && y < revised.length && original[x] == revised[y]) {
+          x++;
+          y++;
+        }
+        vector[diagonalOffset + k] = x;
+        if (trackMiddleDiagonals) middleDiagonals[diagonalOffset + k] = middleDiagonals[diagonalOffset + from];
+        if (x >= original.length && y >= revised.length) return k;
+      }
+      return NO_DIAGONAL;
+    }
+
+    private void markEdits() {
+      int x = 0;
+      int y = 0;
+      for (int d = 0; d < pathDiagonals.length; d++) {
+        if (d > 0) {
+          if (pathDiagonals[d] < pathDiagonals[d - 1]) inserted[y++] = true;
+          else deleted[x++] = true;
+        }
+        while (x < original.length && y < revised.length && original[x] == revised[y]) {
+          x++;
+          y++;
+        }
+      }
+    }
+  }
+}
@@ -20,6 +20,7 @@ import java.io.Writer;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.bootstrap.DOMImplementationRegistry;
@@ -38,6 +39,9 @@ import org.xml.sax.InputSource;
 public class XmlStringPrettyFormatter {
 
   private static final String FORMAT_ERROR = "Unable to format XML string";
+  // looking up these factories is costly (DOMImplementationRegistry scans the classpath), do it only once
+  private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+  private static DOMImplementationLS domImplementation;
 
   public static String xmlPrettyFormat(String xmlStringToFormat) {
     checkArgument(xmlStringToFormat != null, "Expecting XML String not to be null");
@@ -48,8 +52,7 @@ public class XmlStringPrettyFormatter {
   private static String prettyFormat(Document document, boolean keepXmlDeclaration) {
 
     try {
-      DOMImplementationRegistry registry = DOMImplementationRegistry.newInstance();
-      DOMImplementationLS domImplementation = (DOMImplementationLS) registry.getDOMImplementation("LS");
+      DOMImplementationLS domImplementation = domImplementation();
       Writer stringWriter = new StringWriter();
       LSOutput formattedOutput = domImplementation.createLSOutput();
       formattedOutput.setCharacterStream(stringWriter);
@@ -64,16 +67,31 @@ public class XmlStringPrettyFormatter {
     }
   }
 
+  private static synchronized DOMImplementationLS domImplementation() throws Exception {
+    if (domImplementation == null) {
+      DOMImplementationRegistry registry = DOMImplementationRegistry.newInstance();
+      domImplementation = (DOMImplementationLS) registry.getDOMImplementation("LS");
+    }
+    return domImplementation;
+  }
+
   private static Document toXmlDocument(String xmlString) {
     try {
       InputSource xmlInputSource = new InputSource(new StringReader(xmlString));
-      DocumentBuilder xmlDocumentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+      DocumentBuilder xmlDocumentBuilder = newDocumentBuilder();
       return xmlDocumentBuilder.parse(xmlInputSource);
     } catch (Exception e) {
       throw new RuntimeException(FORMAT_ERROR, e);
     }
   }
 
+  private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+    // DocumentBuilderFactory is not guaranteed to be thread safe
+    synchronized (DOCUMENT_BUILDER_FACTORY) {
+      return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+    }
+  }
+
   private XmlStringPrettyFormatter() {
     // utility class
   }
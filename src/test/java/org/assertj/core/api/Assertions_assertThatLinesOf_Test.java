@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatLinesOf;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link Assertions#assertThatLinesOf(Path)}</code> and
+ * <code>{@link Assertions#assertThatLinesOf(Path, Charset)}</code>.
+ */
+public class Assertions_assertThatLinesOf_Test {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path actual;
+
+  @Before
+  public void setUp() throws IOException {
+    actual = temporaryFolder.newFile("server.log").toPath();
+    Files.write(actual, newArrayList("INFO started", "WARN disk almost full", "INFO stopped"), UTF_8);
+  }
+
+  @Test
+  public void should_create_Assert() {
+    AbstractLinesAssert<?> assertions = assertThatLinesOf(actual);
+    assertThat(assertions).isNotNull();
+  }
+
+  @Test
+  public void should_pass_actual() {
+    AbstractLinesAssert<?> assertions = assertThatLinesOf(actual);
+    assertThat(assertions.actual).isSameAs(actual);
+  }
+
+  @Test
+  public void should_use_default_charset_if_none_is_given() {
+    assertThat(assertThatLinesOf(actual).charset).isEqualTo(Charset.defaultCharset());
+  }
+
+  @Test
+  public void should_use_given_charset() {
+    assertThat(assertThatLinesOf(actual, ISO_8859_1).charset).isEqualTo(ISO_8859_1);
+  }
+
+  @Test
+  public void should_read_lines_of_actual() {
+    assertThatLinesOf(actual, UTF_8).contains("WARN disk almost full")
+                                    .doesNotContain("ERROR")
+                                    .anyMatch(line -> line.startsWith("WARN"))
+                                    .allMatch(line -> !line.isEmpty())
+                                    .noneMatch(line -> line.startsWith("ERROR"))
+                                    .hasSize(3);
+  }
+
+  @Test
+  public void should_replace_malformed_input_like_linesOf() throws IOException {
+    Path malformed = temporaryFolder.newFile("malformed.log").toPath();
+    // 0xFF is never valid in UTF-8
+    Files.write(malformed, new byte[] { 'L', 'u', 'k', 'e', '\n', 'Y', (byte) 0xFF, 'd', 'a' });
+    assertThatLinesOf(malformed, UTF_8).contains("Luke", "Y\uFFFDda")
+                                       .hasSize(2);
+  }
+
+  @Test
+  public void should_fail_if_a_line_does_not_match() {
+    Throwable error = catchThrowable(() -> assertThatLinesOf(actual, UTF_8).allMatch(line -> line.startsWith("INFO"),
+                                                                                   "info line"));
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("WARN disk almost full")
+                     .hasMessageContaining("info line");
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for soft assertions errors created without stack trace, see {@link Fail#setStacklessSoftAssertionErrors(boolean)}.
+ */
+public class SoftAssertions_stackless_errors_Test {
+
+  @After
+  public void tearDown() {
+    Fail.setStacklessSoftAssertionErrors(false);
+  }
+
+  @Test
+  public void should_collect_errors_with_the_stack_trace_of_the_collecting_thread() {
+    Fail.setStacklessSoftAssertionErrors(true);
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(5).isLessThan(0);
+    softly.assertThat("Yoda").contains("Luke");
+    List<Throwable> errors = softly.errorsCollected();
+    assertThat(errors).hasSize(2);
+    assertThat(errors.get(0).getStackTrace()).isNotEmpty()
+                                             .isEqualTo(errors.get(1).getStackTrace());
+    assertThat(errors.get(0)).hasMessageContaining("to be less than");
+    assertThat(softly.wasSuccess()).isFalse();
+  }
+
+  @Test
+  public void should_collect_errors_with_their_own_stack_trace_by_default() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(5).isLessThan(0);
+    softly.assertThat("Yoda").contains("Luke");
+    List<Throwable> errors = softly.errorsCollected();
+    assertThat(errors).hasSize(2);
+    assertThat(errors.get(0).getStackTrace()).isNotEqualTo(errors.get(1).getStackTrace());
+  }
+
+  @Test
+  public void should_create_errors_with_stack_trace_outside_soft_assertions() {
+    Fail.setStacklessSoftAssertionErrors(true);
+    Throwable error = catchThrowable(() -> assertThat(5).isLessThan(0));
+    assertThat(error.getStackTrace()).isNotEmpty();
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.core.api;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -45,6 +46,8 @@ import java.util.stream.Stream;
 import org.assertj.core.api.exception.RuntimeIOException;
 import org.assertj.core.condition.AnyOf;
 import org.assertj.core.data.MapEntry;
+import org.assertj.core.util.diff.HistogramDiff;
+import org.assertj.core.util.diff.myers.MyersDiff;
 import org.junit.Test;
 
 /**
@@ -503,6 +506,14 @@ public class WithAssertions_delegation_Test implements WithAssertions {
     assertThat(Paths.get(".")).isNotNull();
   }
 
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_assertThatLinesOf_path_Test() {
+    assertThat(assertThatLinesOf(Paths.get("."))).isNotNull();
+  }
+
   /**
    * Test that the delegate method is called.
    */
@@ -642,6 +653,22 @@ public class WithAssertions_delegation_Test implements WithAssertions {
     setRemoveAssertJRelatedElementsFromStackTrace(true);
   }
 
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_setMaxStackTraceElementsDisplayed_Test() {
+    setMaxStackTraceElementsDisplayed(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_setStacklessSoftAssertionErrors_Test() {
+    setStacklessSoftAssertionErrors(false);
+  }
+
   /**
    * Test that the delegate method is called.
    */
@@ -793,5 +820,88 @@ public class WithAssertions_delegation_Test implements WithAssertions {
   public void withAssertions_assertThat_uri_Test() throws URISyntaxException {
     assertThat(new URI("https://github.com/joel-costigliola/assertj-core")).hasHost("github.com");
   }
-}
 
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_useContentDiffAlgorithm_Test() {
+    try {
+      useContentDiffAlgorithm(new HistogramDiff<>());
+    } finally {
+      useContentDiffAlgorithm(new MyersDiff<>());
+    }
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_setMaxLengthForFullStringComparison_Test() {
+    try {
+      setMaxLengthForFullStringComparison(1000);
+    } finally {
+      setMaxLengthForFullStringComparison(64 * 1024);
+    }
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_setStringDiffContextLength_Test() {
+    try {
+      setStringDiffContextLength(10);
+    } finally {
+      setStringDiffContextLength(100);
+    }
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_useStreamingContentDiff_Test() {
+    try {
+      useStreamingContentDiff(1000, 10);
+    } finally {
+      useFullContentDiff();
+    }
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_useFullContentDiff_Test() {
+    useFullContentDiff();
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_assertThat_reader_Test() {
+    assertThat(new StringReader("Luke\nYoda")).hasLineCount(2);
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test(expected = RuntimeIOException.class)
+  public void withAssertions_gzipContentOf_Test() {
+    gzipContentOf(Paths.get("/non-existent file.gz"));
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_setMaxLengthForPrinting_Test() {
+    try {
+      setMaxLengthForPrinting(1000);
+    } finally {
+      setMaxLengthForPrinting(100_000);
+    }
+  }
+}
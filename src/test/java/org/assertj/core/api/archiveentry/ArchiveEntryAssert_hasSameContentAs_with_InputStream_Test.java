@@ -0,0 +1,41 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api.archiveentry;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.InputStream;
+
+import org.assertj.core.api.AbstractArchiveEntryAssert;
+import org.assertj.core.api.ArchiveEntryAssert;
+import org.assertj.core.api.ArchiveEntryAssertBaseTest;
+
+/**
+ * Tests for <code>{@link AbstractArchiveEntryAssert#hasSameContentAs(InputStream)}</code>.
+ */
+public class ArchiveEntryAssert_hasSameContentAs_with_InputStream_Test extends ArchiveEntryAssertBaseTest {
+
+  private final InputStream expected = mock(InputStream.class);
+
+  @Override
+  protected ArchiveEntryAssert invoke_api_method() {
+    return assertions.hasSameContentAs(expected);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(paths).assertEntryHasSameContentAs(getInfo(assertions), getActual(assertions), getEntryName(assertions),
+                                              expected);
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api.charsequence;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.CharSequenceAssert;
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link CharSequenceAssert#lineAt(int)}</code>.
+ */
+public class CharSequenceAssert_lineAt_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private final String multiLine = format("First line%nMiddle line\rLast line");
+
+  @Test
+  public void should_navigate_to_the_line_at_the_given_index() {
+    assertThat(multiLine).lineAt(0).isEqualTo("First line");
+    assertThat(multiLine).lineAt(1).isEqualTo("Middle line");
+    assertThat(new StringBuilder(multiLine)).lineAt(2).isEqualTo("Last line");
+  }
+
+  @Test
+  public void should_fail_if_actual_has_no_line_at_the_given_index() {
+    thrown.expectAssertionErrorWithMessageContaining("to have a line at index <3> but had <3> lines.");
+    assertThat(multiLine).lineAt(3);
+  }
+
+  @Test
+  public void should_describe_the_navigated_line() {
+    thrown.expectAssertionErrorWithMessageContaining("[lines line at index 1]");
+    assertThat(multiLine).as("lines").lineAt(1).isEqualTo("First line");
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api.fail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
+
+import org.assertj.core.api.Fail;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Fail#setMaxStackTraceElementsDisplayed(int)}</code>.
+ */
+public class Fail_setMaxStackTraceElementsDisplayed_Test {
+
+  @After
+  public void tearDown() {
+    Fail.setMaxStackTraceElementsDisplayed(Integer.MAX_VALUE);
+    Fail.setRemoveAssertJRelatedElementsFromStackTrace(true);
+  }
+
+  @Test
+  public void should_keep_only_the_first_stack_trace_elements_not_related_to_assertj() {
+    Fail.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    Fail.setMaxStackTraceElementsDisplayed(3);
+    Throwable error = catchThrowable(() -> assertThat(5).isLessThan(0));
+    assertThat(error).isInstanceOf(AssertionError.class);
+    assertThat(error.getStackTrace()).hasSize(3);
+    assertThat(hasStackTraceElementRelatedToAssertJ(error)).isFalse();
+  }
+
+  @Test
+  public void should_keep_only_the_first_stack_trace_elements() {
+    Fail.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    Fail.setMaxStackTraceElementsDisplayed(3);
+    Throwable error = catchThrowable(() -> assertThat(5).isLessThan(0));
+    assertThat(error.getStackTrace()).hasSize(3);
+    assertThat(hasStackTraceElementRelatedToAssertJ(error)).isTrue();
+  }
+
+  @Test
+  public void should_fail_if_maximum_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Fail.setMaxStackTraceElementsDisplayed(-1))
+                                        .withMessage("The maximum number of stack trace elements to display should not be negative but was -1");
+  }
+}
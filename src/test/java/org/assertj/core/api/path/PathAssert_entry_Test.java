@@ -0,0 +1,56 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import org.assertj.core.api.ArchiveEntryAssert;
+import org.assertj.core.api.PathAssert;
+import org.assertj.core.api.PathAssertBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link PathAssert#entry(String)}</code>.
+ */
+public class PathAssert_entry_Test extends PathAssertBaseTest {
+
+  @Override
+  protected PathAssert invoke_api_method() {
+    assertions.entry("META-INF/MANIFEST.MF");
+    return null;
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(paths).assertHasEntry(getInfo(assertions), getActual(assertions), "META-INF/MANIFEST.MF");
+  }
+
+  @Override
+  @Test
+  public void should_return_this() {
+    // Disable this test because entry returns an assertion object on the entry
+  }
+
+  @Test
+  public void should_not_describe_entry_assertion_if_actual_is_not_described() {
+    ArchiveEntryAssert entryAssert = assertions.entry("META-INF/MANIFEST.MF");
+    assertThat(entryAssert.descriptionText()).isEmpty();
+  }
+
+  @Test
+  public void should_keep_description_of_actual() {
+    ArchiveEntryAssert entryAssert = assertions.as("app jar").entry("META-INF/MANIFEST.MF");
+    assertThat(entryAssert.descriptionText()).isEqualTo("app jar");
+  }
+}
@@ -0,0 +1,34 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api.reader;
+
+import static org.mockito.Mockito.verify;
+
+import org.assertj.core.api.ReaderAssert;
+import org.assertj.core.api.ReaderAssertBaseTest;
+
+/**
+ * Tests for <code>{@link ReaderAssert#contains(CharSequence...)}</code>.
+ */
+public class ReaderAssert_contains_Test extends ReaderAssertBaseTest {
+
+  @Override
+  protected ReaderAssert invoke_api_method() {
+    return assertions.contains("Yo", "da");
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(readers).assertContains(getInfo(assertions), getActual(assertions), "Yo", "da");
+  }
+}
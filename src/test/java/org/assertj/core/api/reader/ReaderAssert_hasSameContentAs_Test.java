@@ -0,0 +1,39 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.api.reader;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.assertj.core.api.ReaderAssert;
+import org.assertj.core.api.ReaderAssertBaseTest;
+
+/**
+ * Tests for <code>{@link ReaderAssert#hasSameContentAs(Reader)}</code>.
+ */
+public class ReaderAssert_hasSameContentAs_Test extends ReaderAssertBaseTest {
+
+  private Reader expected = new StringReader("b");
+
+  @Override
+  protected ReaderAssert invoke_api_method() {
+    return assertions.hasSameContentAs(expected);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(readers).assertSameContentAs(getInfo(assertions), getActual(assertions), expected);
+  }
+}
@@ -37,4 +37,24 @@ public class ConstructorInvoker_newInstance_Test {
     assertThat(o).isInstanceOf(Exception.class);
     assertThat((Exception) o).hasMessage("Hi");
   }
+
+  @Test
+  public void should_return_null_if_class_is_not_available() throws Exception {
+    Object o = invoker.newInstance("org.example.Unknown", new Class<?>[] { String.class }, new Object[] { "Hi" });
+    assertThat(o).isNull();
+    assertThat(invoker.newInstance("org.example.Unknown", new Class<?>[] { String.class }, "Hi")).isNull();
+  }
+
+  @Test
+  public void should_return_null_if_constructor_is_not_available() throws Exception {
+    Object o = invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, new Object[] { 1 });
+    assertThat(o).isNull();
+  }
+
+  @Test
+  public void should_propagate_exception_thrown_by_constructor() {
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Integer", new Class<?>[] { String.class },
+                                                                new Object[] { "Yoda" }));
+    assertThat(thrown).isInstanceOf(NumberFormatException.class);
+  }
 }
@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.LinesShouldSatisfy.linesShouldSatisfy;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.HexadecimalRepresentation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+public class LinesShouldSatisfy_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    ErrorMessageFactory factory = linesShouldSatisfy("Luke\nYoda", 1, "Yoda", "Yoda violates some restrictions");
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting all lines of:%n" +
+                                         "  <\"Luke\nYoda\">%n" +
+                                         "to satisfy given requirements, but line at index <1> did not:%n" +
+                                         "  <\"Yoda\"> %n" +
+                                         "Details: \"Yoda violates some restrictions\""));
+  }
+
+  @Test
+  public void should_not_format_line_index_with_representation() {
+    ErrorMessageFactory factory = linesShouldSatisfy("", 12, "", "");
+    String message = factory.create(new TextDescription("Test"), new HexadecimalRepresentation());
+    assertThat(message).contains("line at index <12> did not");
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)}</code> when
+ * comparing {@code String}s too big to be reported entirely.
+ */
+public class ShouldBeEqual_newAssertionError_for_big_Strings_Test {
+
+  private Description description = new TestDescription("Jedi");
+
+  @Before
+  public void setUp() {
+    ShouldBeEqual.setMaxLengthForFullStringComparison(20);
+    ShouldBeEqual.setStringDiffContextLength(5);
+  }
+
+  @After
+  public void tearDown() {
+    ShouldBeEqual.resetDefaults();
+  }
+
+  @Test
+  public void should_only_report_characters_around_first_difference() {
+    AssertionError error = shouldBeEqual("0123456789Luke0123456789", "0123456789Yoda0123456789",
+                                         new StandardRepresentation()).newAssertionError(description,
+                                                                                         new StandardRepresentation());
+    assertThat(error).isInstanceOf(ComparisonFailure.class);
+    ComparisonFailure comparisonFailure = (ComparisonFailure) error;
+    assertThat(comparisonFailure.getActual()).isEqualTo("...\"56789Luke0\"...");
+    assertThat(comparisonFailure.getExpected()).isEqualTo("...\"56789Yoda0\"...");
+    assertThat(error.getMessage()).startsWith(format("[Jedi] Strings differ from index 10 (actual length: 24, "
+                                                     + "expected length: 24, differing section length: 4 in actual "
+                                                     + "and 4 in expected).%n"
+                                                     + "Only 5 characters around the first difference are shown, "
+                                                     + "use Assertions.setMaxLengthForFullStringComparison(int) to "
+                                                     + "get the full strings."));
+  }
+
+  @Test
+  public void should_only_report_characters_around_first_difference_without_junit() {
+    ShouldBeEqual factory = (ShouldBeEqual) shouldBeEqual("0123456789Luke0123456789", "0123456789Yoda0123456789",
+                                                          new StandardRepresentation());
+    factory.constructorInvoker = new ConstructorInvoker() {
+      @Override
+      Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) {
+        // no comparison error class in the classpath
+        return null;
+      }
+    };
+
+    AssertionError error = factory.newAssertionError(description, new StandardRepresentation());
+
+    assertThat(error).isNotInstanceOf(ComparisonFailure.class);
+    assertThat(error).hasMessage(format("[Jedi] %n"
+                                        + "Expecting:%n"
+                                        + " <...\"56789Luke0\"...>%n"
+                                        + "to be equal to:%n"
+                                        + " <...\"56789Yoda0\"...>%n"
+                                        + "but was not.%n"
+                                        + "Strings differ from index 10 (actual length: 24, expected length: 24, "
+                                        + "differing section length: 4 in actual and 4 in expected).%n"
+                                        + "Only 5 characters around the first difference are shown, "
+                                        + "use Assertions.setMaxLengthForFullStringComparison(int) to get the full "
+                                        + "strings."));
+  }
+
+  @Test
+  public void should_report_difference_at_the_start_and_end_of_strings() {
+    ComparisonFailure error = comparisonFailure("Luke0123456789", "0123456789");
+    assertThat(error.getActual()).isEqualTo("\"Luke0\"...");
+    assertThat(error.getExpected()).isEqualTo("\"01234\"...");
+    assertThat(error.getMessage()).startsWith("[Jedi] Strings differ from index 0 (actual length: 14, "
+                                              + "expected length: 10, differing section length: 4 in actual "
+                                              + "and 0 in expected).");
+    error = comparisonFailure("0123456789Luke", "0123456789");
+    assertThat(error.getActual()).isEqualTo("...\"56789Luke\"");
+    assertThat(error.getExpected()).isEqualTo("...\"56789\"");
+    assertThat(error.getMessage()).startsWith("[Jedi] Strings differ from index 10 (actual length: 14, "
+                                              + "expected length: 10, differing section length: 4 in actual "
+                                              + "and 0 in expected).");
+  }
+
+  @Test
+  public void should_report_whole_strings_if_they_are_not_too_big() {
+    AssertionError error = shouldBeEqual("Luke", "Yoda",
+                                         new StandardRepresentation()).newAssertionError(description,
+                                                                                         new StandardRepresentation());
+    assertThat(error).isInstanceOf(ComparisonFailure.class);
+  }
+
+  private ComparisonFailure comparisonFailure(String actual, String expected) {
+    AssertionError error = shouldBeEqual(actual, expected,
+                                         new StandardRepresentation()).newAssertionError(description,
+                                                                                         new StandardRepresentation());
+    assertThat(error).isInstanceOf(ComparisonFailure.class);
+    return (ComparisonFailure) error;
+  }
+}
@@ -18,6 +18,8 @@ import static org.assertj.core.error.ShouldContain.shouldContain;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.util.CaseInsensitiveStringComparator;
@@ -112,4 +114,35 @@ public class ShouldContain_create_Test {
                                          ""));
   }
 
+  @Test
+  public void should_convert_each_value_to_string_once() {
+    CountingToString luke = new CountingToString("Luke");
+    CountingToString yoda = new CountingToString("Yoda");
+    factory = shouldContain(newArrayList(yoda), newArrayList(luke, yoda), newLinkedHashSet(luke));
+    String message = factory.create(new TextDescription("Test"));
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting:%n" +
+                                         " <[Yoda]>%n" +
+                                         "to contain:%n" +
+                                         " <[Luke, Yoda]>%n" +
+                                         "but could not find:%n" +
+                                         " <[Luke]>%n"));
+    assertThat(luke.toStringCalls).hasValue(1);
+    assertThat(yoda.toStringCalls).hasValue(1);
+  }
+
+  private static class CountingToString {
+    private final String name;
+    private final AtomicInteger toStringCalls = new AtomicInteger();
+
+    private CountingToString(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls.incrementAndGet();
+      return name;
+    }
+  }
 }
@@ -0,0 +1,85 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldHaveDigest#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldHaveDigest_create_Test {
+
+  private DigestDiff diff;
+
+  @Before
+  public void setUp() throws NoSuchAlgorithmException {
+    diff = new DigestDiff("A4335895E368734F5935369B7FFB9A15", "0011", MessageDigest.getInstance("MD5"));
+  }
+
+  @Test
+  public void should_create_error_message_with_file() {
+    ErrorMessageFactory factory = shouldHaveDigest(new FakeFile("abc"), diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting File:%n" +
+                                         " <abc>%n" +
+                                         "MD5 digest to be:%n" +
+                                         " <0011>%n" +
+                                         "but was:%n" +
+                                         " <A4335895E368734F5935369B7FFB9A15>"));
+  }
+
+  @Test
+  public void should_create_error_message_with_path() {
+    Path path = java.nio.file.Paths.get("abc");
+    ErrorMessageFactory factory = shouldHaveDigest(path, diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting Path:%n" +
+                                         " <abc>%n" +
+                                         "MD5 digest to be:%n" +
+                                         " <0011>%n" +
+                                         "but was:%n" +
+                                         " <A4335895E368734F5935369B7FFB9A15>"));
+  }
+
+  @Test
+  public void should_create_error_message_with_input_stream() {
+    InputStream stream = new ByteArrayInputStream(new byte[0]);
+    ErrorMessageFactory factory = shouldHaveDigest(stream, diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting InputStream:%n" +
+                                         " <%s>%n" +
+                                         "MD5 digest to be:%n" +
+                                         " <0011>%n" +
+                                         "but was:%n" +
+                                         " <A4335895E368734F5935369B7FFB9A15>", stream));
+  }
+}
@@ -0,0 +1,43 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldHaveLineCount#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldHaveLineCount_create_Test {
+
+  @Test
+  public void should_create_error_message_for_file_lines_count() {
+    Path log = Paths.get("server.log");
+    ErrorMessageFactory factory = shouldHaveLinesCount(log, 3_000_000_000L, 2L);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting file:%n" +
+                                         "  <server.log>%n" +
+                                         "to have <2> lines but had <3000000000>."));
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldHaveSameBinaryContent#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldHaveSameBinaryContent_create_Test {
+
+  @Test
+  public void should_create_error_message_with_the_first_different_byte() {
+    BinaryDiffResult diff = new BinaryDiffResult(5_000_000_000L, 0xCA, 0xFE);
+    ErrorMessageFactory factory = shouldHaveSameBinaryContent(new FakeFile("abc"), new FakeFile("xyz"), diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "File:%n" +
+                                         " <abc>%n" +
+                                         "and file:%n" +
+                                         " <xyz>%n" +
+                                         "do not have same binary content at offset <5000000000>, expecting:%n" +
+                                         " <\"0xCA\">%n" +
+                                         "but was:%n" +
+                                         " <\"0xFE\">"));
+  }
+
+  @Test
+  public void should_create_error_message_with_the_sizes_when_they_differ() {
+    ErrorMessageFactory factory = shouldHaveSameBinaryContent(new FakeFile("abc"), new FakeFile("xyz"), 10L, 12L);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "File:%n" +
+                                         " <abc>%n" +
+                                         "and file:%n" +
+                                         " <xyz>%n" +
+                                         "do not have same binary content as their sizes differ, expecting:%n" +
+                                         " <12> bytes%n" +
+                                         "but was:%n" +
+                                         " <10> bytes"));
+  }
+
+  @Test
+  public void should_create_error_message_with_the_bytes_around_the_first_different_byte() {
+    InputStream actual = new ByteArrayInputStream(new byte[0]);
+    InputStream expected = new ByteArrayInputStream(new byte[0]);
+    BinaryDiffResult diff = new BinaryDiffResult(20, 0xCA, 0xFE, 18, "01 02 [CA] 03", "01 02 [FE] 03");
+    ErrorMessageFactory factory = shouldHaveSameBinaryContent(actual, expected, diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "InputStream:%n" +
+                                         " <%s>%n" +
+                                         "and InputStream:%n" +
+                                         " <%s>%n" +
+                                         "do not have same binary content at offset <20>, expecting:%n" +
+                                         " <\"0xCA\">%n" +
+                                         "but was:%n" +
+                                         " <\"0xFE\">%n" +
+                                         "bytes from offset <18>, expecting:%n" +
+                                         " <01 02 [CA] 03>%n" +
+                                         "but was:%n" +
+                                         " <01 02 [FE] 03>", actual, expected));
+  }
+
+  @Test
+  public void should_create_error_message_with_the_archive_entry() {
+    Path archive = Paths.get("app.jar");
+    Path expected = Paths.get("MANIFEST.MF");
+    BinaryDiffResult diff = new BinaryDiffResult(20, 0xCA, 0xFE, 18, "01 02 [CA] 03", "01 02 [FE] 03");
+    ErrorMessageFactory factory = shouldHaveSameBinaryContent(archive, "META-INF/MANIFEST.MF", expected, diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Entry:%n" +
+                                         " <\"META-INF/MANIFEST.MF\">%n" +
+                                         "of archive:%n" +
+                                         " <app.jar>%n" +
+                                         "and expected content:%n" +
+                                         " <MANIFEST.MF>%n" +
+                                         "do not have same binary content at offset <20>, expecting:%n" +
+                                         " <\"0xCA\">%n" +
+                                         "but was:%n" +
+                                         " <\"0xFE\">%n" +
+                                         "bytes from offset <18>, expecting:%n" +
+                                         " <01 02 [CA] 03>%n" +
+                                         "but was:%n" +
+                                         " <01 02 [FE] 03>"));
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.TreeDiffResult;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldHaveSameTree#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldHaveSameTree_create_Test {
+
+  @Test
+  public void should_create_error_message_with_added_removed_and_changed_entries() {
+    TreeDiffResult diff = new TreeDiffResult(newArrayList("a.txt", "dir"), newArrayList("b.txt"),
+                                             newArrayList("dir2/c.txt"));
+    ErrorMessageFactory factory = shouldHaveSameTree(new FakeFile("abc"), new FakeFile("xyz"), diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting directory:%n" +
+                                         " <abc>%n" +
+                                         "to have the same tree as:%n" +
+                                         " <xyz>%n" +
+                                         "but:%n" +
+                                         "these entries were added:%n" +
+                                         " <[\"a.txt\", \"dir\"]>%n" +
+                                         "these entries were removed:%n" +
+                                         " <[\"b.txt\"]>%n" +
+                                         "these entries were changed:%n" +
+                                         " <[\"dir2/c.txt\"]>"));
+  }
+
+  @Test
+  public void should_create_error_message_with_only_the_kinds_of_differences_found() {
+    TreeDiffResult diff = new TreeDiffResult(new ArrayList<String>(), new ArrayList<String>(), newArrayList("c.txt"));
+    ErrorMessageFactory factory = shouldHaveSameTree(new FakeFile("abc"), new FakeFile("xyz"), diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting directory:%n" +
+                                         " <abc>%n" +
+                                         "to have the same tree as:%n" +
+                                         " <xyz>%n" +
+                                         "but:%n" +
+                                         "these entries were changed:%n" +
+                                         " <[\"c.txt\"]>"));
+  }
+}
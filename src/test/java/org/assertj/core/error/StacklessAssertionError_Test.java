@@ -0,0 +1,45 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link StacklessAssertionError}</code>.
+ */
+public class StacklessAssertionError_Test {
+
+  @Test
+  public void should_not_capture_stack_trace_when_created() {
+    AssertionError error = new StacklessAssertionError("message");
+    assertThat(error.getStackTrace()).isEmpty();
+    assertThat(error).hasMessage("message");
+  }
+
+  @Test
+  public void should_capture_stack_trace_when_filled_in() {
+    AssertionError error = new StacklessAssertionError("message");
+    error.fillInStackTrace();
+    assertThat(error.getStackTrace()[0].getMethodName()).isEqualTo("should_capture_stack_trace_when_filled_in");
+  }
+
+  @Test
+  public void should_have_the_stack_trace_set_afterwards() {
+    AssertionError error = new StacklessAssertionError("message");
+    StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+    error.setStackTrace(stackTrace);
+    assertThat(error.getStackTrace()).containsExactly(stackTrace);
+  }
+}
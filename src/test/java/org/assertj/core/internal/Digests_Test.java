@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.channels.Channels.newChannel;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.fromHex;
+import static org.assertj.core.internal.Digests.messageDigest;
+import static org.assertj.core.internal.Digests.toHex;
+import static org.assertj.core.test.ExpectedException.none;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Digests}</code>.
+ */
+public class Digests_Test {
+
+  private static final byte[] CONTENT = "assertj".getBytes(UTF_8);
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_convert_bytes_to_upper_case_hexadecimal() {
+    assertThat(toHex(new byte[] { 0, 1, (byte) 0xCA, (byte) 0xfe, 127, -128 })).isEqualTo("0001CAFE7F80");
+    assertThat(toHex(new byte[0])).isEmpty();
+  }
+
+  @Test
+  public void should_convert_hexadecimal_to_bytes_whatever_the_case() {
+    assertThat(fromHex("0001CAFE7F80")).containsExactly(0, 1, 0xCA, 0xFE, 0x7F, 0x80);
+    assertThat(fromHex("cafe")).containsExactly(0xCA, 0xFE);
+  }
+
+  @Test
+  public void should_fail_if_hexadecimal_is_null() {
+    thrown.expectNullPointerException("The string representation of digest to compare to should not be null");
+    fromHex(null);
+  }
+
+  @Test
+  public void should_fail_if_hexadecimal_has_odd_length() {
+    thrown.expectIllegalArgumentException();
+    fromHex("CAF");
+  }
+
+  @Test
+  public void should_fail_if_hexadecimal_has_non_hexadecimal_digits() {
+    thrown.expectIllegalArgumentException("The string representation of digest <CAFG> should only contain hexadecimal digits");
+    fromHex("CAFG");
+  }
+
+  @Test
+  public void should_fail_if_algorithm_is_unknown() {
+    thrown.expectIllegalArgumentException("Unable to find digest implementation for: <UNKNOWN>");
+    messageDigest("UNKNOWN");
+  }
+
+  @Test
+  public void should_fail_if_algorithm_is_null() {
+    thrown.expectNullPointerException("The string representation of digest algorithm should not be null");
+    messageDigest(null);
+  }
+
+  @Test
+  public void should_compute_digest_of_channel_content() throws IOException {
+    assertThat(digestOfContent("MD5", "a4335895e368734f5935369b7ffb9a15").digestsDiffer()).isFalse();
+    assertThat(digestOfContent("SHA-1", "a3fad0d368319e807266923385727844d720f00e").digestsDiffer()).isFalse();
+    String sha256 = "77ecb8df6ee45cb2768ffd5f4f8907514cd8616bdce4df01c79a013d89c6dd12";
+    assertThat(digestOfContent("SHA-256", sha256).digestsDiffer()).isFalse();
+  }
+
+  @Test
+  public void should_report_computed_and_expected_digests_when_they_differ() throws IOException {
+    DigestDiff diff = digestOfContent("MD5", "00112233");
+    assertThat(diff.digestsDiffer()).isTrue();
+    assertThat(diff.getActual()).isEqualTo("A4335895E368734F5935369B7FFB9A15");
+    assertThat(diff.getExpected()).isEqualTo("00112233");
+    assertThat(diff.getDigestAlgorithm()).isEqualTo("MD5");
+  }
+
+  @Test
+  public void should_reset_digest_before_reading() throws IOException {
+    MessageDigest digest = messageDigest("MD5");
+    digest.update(new byte[] { 1, 2, 3 });
+    DigestDiff diff = digestDiff(newChannel(new ByteArrayInputStream(CONTENT)), digest,
+                                 fromHex("a4335895e368734f5935369b7ffb9a15"));
+    assertThat(diff.digestsDiffer()).isFalse();
+  }
+
+  private static DigestDiff digestOfContent(String algorithm, String expected) throws IOException {
+    return digestDiff(newChannel(new ByteArrayInputStream(CONTENT)), messageDigest(algorithm), fromHex(expected));
+  }
+}
@@ -42,6 +42,7 @@ public class InputStreamsBaseTest {
   @Rule
   public ExpectedException thrown = none();
   protected Diff diff;
+  protected BinaryDiff binaryDiff;
   protected Failures failures;
   protected InputStreams inputStreams;
 
@@ -60,6 +61,8 @@ public class InputStreamsBaseTest {
     failures = spy(new Failures());
     inputStreams = new InputStreams();
     inputStreams.diff = diff;
+    binaryDiff = mock(BinaryDiff.class);
+    inputStreams.binaryDiff = binaryDiff;
     inputStreams.failures = failures;
   }
 
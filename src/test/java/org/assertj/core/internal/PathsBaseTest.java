@@ -68,6 +68,8 @@ public abstract class PathsBaseTest {
 
   protected Diff diff;
   protected BinaryDiff binaryDiff;
+  protected TreeDiff treeDiff;
+  protected ArchiveReader archiveReader;
 
   @Before
   public void setUp() {
@@ -80,6 +82,10 @@ public abstract class PathsBaseTest {
 	paths.diff = diff;
 	binaryDiff = mock(BinaryDiff.class);
 	paths.binaryDiff = binaryDiff;
+	treeDiff = mock(TreeDiff.class);
+	paths.treeDiff = treeDiff;
+	archiveReader = mock(ArchiveReader.class);
+	paths.archiveReader = archiveReader;
   }
 
   /**
@@ -13,6 +13,7 @@
 package org.assertj.core.internal.failures;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -58,4 +59,29 @@ public class Failures_failure_with_ErrorMessage_Test {
     AssertionError failure = failures.failure(info, errorMessage);
     assertThat(failure).hasMessage("[description] my message");
   }
+
+  @Test
+  public void should_keep_only_the_given_maximum_number_of_stack_trace_elements() {
+    failures.setMaxStackTraceElementsDisplayed(2);
+    try {
+      AssertionError failure = failures.failure(info, errorMessage);
+      assertThat(failure.getStackTrace()).hasSize(2);
+    } finally {
+      failures.setMaxStackTraceElementsDisplayed(Integer.MAX_VALUE);
+    }
+  }
+
+  @Test
+  public void should_create_stackless_errors_until_their_stack_trace_is_filled_in() {
+    failures.setCreatingStacklessErrorsInCurrentThread(true);
+    AssertionError failure;
+    try {
+      failure = failures.failure(info, errorMessage);
+    } finally {
+      failures.setCreatingStacklessErrorsInCurrentThread(false);
+    }
+    assertThat(failure.getStackTrace()).isEmpty();
+    failures.fillInMissingStackTraces(newArrayList(failure));
+    assertThat(failure.getStackTrace()).isNotEmpty();
+  }
 }
@@ -0,0 +1,117 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Files;
+import org.assertj.core.internal.FilesBaseTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link Files#assertHasDigest(AssertionInfo, File, MessageDigest, byte[])}</code>.
+ */
+public class Files_assertHasDigest_Test extends FilesBaseTest {
+
+  private static final String MD5 = "a4335895e368734f5935369b7ffb9a15";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File actual;
+
+  @Before
+  public void init() throws IOException {
+    actual = folder.newFile("actual.txt");
+    write(actual.toPath(), "assertj".getBytes(UTF_8));
+  }
+
+  @Test
+  public void should_pass_if_file_has_expected_digest() {
+    files.assertHasDigest(someInfo(), actual, "MD5", MD5);
+  }
+
+  @Test
+  public void should_pass_with_message_digest_and_binary_digest() throws NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    byte[] expected = digest.digest("assertj".getBytes(UTF_8));
+    files.assertHasDigest(someInfo(), actual, digest, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_digest_is_null() {
+    thrown.expectNullPointerException("The message digest algorithm should not be null");
+    files.assertHasDigest(someInfo(), actual, (MessageDigest) null, new byte[0]);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() throws NoSuchAlgorithmException {
+    thrown.expectNullPointerException("The binary representation of digest to compare to should not be null");
+    files.assertHasDigest(someInfo(), actual, MessageDigest.getInstance("MD5"), (byte[]) null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_hexadecimal() {
+    thrown.expectIllegalArgumentException("The string representation of digest <XY> should only contain hexadecimal digits");
+    files.assertHasDigest(someInfo(), actual, "MD5", "XY");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    files.assertHasDigest(someInfo(), null, "MD5", MD5);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_file() {
+    AssertionInfo info = someInfo();
+    File notAFile = folder.getRoot();
+    try {
+      files.assertHasDigest(info, notAFile, "MD5", MD5);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeFile(notAFile));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_file_does_not_have_expected_digest() throws NoSuchAlgorithmException {
+    AssertionInfo info = someInfo();
+    try {
+      files.assertHasDigest(info, actual, "MD5", "0011");
+    } catch (AssertionError e) {
+      DigestDiff diff = new DigestDiff(MD5.toUpperCase(), "0011", MessageDigest.getInstance("MD5"));
+      verify(failures).failure(info, shouldHaveDigest(actual, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,131 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static java.nio.file.Files.write;
+import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
+import static org.assertj.core.internal.BinaryDiffResult.noDiff;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.Files;
+import org.assertj.core.internal.FilesBaseTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link Files#assertSameBinaryContentAs(AssertionInfo, File, File)}</code>.
+ */
+public class Files_assertSameBinaryContentAs_Test extends FilesBaseTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File actual;
+  private File expected;
+
+  @Before
+  public void init() throws IOException {
+    // the files have the same size, their comparison is mocked in this test
+    actual = folder.newFile("actual.bin");
+    expected = folder.newFile("expected.bin");
+    write(actual.toPath(), new byte[] { 1, 2, 3 });
+    write(expected.toPath(), new byte[] { 1, 2, 4 });
+  }
+
+  @Test
+  public void should_pass_if_files_have_same_binary_content() throws IOException {
+    when(binaryDiff.diff(actual.toPath(), expected.toPath())).thenReturn(noDiff());
+    files.assertSameBinaryContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The file to compare to should not be null");
+    files.assertSameBinaryContentAs(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_a_file() {
+    thrown.expectIllegalArgumentException("Expected file:<'" + folder.getRoot() + "'> should be an existing file");
+    files.assertSameBinaryContentAs(someInfo(), actual, folder.getRoot());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    files.assertSameBinaryContentAs(someInfo(), null, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_file() {
+    AssertionInfo info = someInfo();
+    File notAFile = new File("xyz");
+    try {
+      files.assertSameBinaryContentAs(info, notAFile, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeFile(notAFile));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_without_reading_contents_if_sizes_differ() throws IOException {
+    write(expected.toPath(), new byte[] { 1, 2, 3, 4 });
+    AssertionInfo info = someInfo();
+    try {
+      files.assertSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, expected, 3L, 4L));
+      verifyZeroInteractions(binaryDiff);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_files_do_not_have_same_binary_content() throws IOException {
+    BinaryDiffResult diffResult = new BinaryDiffResult(2, 4, 3);
+    when(binaryDiff.diff(actual.toPath(), expected.toPath())).thenReturn(diffResult);
+    AssertionInfo info = someInfo();
+    try {
+      files.assertSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, expected, diffResult));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(binaryDiff.diff(actual.toPath(), expected.toPath())).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    files.assertSameBinaryContentAs(someInfo(), actual, expected);
+  }
+}
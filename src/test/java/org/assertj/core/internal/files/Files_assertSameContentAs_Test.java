@@ -13,7 +13,6 @@
 package org.assertj.core.internal.files;
 
 import static java.nio.charset.Charset.defaultCharset;
-import static java.nio.file.Files.readAllBytes;
 import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 import static org.assertj.core.test.TestData.someInfo;
@@ -112,7 +111,7 @@ public class Files_assertSameContentAs_Test extends FilesBaseTest {
   public void should_fail_if_files_do_not_have_equal_content() throws IOException {
     List<Delta<String>> diffs = Lists.newArrayList(delta);
     when(diff.diff(actual, defaultCharset(), expected, defaultCharset())).thenReturn(diffs);
-    when(binaryDiff.diff(actual, readAllBytes(expected.toPath()))).thenReturn(new BinaryDiffResult(1, -1, -1));
+    when(binaryDiff.diff(actual.toPath(), expected.toPath())).thenReturn(new BinaryDiffResult(1, -1, -1));
     AssertionInfo info = someInfo();
     try {
       files.assertSameContentAs(info, actual, defaultCharset(), expected, defaultCharset());
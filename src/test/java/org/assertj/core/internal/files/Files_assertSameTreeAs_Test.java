@@ -0,0 +1,120 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.Files;
+import org.assertj.core.internal.FilesBaseTest;
+import org.assertj.core.internal.TreeDiffResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link Files#assertSameTreeAs(AssertionInfo, File, File)}</code>.
+ */
+public class Files_assertSameTreeAs_Test extends FilesBaseTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File actual;
+  private File expected;
+
+  @Before
+  public void init() throws IOException {
+    // the trees comparison is mocked in this test
+    actual = folder.newFolder("actual");
+    expected = folder.newFolder("expected");
+  }
+
+  @Test
+  public void should_pass_if_directories_have_same_tree() throws IOException {
+    when(treeDiff.diff(actual.toPath(), expected.toPath())).thenReturn(noDiff());
+    files.assertSameTreeAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The directory to compare to should not be null");
+    files.assertSameTreeAs(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_a_directory() throws IOException {
+    File file = folder.newFile("file.txt");
+    thrown.expectIllegalArgumentException("Expected file:<'" + file + "'> should be an existing directory");
+    files.assertSameTreeAs(someInfo(), actual, file);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    files.assertSameTreeAs(someInfo(), null, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_directory() throws IOException {
+    AssertionInfo info = someInfo();
+    File file = folder.newFile("file.txt");
+    try {
+      files.assertSameTreeAs(info, file, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeDirectory(file));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_directories_do_not_have_same_tree() throws IOException {
+    TreeDiffResult diffResult = new TreeDiffResult(new ArrayList<String>(), newArrayList("a.txt"),
+                                                   new ArrayList<String>());
+    when(treeDiff.diff(actual.toPath(), expected.toPath())).thenReturn(diffResult);
+    AssertionInfo info = someInfo();
+    try {
+      files.assertSameTreeAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameTree(actual, expected, diffResult));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(treeDiff.diff(actual.toPath(), expected.toPath())).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    files.assertSameTreeAs(someInfo(), actual, expected);
+  }
+
+  private static TreeDiffResult noDiff() {
+    return new TreeDiffResult(new ArrayList<String>(), new ArrayList<String>(), new ArrayList<String>());
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.core.internal.inputstreams;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -79,6 +80,86 @@ public class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  public void should_return_diff_beyond_the_first_buffer_of_big_inputstreams() throws IOException {
+    byte[] content = new byte[1_000_000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    byte[] modified = content.clone();
+    modified[654_321] = (byte) 0xCA;
+    BinaryDiffResult result = binaryDiff.diff(new ByteArrayInputStream(modified), new ByteArrayInputStream(content));
+    assertThat(result.offset).isEqualTo(654_321);
+    assertThat(result.actual).isEqualTo("0xCA");
+    assertThat(result.expected).isEqualTo("0xF1");
+    assertThat(binaryDiff.diff(new ByteArrayInputStream(content), new ByteArrayInputStream(content)).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_compare_inputstreams_returning_less_bytes_than_requested() throws IOException {
+    actual = new FilterInputStream(stream(0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0x00, 0x01)) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return super.read(b, off, Math.min(len, 3));
+      }
+    };
+    expected = stream(0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0x00, 0x02);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(9);
+    assertThat(result.actual).isEqualTo("0x1");
+    assertThat(result.expected).isEqualTo("0x2");
+  }
+
+  @Test
+  public void should_return_hexadecimal_windows_around_the_difference() throws IOException {
+    actual = stream(0x00, 0x01, 0x02, 0x03);
+    expected = stream(0x00, 0x01, 0xFF, 0x03);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasWindows()).isTrue();
+    assertThat(result.windowOffset).isEqualTo(0);
+    assertThat(result.actualWindow).isEqualTo("00 01 [02] 03");
+    assertThat(result.expectedWindow).isEqualTo("00 01 [FF] 03");
+  }
+
+  @Test
+  public void should_return_hexadecimal_windows_with_end_of_shorter_inputstream() throws IOException {
+    actual = stream(0xCA, 0xFE);
+    expected = stream(0xCA, 0xFE, 0xBA, 0xBE);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.actualWindow).isEqualTo("CA FE [EOF]");
+    assertThat(result.expectedWindow).isEqualTo("CA FE [BA] BE");
+  }
+
+  @Test
+  public void should_return_hexadecimal_windows_spanning_buffers() throws IOException {
+    byte[] content = new byte[1_000_000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    // 65_536 is the first byte of the second buffer, 131_071 is the last byte of the second buffer
+    for (int offset : new int[] { 65_536, 131_071 }) {
+      byte[] modified = content.clone();
+      modified[offset] = (byte) 0xCA;
+      BinaryDiffResult result = binaryDiff.diff(new ByteArrayInputStream(modified), new ByteArrayInputStream(content));
+      assertThat(result.offset).isEqualTo(offset);
+      assertThat(result.windowOffset).isEqualTo(offset - 16);
+      assertThat(result.actualWindow).isEqualTo(window(content, offset, "CA"));
+      assertThat(result.expectedWindow).isEqualTo(window(content, offset, String.format("%02X", content[offset])));
+    }
+  }
+
+  private static String window(byte[] content, int offset, String differentByte) {
+    StringBuilder window = new StringBuilder();
+    for (int i = offset - 16; i < offset; i++) {
+      window.append(String.format("%02X ", content[i]));
+    }
+    window.append('[').append(differentByte).append(']');
+    for (int i = offset + 1; i <= offset + 16; i++) {
+      window.append(String.format(" %02X", content[i]));
+    }
+    return window.toString();
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -0,0 +1,161 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.internal.Diff;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Diff#diff(InputStream, InputStream)}</code> when {@link Diff#useStreamingDiff(int, int)} is
+ * enabled.
+ */
+public class Diff_diff_InputStream_streaming_Test {
+
+  private final static String LINE_SEPARATOR = System.getProperty("line.separator");
+  private static Diff diff;
+
+  @BeforeClass
+  public static void setUpOnce() {
+    diff = new Diff();
+  }
+
+  @After
+  public void tearDown() {
+    Diff.useFullDiff();
+  }
+
+  private static InputStream stream(List<String> lines) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (String line : lines) {
+      stringBuilder.append(line).append(LINE_SEPARATOR);
+    }
+    return new ByteArrayInputStream(stringBuilder.toString().getBytes());
+  }
+
+  private static List<String> lines(int count) {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      lines.add("line" + i);
+    }
+    return lines;
+  }
+
+  @Test
+  public void should_return_empty_diff_list_if_inputstreams_have_equal_content() throws IOException {
+    Diff.useStreamingDiff(2, 10);
+    List<Delta<String>> diffs = diff.diff(stream(lines(100)), stream(lines(100)));
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  public void should_report_differences_at_their_line_number_in_windows_smaller_than_the_contents() throws IOException {
+    Diff.useStreamingDiff(3, 10);
+    List<String> actual = lines(100);
+    actual.set(10, "line_10");
+    actual.remove(50);
+    actual.add("extra");
+    List<Delta<String>> diffs = diff.diff(stream(actual), stream(lines(100)));
+    assertThat(diffs).hasSize(3);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 11:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line10\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_10\"]%n"));
+    assertThat(diffs.get(1)).hasToString(format("Missing content at line 51:%n"
+                                                + "  [\"line50\"]%n"));
+    assertThat(diffs.get(2)).hasToString(format("Extra content at line 101:%n"
+                                                + "  [\"extra\"]%n"));
+  }
+
+  @Test
+  public void should_stop_after_the_maximum_number_of_differences() throws IOException {
+    Diff.useStreamingDiff(5, 2);
+    List<String> actual = lines(100);
+    actual.set(10, "line_10");
+    actual.set(20, "line_20");
+    actual.set(30, "line_30");
+    List<Delta<String>> diffs = diff.diff(stream(actual), stream(lines(100)));
+    assertThat(diffs).hasSize(2);
+    assertThat(diffs.get(1).lineNumber()).isEqualTo(21);
+  }
+
+  @Test
+  public void should_report_differences_larger_than_the_window() throws IOException {
+    Diff.useStreamingDiff(4, 100);
+    List<String> actual = lines(50);
+    for (int i = 0; i < 10; i++) {
+      actual.add(20, "inserted" + i);
+    }
+    List<Delta<String>> diffs = diff.diff(stream(actual), stream(lines(50)));
+    assertThat(patchOf(diffs).applyTo(lines(50))).isEqualTo(actual);
+  }
+
+  @Test
+  public void should_report_differences_patching_expected_into_actual() throws IOException {
+    Random random = new Random(0);
+    for (int windowSize : new int[] { 1, 2, 7, 100 }) {
+      Diff.useStreamingDiff(windowSize, Integer.MAX_VALUE);
+      for (int run = 0; run < 200; run++) {
+        List<String> expected = randomLines(random);
+        List<String> actual = randomLines(random);
+        List<Delta<String>> diffs = diff.diff(stream(actual), stream(expected));
+        assertThat(patchOf(diffs).applyTo(expected)).as("window %s, expected %s, actual %s", windowSize, expected, actual)
+                                                    .isEqualTo(actual);
+      }
+    }
+  }
+
+  @Test
+  public void should_fail_if_window_size_is_not_positive() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> Diff.useStreamingDiff(0, 1))
+                                                             .withMessage("The streaming diff window size must be greater than 0 but was 0");
+  }
+
+  @Test
+  public void should_fail_if_max_deltas_is_not_positive() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> Diff.useStreamingDiff(1, 0))
+                                                             .withMessage("The maximum number of reported differences must be greater than 0 but was 0");
+  }
+
+  // few distinct lines to have many equal lines in different orders
+  private static List<String> randomLines(Random random) {
+    List<String> lines = new ArrayList<>();
+    for (int i = random.nextInt(30); i > 0; i--) {
+      lines.add("line" + random.nextInt(4));
+    }
+    return lines;
+  }
+
+  private static Patch<String> patchOf(List<Delta<String>> deltas) {
+    Patch<String> patch = new Patch<>();
+    for (Delta<String> delta : deltas) {
+      patch.addDelta(delta);
+    }
+    return patch;
+  }
+}
@@ -0,0 +1,72 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.assertj.core.internal.Diff;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.HistogramDiff;
+import org.assertj.core.util.diff.myers.MyersDiff;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Diff#diff(InputStream, InputStream)}</code> with the algorithm set by
+ * {@link Diff#useDiffAlgorithm(org.assertj.core.util.diff.DiffAlgorithm)}.
+ */
+public class Diff_diff_InputStream_with_diff_algorithm_Test {
+
+  private final static String LINE_SEPARATOR = System.getProperty("line.separator");
+
+  @After
+  public void tearDown() {
+    Diff.useDiffAlgorithm(new MyersDiff<String>());
+    Diff.useFullDiff();
+  }
+
+  private static InputStream stream(String... lines) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (String line : lines) {
+      stringBuilder.append(line).append(LINE_SEPARATOR);
+    }
+    return new ByteArrayInputStream(stringBuilder.toString().getBytes());
+  }
+
+  @Test
+  public void should_use_the_given_diff_algorithm() throws IOException {
+    Diff.useDiffAlgorithm(new HistogramDiff<String>());
+    // MyersDiff reports two deltas: line 4 ["c"] and line 5 ["c", "{"]
+    List<Delta<String>> diffs = new Diff().diff(stream("c", "a", "c", "c", "{", "c", "{"), stream("c", "a", "c", "{"));
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Extra content at line 4:%n"
+                                                + "  [\"c\",%n"
+                                                + "   \"{\",%n"
+                                                + "   \"c\"]%n"));
+  }
+
+  @Test
+  public void should_use_the_given_diff_algorithm_in_streaming_mode() throws IOException {
+    Diff.useDiffAlgorithm(new HistogramDiff<String>());
+    Diff.useStreamingDiff(100, 10);
+    List<Delta<String>> diffs = new Diff().diff(stream("c", "a", "c", "c", "{", "c", "{"), stream("c", "a", "c", "{"));
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0).lineNumber()).isEqualTo(4);
+  }
+}
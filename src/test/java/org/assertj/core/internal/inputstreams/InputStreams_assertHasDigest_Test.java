@@ -0,0 +1,111 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.assertj.core.internal.InputStreamsException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertHasDigest(AssertionInfo, InputStream, MessageDigest, byte[])}</code>.
+ */
+public class InputStreams_assertHasDigest_Test extends InputStreamsBaseTest {
+
+  private static final String MD5 = "a4335895e368734f5935369b7ffb9a15";
+
+  private InputStream stream;
+
+  @Before
+  public void init() {
+    stream = new ByteArrayInputStream("assertj".getBytes(UTF_8));
+  }
+
+  @Test
+  public void should_pass_if_stream_has_expected_digest() {
+    inputStreams.assertHasDigest(someInfo(), stream, "MD5", MD5);
+  }
+
+  @Test
+  public void should_pass_with_message_digest_and_binary_digest() throws NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-1");
+    byte[] expected = digest.digest("assertj".getBytes(UTF_8));
+    inputStreams.assertHasDigest(someInfo(), stream, digest, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_digest_is_null() {
+    thrown.expectNullPointerException("The message digest algorithm should not be null");
+    inputStreams.assertHasDigest(someInfo(), stream, (MessageDigest) null, new byte[0]);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() throws NoSuchAlgorithmException {
+    thrown.expectNullPointerException("The binary representation of digest to compare to should not be null");
+    inputStreams.assertHasDigest(someInfo(), stream, MessageDigest.getInstance("MD5"), (byte[]) null);
+  }
+
+  @Test
+  public void should_throw_error_if_algorithm_is_unknown() {
+    thrown.expectIllegalArgumentException("Unable to find digest implementation for: <UNKNOWN>");
+    inputStreams.assertHasDigest(someInfo(), stream, "UNKNOWN", MD5);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    inputStreams.assertHasDigest(someInfo(), null, "MD5", MD5);
+  }
+
+  @Test
+  public void should_fail_if_stream_does_not_have_expected_digest() throws NoSuchAlgorithmException {
+    AssertionInfo info = someInfo();
+    try {
+      inputStreams.assertHasDigest(info, stream, "MD5", "0011");
+    } catch (AssertionError e) {
+      DigestDiff diff = new DigestDiff(MD5.toUpperCase(), "0011", MessageDigest.getInstance("MD5"));
+      verify(failures).failure(info, shouldHaveDigest(stream, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() {
+    final IOException cause = new IOException();
+    InputStream failing = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw cause;
+      }
+    };
+    thrown.expectWithCause(InputStreamsException.class, cause);
+    inputStreams.assertHasDigest(someInfo(), failing, "MD5", MD5);
+  }
+}
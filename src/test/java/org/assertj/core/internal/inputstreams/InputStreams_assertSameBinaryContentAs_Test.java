@@ -0,0 +1,77 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
+import static org.assertj.core.internal.BinaryDiffResult.noDiff;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.assertj.core.internal.InputStreamsException;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertSameBinaryContentAs(AssertionInfo, InputStream, InputStream)}</code>.
+ */
+public class InputStreams_assertSameBinaryContentAs_Test extends InputStreamsBaseTest {
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The InputStream to compare to should not be null");
+    inputStreams.assertSameBinaryContentAs(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    inputStreams.assertSameBinaryContentAs(someInfo(), null, expected);
+  }
+
+  @Test
+  public void should_pass_if_inputstreams_have_equal_binary_content() throws IOException {
+    when(binaryDiff.diff(actual, expected)).thenReturn(noDiff());
+    inputStreams.assertSameBinaryContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(binaryDiff.diff(actual, expected)).thenThrow(cause);
+    thrown.expectWithCause(InputStreamsException.class, cause);
+    inputStreams.assertSameBinaryContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_if_inputstreams_do_not_have_equal_binary_content() throws IOException {
+    BinaryDiffResult diffResult = new BinaryDiffResult(1, 0xCA, 0xFE, 0, "00 [CA]", "00 [FE]");
+    when(binaryDiff.diff(actual, expected)).thenReturn(diffResult);
+    AssertionInfo info = someInfo();
+    try {
+      inputStreams.assertSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, expected, diffResult));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
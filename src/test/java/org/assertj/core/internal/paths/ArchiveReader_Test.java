@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import org.assertj.core.internal.ArchiveReader;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link ArchiveReader}</code>.
+ */
+public class ArchiveReader_Test {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ArchiveReader archiveReader;
+  private Path archive;
+
+  @Before
+  public void setUp() throws IOException {
+    archiveReader = new ArchiveReader();
+    archive = temporaryFolder.newFile("app.jar").toPath();
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+      zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+      zip.write("Manifest-Version: 1.0".getBytes(UTF_8));
+      zip.putNextEntry(new ZipEntry("config.properties"));
+      zip.write("name=Yoda".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void should_find_entry() throws IOException {
+    assertThat(archiveReader.hasEntry(archive, "config.properties")).isTrue();
+  }
+
+  @Test
+  public void should_not_find_absent_entry() throws IOException {
+    assertThat(archiveReader.hasEntry(archive, "META-INF/INDEX.LIST")).isFalse();
+  }
+
+  @Test
+  public void should_return_no_diff_if_entry_has_expected_content() throws IOException {
+    BinaryDiffResult diff = archiveReader.diffEntry(archive, "config.properties", contentOf("name=Yoda"));
+    assertThat(diff.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_first_difference_if_entry_does_not_have_expected_content() throws IOException {
+    BinaryDiffResult diff = archiveReader.diffEntry(archive, "config.properties", contentOf("name=Luke"));
+    assertThat(diff.offset).isEqualTo(5);
+    assertThat(diff.expected).isEqualTo("0x4C");
+    assertThat(diff.actual).isEqualTo("0x59");
+  }
+
+  @Test
+  public void should_return_null_if_archive_does_not_have_entry() throws IOException {
+    assertThat(archiveReader.diffEntry(archive, "META-INF/INDEX.LIST", contentOf("name=Yoda"))).isNull();
+  }
+
+  @Test
+  public void should_fail_if_file_is_not_an_archive() throws IOException {
+    Path notAnArchive = temporaryFolder.newFile("notes.txt").toPath();
+    Files.write(notAnArchive, "not a zip".getBytes(UTF_8));
+    Throwable error = catchThrowable(() -> archiveReader.hasEntry(notAnArchive, "notes.txt"));
+    assertThat(error).isInstanceOf(ZipException.class);
+  }
+
+  private static InputStream contentOf(String content) {
+    return new ByteArrayInputStream(content.getBytes(UTF_8));
+  }
+}
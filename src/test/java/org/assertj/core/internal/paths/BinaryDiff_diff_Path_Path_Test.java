@@ -0,0 +1,128 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.file.Files.delete;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.nio.file.Path, java.nio.file.Path)}</code>.
+ */
+public class BinaryDiff_diff_Path_Path_Test {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static BinaryDiff binaryDiff;
+
+  @BeforeClass
+  public static void setUpOnce() {
+    binaryDiff = new BinaryDiff();
+  }
+
+  private Path actual;
+  private Path expected;
+
+  @Before
+  public void setUp() throws IOException {
+    actual = folder.newFile("actual.bin").toPath();
+    expected = folder.newFile("expected.bin").toPath();
+  }
+
+  @Test
+  public void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    write(actual, bytes(100_000, -1));
+    write(expected, bytes(100_000, -1));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_no_diff_if_files_are_empty() throws IOException {
+    assertThat(binaryDiff.diff(actual, expected).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    write(actual, bytes(100_000, 54_321));
+    write(expected, bytes(100_000, -1));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(54_321);
+    assertThat(result.actual).isEqualTo("0xFF");
+    assertThat(result.expected).isEqualTo("0x31");
+  }
+
+  @Test
+  public void should_return_diff_if_actual_is_shorter() throws IOException {
+    write(actual, bytes(1000, -1));
+    write(expected, bytes(1001, -1));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(1000);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0xE8");
+  }
+
+  @Test
+  public void should_return_diff_if_expected_is_shorter() throws IOException {
+    write(actual, bytes(1001, -1));
+    write(expected, bytes(1000, -1));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(1000);
+    assertThat(result.actual).isEqualTo("0xE8");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  public void should_return_diff_if_big_mapped_files_differ_on_one_byte() throws IOException {
+    write(actual, bytes(10_000_000, 9_876_543));
+    write(expected, bytes(10_000_000, -1));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.getOffset()).isEqualTo(9_876_543L);
+    assertThat(result.actual).isEqualTo("0xFF");
+    assertThat(result.expected).isEqualTo("0x3F");
+    // fails on Windows if the mapped slices are not released
+    delete(actual);
+  }
+
+  @Test
+  public void should_return_no_diff_if_big_mapped_files_have_equal_content() throws IOException {
+    write(actual, bytes(10_000_000, -1));
+    write(expected, bytes(10_000_000, -1));
+    assertThat(binaryDiff.diff(actual, expected).hasNoDiff()).isTrue();
+  }
+
+  /**
+   * Builds {@code size} bytes where byte {@code i} is {@code (byte) i}, except the byte at {@code changedIndex} which is
+   * set to 0xFF.
+   */
+  private static byte[] bytes(int size, int changedIndex) {
+    byte[] bytes = new byte[size];
+    for (int i = 0; i < size; i++) {
+      bytes[i] = (byte) i;
+    }
+    if (changedIndex >= 0) bytes[changedIndex] = (byte) 0xFF;
+    return bytes;
+  }
+}
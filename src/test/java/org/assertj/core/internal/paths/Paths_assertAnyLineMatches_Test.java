@@ -0,0 +1,110 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.assertj.core.presentation.PredicateDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertAnyLineMatches(AssertionInfo, Path, Charset, Predicate, PredicateDescription)}</code>.
+ */
+public class Paths_assertAnyLineMatches_Test extends PathsBaseTest {
+
+  private Path actual;
+
+  @Before
+  public void init() throws IOException {
+    // the lines are mocked in this test
+    actual = mock(Path.class);
+    when(nioFilesWrapper.exists(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(true);
+    when(nioFilesWrapper.lines(actual, UTF_8)).thenReturn(Stream.of("Luke", "Yoda", "Leia"));
+  }
+
+  @Test
+  public void should_pass_if_lines_satisfy_the_predicate() {
+    paths.assertAnyLineMatches(someInfo(), actual, UTF_8, line -> line.startsWith("Y"), PredicateDescription.GIVEN);
+  }
+
+  @Test
+  public void should_throw_error_if_predicate_is_null() {
+    thrown.expectNullPointerException("The predicate to evaluate should not be null");
+    paths.assertAnyLineMatches(someInfo(), actual, UTF_8, null, PredicateDescription.GIVEN);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    paths.assertAnyLineMatches(someInfo(), null, UTF_8, line -> line.startsWith("Y"), PredicateDescription.GIVEN);
+  }
+
+  @Test
+  public void should_fail_if_lines_do_not_satisfy_the_predicate() {
+    AssertionInfo info = someInfo();
+    PredicateDescription description = new PredicateDescription("custom");
+    try {
+      paths.assertAnyLineMatches(info, actual, UTF_8, line -> line.startsWith("H"), description);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, anyElementShouldMatch(actual, description));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_readable() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(false);
+    try {
+      paths.assertAnyLineMatches(info, actual, UTF_8, line -> line.startsWith("Y"), PredicateDescription.GIVEN);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeReadable(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_IOException_thrown_when_reading_lines() throws IOException {
+    IOException cause = new IOException();
+    Stream<String> failingLines = Stream.of("Luke").map(line -> {
+      throw new UncheckedIOException(cause);
+    });
+    when(nioFilesWrapper.lines(actual, UTF_8)).thenReturn(failingLines);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    AssertionInfo info = someInfo();
+    paths.assertAnyLineMatches(info, actual, UTF_8, line -> line.startsWith("Y"), PredicateDescription.GIVEN);
+  }
+}
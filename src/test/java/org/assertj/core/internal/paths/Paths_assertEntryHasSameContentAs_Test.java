@@ -0,0 +1,167 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
+import static org.assertj.core.error.ShouldHaveEntry.shouldHaveEntry;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertEntryHasSameContentAs(AssertionInfo, Path, String, Path)}</code> and
+ * <code>{@link Paths#assertEntryHasSameContentAs(AssertionInfo, Path, String, InputStream)}</code>.
+ */
+public class Paths_assertEntryHasSameContentAs_Test extends PathsBaseTest {
+
+  private static final String ENTRY = "META-INF/MANIFEST.MF";
+
+  private Path actual;
+  private Path expected;
+  private InputStream expectedContent;
+
+  @Before
+  public void init() throws IOException {
+    // the archive reading is mocked in this test
+    actual = mock(Path.class);
+    expected = mock(Path.class);
+    expectedContent = new ByteArrayInputStream(new byte[] { 1, 2 });
+    when(nioFilesWrapper.exists(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(expected)).thenReturn(true);
+    when(nioFilesWrapper.newInputStream(expected)).thenReturn(expectedContent);
+  }
+
+  @Test
+  public void should_pass_if_entry_has_same_content_as_path() throws IOException {
+    when(archiveReader.diffEntry(actual, ENTRY, expectedContent)).thenReturn(BinaryDiffResult.noDiff());
+    paths.assertEntryHasSameContentAs(someInfo(), actual, ENTRY, expected);
+  }
+
+  @Test
+  public void should_pass_if_entry_has_same_content_as_stream() throws IOException {
+    when(archiveReader.diffEntry(actual, ENTRY, expectedContent)).thenReturn(BinaryDiffResult.noDiff());
+    paths.assertEntryHasSameContentAs(someInfo(), actual, ENTRY, expectedContent);
+  }
+
+  @Test
+  public void should_throw_error_if_entry_name_is_null() {
+    thrown.expectNullPointerException("The name of the entry to compare should not be null");
+    paths.assertEntryHasSameContentAs(someInfo(), actual, null, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_path_is_null() {
+    thrown.expectNullPointerException("The given Path to compare entry content to should not be null");
+    paths.assertEntryHasSameContentAs(someInfo(), actual, ENTRY, (Path) null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_stream_is_null() {
+    thrown.expectNullPointerException("The given InputStream to compare entry content to should not be null");
+    paths.assertEntryHasSameContentAs(someInfo(), actual, ENTRY, (InputStream) null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_path_is_not_readable() {
+    when(nioFilesWrapper.isReadable(expected)).thenReturn(false);
+    thrown.expectIllegalArgumentException(String.format("The given Path <%s> to compare entry content to should be readable",
+                                                        expected));
+    paths.assertEntryHasSameContentAs(someInfo(), actual, ENTRY, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    paths.assertEntryHasSameContentAs(someInfo(), null, ENTRY, expectedContent);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_readable() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(false);
+    try {
+      paths.assertEntryHasSameContentAs(info, actual, ENTRY, expectedContent);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeReadable(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_caught_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(archiveReader.diffEntry(actual, ENTRY, expectedContent)).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    paths.assertEntryHasSameContentAs(someInfo(), actual, ENTRY, expected);
+  }
+
+  @Test
+  public void should_fail_if_archive_does_not_have_entry() throws IOException {
+    AssertionInfo info = someInfo();
+    when(archiveReader.diffEntry(actual, ENTRY, expectedContent)).thenReturn(null);
+    try {
+      paths.assertEntryHasSameContentAs(info, actual, ENTRY, expectedContent);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveEntry(actual, ENTRY));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_entry_does_not_have_same_content_as_path() throws IOException {
+    AssertionInfo info = someInfo();
+    BinaryDiffResult diff = new BinaryDiffResult(1, 2, 3);
+    when(archiveReader.diffEntry(actual, ENTRY, expectedContent)).thenReturn(diff);
+    try {
+      paths.assertEntryHasSameContentAs(info, actual, ENTRY, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, ENTRY, expected, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_entry_does_not_have_same_content_as_stream() throws IOException {
+    AssertionInfo info = someInfo();
+    BinaryDiffResult diff = new BinaryDiffResult(1, 2, 3);
+    when(archiveReader.diffEntry(actual, ENTRY, expectedContent)).thenReturn(diff);
+    try {
+      paths.assertEntryHasSameContentAs(info, actual, ENTRY, expectedContent);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, ENTRY, expectedContent, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
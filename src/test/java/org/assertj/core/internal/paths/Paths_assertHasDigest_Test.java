@@ -0,0 +1,137 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link Paths#assertHasDigest(AssertionInfo, Path, MessageDigest, byte[])}</code>.
+ */
+public class Paths_assertHasDigest_Test extends PathsBaseTest {
+
+  private static final String MD5 = "a4335895e368734f5935369b7ffb9a15";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path actual;
+
+  @Before
+  public void init() throws IOException {
+    actual = folder.newFile("actual.txt").toPath();
+    java.nio.file.Files.write(actual, "assertj".getBytes(UTF_8));
+    when(nioFilesWrapper.exists(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(true);
+    when(nioFilesWrapper.newByteChannel(actual)).thenReturn(java.nio.file.Files.newByteChannel(actual));
+  }
+
+  @Test
+  public void should_pass_if_path_has_expected_digest() {
+    paths.assertHasDigest(someInfo(), actual, "MD5", MD5);
+  }
+
+  @Test
+  public void should_pass_with_message_digest_and_binary_digest() throws NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-1");
+    byte[] expected = digest.digest("assertj".getBytes(UTF_8));
+    paths.assertHasDigest(someInfo(), actual, digest, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_digest_is_null() {
+    thrown.expectNullPointerException("The message digest algorithm should not be null");
+    paths.assertHasDigest(someInfo(), actual, (MessageDigest) null, new byte[0]);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() throws NoSuchAlgorithmException {
+    thrown.expectNullPointerException("The binary representation of digest to compare to should not be null");
+    paths.assertHasDigest(someInfo(), actual, MessageDigest.getInstance("MD5"), (byte[]) null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    paths.assertHasDigest(someInfo(), null, "MD5", MD5);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_exist() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.exists(actual)).thenReturn(false);
+    try {
+      paths.assertHasDigest(info, actual, "MD5", MD5);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldExist(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_readable() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(false);
+    try {
+      paths.assertHasDigest(info, actual, "MD5", MD5);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeReadable(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_path_does_not_have_expected_digest() throws NoSuchAlgorithmException {
+    AssertionInfo info = someInfo();
+    try {
+      paths.assertHasDigest(info, actual, "MD5", "0011");
+    } catch (AssertionError e) {
+      DigestDiff diff = new DigestDiff(MD5.toUpperCase(), "0011", MessageDigest.getInstance("MD5"));
+      verify(failures).failure(info, shouldHaveDigest(actual, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(nioFilesWrapper.newByteChannel(actual)).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    paths.assertHasDigest(someInfo(), actual, "MD5", MD5);
+  }
+}
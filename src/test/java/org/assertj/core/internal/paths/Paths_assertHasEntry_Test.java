@@ -0,0 +1,100 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
+import static org.assertj.core.error.ShouldHaveEntry.shouldHaveEntry;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasEntry(AssertionInfo, Path, String)}</code>.
+ */
+public class Paths_assertHasEntry_Test extends PathsBaseTest {
+
+  private Path actual;
+
+  @Before
+  public void init() {
+    // the archive reading is mocked in this test
+    actual = mock(Path.class);
+    when(nioFilesWrapper.exists(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(true);
+  }
+
+  @Test
+  public void should_pass_if_archive_has_entry() throws IOException {
+    when(archiveReader.hasEntry(actual, "META-INF/MANIFEST.MF")).thenReturn(true);
+    paths.assertHasEntry(someInfo(), actual, "META-INF/MANIFEST.MF");
+  }
+
+  @Test
+  public void should_throw_error_if_entry_name_is_null() {
+    thrown.expectNullPointerException("The name of the entry to look for should not be null");
+    paths.assertHasEntry(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    paths.assertHasEntry(someInfo(), null, "META-INF/MANIFEST.MF");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_readable() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(false);
+    try {
+      paths.assertHasEntry(info, actual, "META-INF/MANIFEST.MF");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeReadable(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_caught_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(archiveReader.hasEntry(actual, "META-INF/MANIFEST.MF")).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    paths.assertHasEntry(someInfo(), actual, "META-INF/MANIFEST.MF");
+  }
+
+  @Test
+  public void should_fail_if_archive_does_not_have_entry() throws IOException {
+    AssertionInfo info = someInfo();
+    when(archiveReader.hasEntry(actual, "META-INF/INDEX.LIST")).thenReturn(false);
+    try {
+      paths.assertHasEntry(info, actual, "META-INF/INDEX.LIST");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveEntry(actual, "META-INF/INDEX.LIST"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveSameBinaryContent.shouldHaveSameBinaryContent;
+import static org.assertj.core.internal.BinaryDiffResult.noDiff;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasSameBinaryContentAs(AssertionInfo, Path, Path)}</code>.
+ */
+public class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
+
+  private Path actual;
+  private Path expected;
+
+  @Before
+  public void init() throws IOException {
+    // the actual comparison is mocked in this test
+    actual = mock(Path.class);
+    expected = mock(Path.class);
+    when(nioFilesWrapper.exists(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(true);
+    when(nioFilesWrapper.isReadable(expected)).thenReturn(true);
+    when(nioFilesWrapper.size(actual)).thenReturn(10L);
+    when(nioFilesWrapper.size(expected)).thenReturn(10L);
+  }
+
+  @Test
+  public void should_pass_if_paths_have_same_binary_content() throws IOException {
+    when(binaryDiff.diff(actual, expected)).thenReturn(noDiff());
+    paths.assertHasSameBinaryContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The given Path to compare actual content to should not be null");
+    paths.assertHasSameBinaryContentAs(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_readable() {
+    when(nioFilesWrapper.isReadable(expected)).thenReturn(false);
+    thrown.expectIllegalArgumentException(String.format("The given Path <%s> to compare actual content to should be readable",
+                                                        expected));
+    paths.assertHasSameBinaryContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    paths.assertHasSameBinaryContentAs(someInfo(), null, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_path_does_not_exist() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.exists(actual)).thenReturn(false);
+    try {
+      paths.assertHasSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldExist(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_readable() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.isReadable(actual)).thenReturn(false);
+    try {
+      paths.assertHasSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeReadable(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_without_reading_contents_if_sizes_differ() throws IOException {
+    when(nioFilesWrapper.size(expected)).thenReturn(12L);
+    AssertionInfo info = someInfo();
+    try {
+      paths.assertHasSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, expected, 10L, 12L));
+      verifyZeroInteractions(binaryDiff);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_paths_do_not_have_same_binary_content() throws IOException {
+    BinaryDiffResult diffResult = new BinaryDiffResult(5, 0xCA, 0xFE);
+    when(binaryDiff.diff(actual, expected)).thenReturn(diffResult);
+    AssertionInfo info = someInfo();
+    try {
+      paths.assertHasSameBinaryContentAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameBinaryContent(actual, expected, diffResult));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(binaryDiff.diff(actual, expected)).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    paths.assertHasSameBinaryContentAs(someInfo(), actual, expected);
+  }
+}
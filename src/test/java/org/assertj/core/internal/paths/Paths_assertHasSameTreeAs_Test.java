@@ -0,0 +1,134 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.assertj.core.internal.TreeDiffResult;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasSameTreeAs(AssertionInfo, Path, Path)}</code>.
+ */
+public class Paths_assertHasSameTreeAs_Test extends PathsBaseTest {
+
+  private Path actual;
+  private Path expected;
+
+  @Before
+  public void init() {
+    // the actual comparison is mocked in this test
+    actual = mock(Path.class);
+    expected = mock(Path.class);
+    when(nioFilesWrapper.exists(actual)).thenReturn(true);
+    when(nioFilesWrapper.isDirectory(actual)).thenReturn(true);
+    when(nioFilesWrapper.isDirectory(expected)).thenReturn(true);
+  }
+
+  @Test
+  public void should_pass_if_paths_have_same_tree() throws IOException {
+    when(treeDiff.diff(actual, expected)).thenReturn(noDiff());
+    paths.assertHasSameTreeAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The given Path to compare actual tree to should not be null");
+    paths.assertHasSameTreeAs(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_a_directory() {
+    when(nioFilesWrapper.isDirectory(expected)).thenReturn(false);
+    thrown.expectIllegalArgumentException(String.format("The given Path <%s> to compare actual tree to should be an existing directory",
+                                                        expected));
+    paths.assertHasSameTreeAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    paths.assertHasSameTreeAs(someInfo(), null, expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_exist() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.exists(actual)).thenReturn(false);
+    try {
+      paths.assertHasSameTreeAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldExist(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_directory() {
+    AssertionInfo info = someInfo();
+    when(nioFilesWrapper.isDirectory(actual)).thenReturn(false);
+    try {
+      paths.assertHasSameTreeAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeDirectory(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_paths_do_not_have_same_tree() throws IOException {
+    TreeDiffResult diffResult = new TreeDiffResult(newArrayList("a.txt"), new ArrayList<String>(),
+                                                   newArrayList("b.txt"));
+    when(treeDiff.diff(actual, expected)).thenReturn(diffResult);
+    AssertionInfo info = someInfo();
+    try {
+      paths.assertHasSameTreeAs(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameTree(actual, expected, diffResult));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() throws IOException {
+    IOException cause = new IOException();
+    when(treeDiff.diff(actual, expected)).thenThrow(cause);
+    thrown.expectWithCause(RuntimeIOException.class, cause);
+    paths.assertHasSameTreeAs(someInfo(), actual, expected);
+  }
+
+  private static TreeDiffResult noDiff() {
+    return new TreeDiffResult(new ArrayList<String>(), new ArrayList<String>(), new ArrayList<String>());
+  }
+}
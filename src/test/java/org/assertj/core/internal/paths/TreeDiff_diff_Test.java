@@ -0,0 +1,130 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.TreeDiff;
+import org.assertj.core.internal.TreeDiffResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link TreeDiff#diff(Path, Path)}</code>.
+ */
+public class TreeDiff_diff_Test {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private TreeDiff treeDiff;
+  private Path actual;
+  private Path expected;
+
+  @Before
+  public void setUp() throws IOException {
+    // several threads even on a single processor to exercise the parallel comparison
+    treeDiff = new TreeDiff(4);
+    actual = folder.newFolder("actual").toPath();
+    expected = folder.newFolder("expected").toPath();
+  }
+
+  @Test
+  public void should_return_no_diff_if_trees_are_equal() throws IOException {
+    for (Path root : new Path[] { actual, expected }) {
+      write(root, "a.txt", "Luke");
+      write(root, "dir/b.txt", "Leia");
+      write(root, "dir/sub/c.txt", "Han");
+      write(root, "empty.txt", "");
+      Files.createDirectories(root.resolve("empty-dir"));
+    }
+    assertThat(treeDiff.diff(actual, expected).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_no_diff_if_trees_are_empty() throws IOException {
+    assertThat(treeDiff.diff(actual, expected).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_report_added_removed_and_changed_entries_in_order() throws IOException {
+    write(actual, "same.txt", "Yoda");
+    write(expected, "same.txt", "Yoda");
+    write(actual, "content.txt", "Luke");
+    write(expected, "content.txt", "Leia");
+    write(actual, "size.txt", "Han");
+    write(expected, "size.txt", "Han Solo");
+    write(actual, "z-added.txt", "Chewie");
+    write(actual, "a-added.txt", "R2");
+    write(expected, "removed.txt", "C3PO");
+    TreeDiffResult result = treeDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isFalse();
+    assertThat(result.added).containsExactly("a-added.txt", "z-added.txt");
+    assertThat(result.removed).containsExactly("removed.txt");
+    assertThat(result.changed).containsExactly("content.txt", "size.txt");
+  }
+
+  @Test
+  public void should_report_nested_entries_with_slash_separated_relative_paths() throws IOException {
+    write(actual, "dir/sub/c.txt", "Luke");
+    write(expected, "dir/sub/c.txt", "Leia");
+    assertThat(treeDiff.diff(actual, expected).changed).containsExactly("dir/sub/c.txt");
+  }
+
+  @Test
+  public void should_report_added_or_removed_directories_without_their_content() throws IOException {
+    write(actual, "added/a.txt", "Luke");
+    write(actual, "added/sub/b.txt", "Leia");
+    write(actual, "added-file.txt", "Han");
+    write(expected, "removed/a.txt", "Yoda");
+    TreeDiffResult result = treeDiff.diff(actual, expected);
+    assertThat(result.added).containsExactly("added", "added-file.txt");
+    assertThat(result.removed).containsExactly("removed");
+    assertThat(result.changed).isEmpty();
+  }
+
+  @Test
+  public void should_report_entry_that_is_a_file_in_one_tree_and_a_directory_in_the_other_as_changed() throws IOException {
+    write(actual, "entry", "Luke");
+    write(expected, "entry/a.txt", "Luke");
+    TreeDiffResult result = treeDiff.diff(actual, expected);
+    assertThat(result.added).isEmpty();
+    assertThat(result.removed).isEmpty();
+    assertThat(result.changed).containsExactly("entry");
+  }
+
+  @Test
+  public void should_compare_many_files_whatever_the_parallelism() throws IOException {
+    for (int i = 0; i < 100; i++) {
+      write(actual, "dir" + i % 7 + "/file" + i, "content " + i);
+      write(expected, "dir" + i % 7 + "/file" + i, i % 10 == 3 ? "Content " + i : "content " + i);
+    }
+    String[] changed = { "dir0/file63", "dir1/file43", "dir2/file23", "dir2/file93", "dir3/file3", "dir3/file73",
+        "dir4/file53", "dir5/file33", "dir6/file13", "dir6/file83" };
+    assertThat(treeDiff.diff(actual, expected).changed).containsExactly(changed);
+    assertThat(new TreeDiff(1).diff(actual, expected).changed).containsExactly(changed);
+  }
+
+  private static void write(Path root, String name, String content) throws IOException {
+    Path file = root.resolve(name);
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(UTF_8));
+  }
+}
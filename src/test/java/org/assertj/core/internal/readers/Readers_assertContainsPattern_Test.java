@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.readers;
+
+import static org.assertj.core.error.ShouldContainPattern.shouldContainPattern;
+import static org.assertj.core.internal.ErrorMessages.regexPatternIsNull;
+import static org.assertj.core.internal.Readers.BUFFER_SIZE;
+import static org.assertj.core.test.TestData.matchAnything;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Readers;
+import org.assertj.core.internal.ReadersBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Readers#assertContainsPattern(AssertionInfo, Reader, CharSequence)}</code> and
+ * <code>{@link Readers#assertContainsPattern(AssertionInfo, Reader, Pattern)}</code>.
+ */
+public class Readers_assertContainsPattern_Test extends ReadersBaseTest {
+
+  @Test
+  public void should_throw_error_if_regular_expression_is_null() {
+    thrown.expectNullPointerException(regexPatternIsNull());
+    String regex = null;
+    readers.assertContainsPattern(someInfo(), new StringReader("Yoda"), regex);
+  }
+
+  @Test
+  public void should_throw_error_if_pattern_is_null() {
+    thrown.expectNullPointerException(regexPatternIsNull());
+    Pattern pattern = null;
+    readers.assertContainsPattern(someInfo(), new StringReader("Yoda"), pattern);
+  }
+
+  @Test
+  public void should_throw_error_if_syntax_of_regular_expression_is_invalid() {
+    thrown.expect(PatternSyntaxException.class);
+    readers.assertContainsPattern(someInfo(), new StringReader("Yoda"), "*...");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertContainsPattern(someInfo(), null, matchAnything());
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_regular_expression() {
+    Reader actual = new StringReader("Yoda");
+    thrown.expectAssertionError(shouldContainPattern(actual, "Lu.e"));
+    readers.assertContainsPattern(someInfo(), actual, "Lu.e");
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_regular_expression() {
+    readers.assertContainsPattern(someInfo(), new StringReader("Yoda and Luke"), "Lu.e");
+    readers.assertContainsPattern(someInfo(), new StringReader("Yoda and Luke"), Pattern.compile("^Yo.a"));
+  }
+
+  @Test
+  public void should_find_matches_spanning_several_chunks_of_a_big_content() {
+    readers.assertContainsPattern(someInfo(), new StringReader(repeat('a', 10_000) + "Yoda" + repeat('b', 10_000)),
+                                  "a{100}Yodab{100}");
+    readers.assertContainsPattern(someInfo(), new StringReader(repeat('a', 10_000) + "Yoda" + repeat('b', 10_000)),
+                                  "Yodab+|b{5}$");
+  }
+
+  @Test
+  public void should_not_match_beginning_and_end_of_input_in_the_middle_of_a_big_content() {
+    Reader actual = new StringReader(repeat('a', 20_000) + "b");
+    thrown.expectAssertionError(shouldContainPattern(actual, "^a+$"));
+    readers.assertContainsPattern(someInfo(), actual, "^a+$");
+  }
+
+  @Test
+  public void should_not_match_a_lookahead_at_the_end_of_a_chunk_that_fails_with_the_next_chunk() {
+    String content = repeat('a', BUFFER_SIZE - "foo".length()) + "foobar";
+    Reader actual = new StringReader(content);
+    thrown.expectAssertionError(shouldContainPattern(actual, "foo(?!bar)"));
+    readers.assertContainsPattern(someInfo(), actual, "foo(?!bar)");
+  }
+
+  @Test
+  public void should_match_a_lookahead_at_the_end_of_a_chunk_that_holds_with_the_next_chunk() {
+    String content = repeat('a', BUFFER_SIZE - "foo".length()) + "foobaz";
+    readers.assertContainsPattern(someInfo(), new StringReader(content), "foo(?!bar)");
+  }
+
+  private static String repeat(char c, int times) {
+    StringBuilder repeated = new StringBuilder(times);
+    for (int i = 0; i < times; i++) {
+      repeated.append(c);
+    }
+    return repeated.toString();
+  }
+}
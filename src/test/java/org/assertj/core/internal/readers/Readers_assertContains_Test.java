@@ -0,0 +1,116 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.readers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldContainCharSequence.shouldContain;
+import static org.assertj.core.internal.ErrorMessages.arrayOfValuesToLookForIsEmpty;
+import static org.assertj.core.internal.ErrorMessages.arrayOfValuesToLookForIsNull;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Readers;
+import org.assertj.core.internal.ReadersBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Readers#assertContains(AssertionInfo, Reader, CharSequence...)}</code>.
+ */
+public class Readers_assertContains_Test extends ReadersBaseTest {
+
+  @Test
+  public void should_throw_error_if_values_is_null() {
+    thrown.expectNullPointerException(arrayOfValuesToLookForIsNull());
+    readers.assertContains(someInfo(), new StringReader("Yoda"), (CharSequence[]) null);
+  }
+
+  @Test
+  public void should_throw_error_if_values_is_empty() {
+    thrown.expectIllegalArgumentException(arrayOfValuesToLookForIsEmpty());
+    readers.assertContains(someInfo(), new StringReader("Yoda"), new CharSequence[0]);
+  }
+
+  @Test
+  public void should_throw_error_if_values_contains_null() {
+    thrown.expectNullPointerException("Expecting CharSequence elements not to be null but found one at index 1");
+    readers.assertContains(someInfo(), new StringReader("Yoda"), "Yo", null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertContains(someInfo(), null, "Yoda");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_value() {
+    Reader actual = new StringReader("Yoda");
+    thrown.expectAssertionError(shouldContain(actual, "Luke", readers.getComparisonStrategy()));
+    readers.assertContains(someInfo(), actual, "Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_all_values() {
+    Reader actual = new StringReader("Yoda and Luke");
+    String[] values = array("Luke", "Leia", "Han");
+    thrown.expectAssertionError(shouldContain(actual, values, newLinkedHashSet("Leia", "Han"),
+                                              readers.getComparisonStrategy()));
+    readers.assertContains(someInfo(), actual, values);
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_all_values() {
+    readers.assertContains(someInfo(), new StringReader("Yoda and Luke"), "Luke", "oda", "and");
+  }
+
+  @Test
+  public void should_find_values_spanning_several_chunks_of_a_big_content() {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      content.append(i).append(' ');
+    }
+    readers.assertContains(someInfo(), new StringReader(content.toString()), "8191 8192 8193", "9999 ", "0 1 2");
+  }
+
+  @Test
+  public void should_stop_reading_once_all_values_are_found() throws Exception {
+    Reader actual = new StringReader("Yoda and Luke");
+    readers.assertContains(someInfo(), actual, "Yoda");
+    // whole buffer is read at once, but not beyond the content
+    assertThat(actual.read()).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_all_values_according_to_custom_comparison_strategy() {
+    Reader actual = new StringReader("Yoda and Luke");
+    String[] values = array("LUKE", "Leia");
+    thrown.expectAssertionError(shouldContain(actual, values, newLinkedHashSet("Leia"), comparisonStrategy));
+    readersWithCaseInsensitiveComparisonStrategy.assertContains(someInfo(), actual, values);
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_all_values_according_to_custom_comparison_strategy() {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      content.append(i).append(' ');
+    }
+    readersWithCaseInsensitiveComparisonStrategy.assertContains(someInfo(), new StringReader("Yoda and " + content),
+                                                               "yODA", "8191 8192 8193");
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.readers;
+
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Readers;
+import org.assertj.core.internal.ReadersBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Readers#assertHasLineCount(AssertionInfo, Reader, int)}</code>.
+ */
+public class Readers_assertHasLineCount_Test extends ReadersBaseTest {
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertHasLineCount(someInfo(), null, 3);
+  }
+
+  @Test
+  public void should_fail_if_actual_line_count_is_not_equal_to_expected_line_count() {
+    Reader actual = new StringReader("Begin\nOk\nEnd");
+    thrown.expectAssertionError(shouldHaveLinesCount(actual, 3, 2));
+    readers.assertHasLineCount(someInfo(), actual, 2);
+  }
+
+  @Test
+  public void should_pass_if_actual_has_expected_line_count() {
+    readers.assertHasLineCount(someInfo(), new StringReader(""), 0);
+    readers.assertHasLineCount(someInfo(), new StringReader("Begin\nOk\nEnd"), 3);
+    readers.assertHasLineCount(someInfo(), new StringReader("Begin\r\nOk\rEnd\n"), 3);
+    readers.assertHasLineCount(someInfo(), new StringReader("\n\r\n\r"), 3);
+  }
+
+  @Test
+  public void should_count_line_terminators_split_over_two_chunks_once() {
+    StringBuilder content = new StringBuilder();
+    for (int i = 1; i < 8192; i++) {
+      content.append('a');
+    }
+    // the buffer ends with \r and the next one starts with \n
+    content.append("\r\nlast line");
+    readers.assertHasLineCount(someInfo(), new StringReader(content.toString()), 2);
+  }
+}
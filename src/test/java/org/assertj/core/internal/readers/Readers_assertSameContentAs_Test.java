@@ -0,0 +1,86 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.readers;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Readers;
+import org.assertj.core.internal.ReadersBaseTest;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Readers#assertSameContentAs(AssertionInfo, Reader, Reader)}</code>.
+ */
+public class Readers_assertSameContentAs_Test extends ReadersBaseTest {
+
+  private static final List<String> NO_LINES = emptyList();
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The Reader to compare to should not be null");
+    readers.assertSameContentAs(someInfo(), new StringReader("Yoda"), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertSameContentAs(someInfo(), null, new StringReader("Yoda"));
+  }
+
+  @Test
+  public void should_pass_if_readers_have_equal_content() {
+    readers.assertSameContentAs(someInfo(), new StringReader("Yoda\nLuke"), new StringReader("Yoda\r\nLuke\n"));
+    readers.assertSameContentAs(someInfo(), new StringReader(""), new StringReader(""));
+  }
+
+  @Test
+  public void should_fail_reporting_first_changed_line() {
+    Reader actual = new StringReader("Yoda\nLuke\nLeia");
+    Reader expected = new StringReader("Yoda\nHan\nChewie");
+    Delta<String> delta = new ChangeDelta<>(new Chunk<>(1, singletonList("Han")), new Chunk<>(1, singletonList("Luke")));
+    thrown.expectAssertionError(shouldHaveSameContent(actual, expected, singletonList(delta)));
+    readers.assertSameContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_reporting_first_missing_line() {
+    Reader actual = new StringReader("Yoda");
+    Reader expected = new StringReader("Yoda\nLuke");
+    Delta<String> delta = new DeleteDelta<>(new Chunk<>(1, singletonList("Luke")), new Chunk<>(1, NO_LINES));
+    thrown.expectAssertionError(shouldHaveSameContent(actual, expected, singletonList(delta)));
+    readers.assertSameContentAs(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_reporting_first_unexpected_line() {
+    Reader actual = new StringReader("Yoda\nLuke");
+    Reader expected = new StringReader("Yoda");
+    Delta<String> delta = new InsertDelta<>(new Chunk<>(1, NO_LINES), new Chunk<>(1, singletonList("Luke")));
+    thrown.expectAssertionError(shouldHaveSameContent(actual, expected, singletonList(delta)));
+    readers.assertSameContentAs(someInfo(), actual, expected);
+  }
+}
@@ -0,0 +1,84 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.readers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Readers;
+import org.assertj.core.internal.ReadersBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Readers#assertStartsWith(AssertionInfo, Reader, CharSequence)}</code>.
+ */
+public class Readers_assertStartsWith_Test extends ReadersBaseTest {
+
+  @Test
+  public void should_throw_error_if_prefix_is_null() {
+    thrown.expectNullPointerException("The given prefix should not be null");
+    readers.assertStartsWith(someInfo(), new StringReader("Yoda"), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertStartsWith(someInfo(), null, "Yoda");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_start_with_prefix() {
+    Reader actual = new StringReader("Yoda");
+    thrown.expectAssertionError(shouldStartWith(actual, "Luke", readers.getComparisonStrategy()));
+    readers.assertStartsWith(someInfo(), actual, "Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_shorter_than_prefix() {
+    Reader actual = new StringReader("Yo");
+    thrown.expectAssertionError(shouldStartWith(actual, "Yoda", readers.getComparisonStrategy()));
+    readers.assertStartsWith(someInfo(), actual, "Yoda");
+  }
+
+  @Test
+  public void should_pass_if_actual_starts_with_prefix() {
+    readers.assertStartsWith(someInfo(), new StringReader("Yoda"), "Yo");
+    readers.assertStartsWith(someInfo(), new StringReader("Yoda"), "Yoda");
+    readers.assertStartsWith(someInfo(), new StringReader(""), "");
+  }
+
+  @Test
+  public void should_only_read_the_prefix_length() throws Exception {
+    Reader actual = new StringReader("Yoda");
+    readers.assertStartsWith(someInfo(), actual, "Yo");
+    assertThat((char) actual.read()).isEqualTo('d');
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_start_with_prefix_according_to_custom_comparison_strategy() {
+    Reader actual = new StringReader("Yoda");
+    thrown.expectAssertionError(shouldStartWith(actual, "Luke", comparisonStrategy));
+    readersWithCaseInsensitiveComparisonStrategy.assertStartsWith(someInfo(), actual, "Luke");
+  }
+
+  @Test
+  public void should_pass_if_actual_starts_with_prefix_according_to_custom_comparison_strategy() {
+    readersWithCaseInsensitiveComparisonStrategy.assertStartsWith(someInfo(), new StringReader("Yoda"), "yO");
+  }
+}
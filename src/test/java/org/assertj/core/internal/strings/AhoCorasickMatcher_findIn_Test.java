@@ -0,0 +1,73 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.AhoCorasickMatcher.matcherFor;
+import static org.assertj.core.internal.AhoCorasickMatcher.matcherIgnoringCaseFor;
+
+import org.assertj.core.internal.AhoCorasickMatcher;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link AhoCorasickMatcher#findIn(CharSequence)}</code>.
+ */
+public class AhoCorasickMatcher_findIn_Test {
+
+  @Test
+  public void should_find_all_contained_sequences() {
+    boolean[] found = matcherFor("he", "she", "his", "hers").findIn("ushers");
+    assertThat(found).containsExactly(true, true, false, true);
+  }
+
+  @Test
+  public void should_find_sequences_that_are_suffixes_of_other_sequences() {
+    boolean[] found = matcherFor("abcd", "bcd", "cd", "d", "bd").findIn("xabcdx");
+    assertThat(found).containsExactly(true, true, true, true, false);
+  }
+
+  @Test
+  public void should_find_duplicated_sequences() {
+    boolean[] found = matcherFor("Yoda", "Luke", "Yoda").findIn("Yoda and Luke");
+    assertThat(found).containsExactly(true, true, true);
+  }
+
+  @Test
+  public void should_always_find_empty_sequence() {
+    assertThat(matcherFor("", "Luke").findIn("")).containsExactly(true, false);
+  }
+
+  @Test
+  public void should_search_in_any_char_sequence() {
+    boolean[] found = matcherFor("od", new StringBuilder("Lu")).findIn(new StringBuilder("Yoda"));
+    assertThat(found).containsExactly(true, false);
+  }
+
+  @Test
+  public void should_be_case_sensitive_by_default() {
+    assertThat(matcherFor("yoda").allFoundIn("Yoda")).isFalse();
+  }
+
+  @Test
+  public void should_find_sequences_ignoring_case() {
+    boolean[] found = matcherIgnoringCaseFor("YODA", "lUkE", "Leia").findIn("yoda and Luke");
+    assertThat(found).containsExactly(true, true, false);
+  }
+
+  @Test
+  public void should_report_whether_all_sequences_are_found() {
+    AhoCorasickMatcher matcher = matcherFor("alf", "grey");
+    assertThat(matcher.allFoundIn("Gandalf the grey")).isTrue();
+    assertThat(matcher.allFoundIn("Gandalf the white")).isFalse();
+  }
+}
@@ -0,0 +1,41 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.AhoCorasickMatcher.matcherFor;
+
+import org.assertj.core.internal.AhoCorasickMatcher;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link AhoCorasickMatcher#newSearch()}</code>.
+ */
+public class AhoCorasickMatcher_newSearch_Test {
+
+  @Test
+  public void should_find_sequences_spanning_several_chunks() {
+    AhoCorasickMatcher.Search search = matcherFor("Yoda", "Luke", "Leia").newSearch();
+    assertThat(search.scan("Yo")).isFalse();
+    assertThat(search.scan("da and Lu")).isFalse();
+    assertThat(search.scan("ke")).isFalse();
+    assertThat(search.found()).containsExactly(true, true, false);
+  }
+
+  @Test
+  public void should_report_when_all_sequences_are_found() {
+    AhoCorasickMatcher.Search search = matcherFor("Yoda", "Luke").newSearch();
+    assertThat(search.scan("Yoda and Lu")).isFalse();
+    assertThat(search.scan("ke")).isTrue();
+  }
+}
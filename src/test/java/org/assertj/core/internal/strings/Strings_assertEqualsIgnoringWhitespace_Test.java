@@ -93,7 +93,8 @@ public class Strings_assertEqualsIgnoringWhitespace_Test extends StringsBaseTest
               $(" my\tfoo bar ", " my\tfoo bar "),   // same
               $(null, null),   // null
               $(" \t \t", " "),
-              $(" abc", "abc "));
+              $(" abc", "abc "),
+              $("\u0000 my foo bar\u0001 ", "my foo bar"));
    // @format:on
   }
 
@@ -0,0 +1,59 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCountBetween;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import org.assertj.core.internal.StringsBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link org.assertj.core.internal.Strings#assertHasLineCountBetween(org.assertj.core.api.AssertionInfo, CharSequence, int, int)}</code>.
+ */
+public class Strings_assertHasLineCountBetween_Test extends StringsBaseTest {
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    strings.assertHasLineCountBetween(someInfo(), null, 1, 3);
+  }
+
+  @Test
+  public void should_throw_error_if_higher_boundary_is_less_than_lower_boundary() {
+    thrown.expectIllegalArgumentException("The higher boundary <1> must be greater than or equal to the lower boundary <3>.");
+    strings.assertHasLineCountBetween(someInfo(), "Begin", 3, 1);
+  }
+
+  @Test
+  public void should_pass_if_lines_count_of_actual_is_between_boundaries() {
+    strings.assertHasLineCountBetween(someInfo(), "Begin\nMiddle\r\nEnd", 3, 3);
+    strings.assertHasLineCountBetween(someInfo(), "Begin\rEnd\n", 1, 2);
+    strings.assertHasLineCountBetween(someInfo(), new StringBuilder("Begin\n\nEnd"), 3, 5);
+  }
+
+  @Test
+  public void should_fail_if_lines_count_of_actual_is_less_than_lower_boundary() {
+    String actual = "Begin\r\nEnd";
+    thrown.expectAssertionError(shouldHaveLinesCountBetween(actual, 2, 3, 5).create());
+    strings.assertHasLineCountBetween(someInfo(), actual, 3, 5);
+  }
+
+  @Test
+  public void should_fail_if_lines_count_of_actual_is_greater_than_higher_boundary() {
+    String actual = "Begin\nMiddle\nEnd";
+    thrown.expectAssertionError(shouldHaveLinesCountBetween(actual, 3, 1, 2).create());
+    strings.assertHasLineCountBetween(someInfo(), actual, 1, 2);
+  }
+}
@@ -50,6 +50,13 @@ public class Strings_assertHasLinesCount_Test extends StringsBaseTest {
     strings.assertHasLineCount(someInfo(), String.format("Begin" + LINE_SEPARATOR + "Middle%nEnd"), 3);
   }
 
+  @Test
+  public void should_count_lines_terminated_by_line_feed_carriage_return_or_both() {
+    strings.assertHasLineCount(someInfo(), "Begin\rMiddle\r\n\nEnd\n", 4);
+    strings.assertHasLineCount(someInfo(), new StringBuilder("Begin\r\nEnd\r"), 2);
+    strings.assertHasLineCount(someInfo(), "", 0);
+  }
+
   @Test
   public void should_fail_if_actual_is_null_whatever_custom_comparison_strategy_is() {
     thrown.expectAssertionError(actualIsNull());
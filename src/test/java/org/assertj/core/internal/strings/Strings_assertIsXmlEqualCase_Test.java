@@ -40,6 +40,13 @@ public class Strings_assertIsXmlEqualCase_Test extends StringsBaseTest {
     strings.assertXmlEqualsTo(someInfo(), actual, expected);
   }
 
+  @Test
+  public void should_pass_if_both_Strings_are_XML_equals_with_attributes_in_a_different_order() {
+    String actual = "<rss version=\"2.0\" lang=\"en\"><channel><title>Java Tutorials</title></channel></rss>";
+    String expected = "<rss lang=\"en\" version=\"2.0\"><channel><title>Java Tutorials</title></channel></rss>";
+    strings.assertXmlEqualsTo(someInfo(), actual, expected);
+  }
+
   @Test
   public void should_fail_if_actual_is_null() {
     thrown.expectAssertionError(actualIsNull());
@@ -60,6 +67,52 @@ public class Strings_assertIsXmlEqualCase_Test extends StringsBaseTest {
     strings.assertXmlEqualsTo(someInfo(), actual, expected);
   }
 
+  @Test
+  public void should_only_show_formatted_parts_around_first_difference_of_large_documents() {
+    StringBuilder actual = new StringBuilder("<jedis>");
+    for (int i = 0; i < 10_000; i++) {
+      actual.append("<jedi name=\"Yoda\">").append(i).append("</jedi>");
+    }
+    actual.append("</jedis>");
+    String expected = actual.toString().replace(">5000<", ">-5000<");
+    thrown.expectAssertionErrorWithMessageContaining("first difference near line 1", "<jedi name=\"Yoda\">-5000</jedi>");
+    strings.assertXmlEqualsTo(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_if_text_is_in_a_cdata_section_in_only_one_document() {
+    String actual = "<jedi><![CDATA[Yoda]]></jedi>";
+    String expected = "<jedi>Yoda</jedi>";
+    thrown.expectAssertionError(shouldBeEqual(xmlPrettyFormat(actual), xmlPrettyFormat(expected), someInfo().representation()));
+    strings.assertXmlEqualsTo(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_if_only_one_document_has_an_xml_declaration() {
+    String actual = "<?xml version=\"1.0\"?><jedi/>";
+    String expected = "<jedi/>";
+    thrown.expectAssertionError(shouldBeEqual(xmlPrettyFormat(actual), xmlPrettyFormat(expected), someInfo().representation()));
+    strings.assertXmlEqualsTo(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_fail_if_large_documents_only_differ_by_a_cdata_section() {
+    StringBuilder actual = new StringBuilder("<jedis>");
+    for (int i = 0; i < 10_000; i++) {
+      actual.append("<jedi name=\"Yoda\">").append(i).append("</jedi>");
+    }
+    actual.append("</jedis>");
+    String expected = actual.toString().replace(">5000<", "><![CDATA[5000]]><");
+    thrown.expectAssertionErrorWithMessageContaining("first difference near line 1", "<![CDATA[5000]]>");
+    strings.assertXmlEqualsTo(someInfo(), actual, expected);
+  }
+
+  @Test
+  public void should_throw_error_if_actual_is_not_well_formed() {
+    thrown.expect(RuntimeException.class, "Unable to format XML string");
+    strings.assertXmlEqualsTo(someInfo(), "<jedi>", "<jedi/>");
+  }
+
   @Test
   public void should_pass_if_both_Strings_are_XML_equals_case_insensitively() {
     String actual = "<rss version=\"2.0\"><Channel><title>Java Tutorials</title></Channel></rss>";
@@ -0,0 +1,58 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.LinesShouldSatisfy.linesShouldSatisfy;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.internal.StringsBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link org.assertj.core.internal.Strings#assertLinesSatisfy(org.assertj.core.api.AssertionInfo, CharSequence, java.util.function.Consumer)}</code>.
+ */
+public class Strings_assertLinesSatisfy_Test extends StringsBaseTest {
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    strings.assertLinesSatisfy(someInfo(), null, line -> {});
+  }
+
+  @Test
+  public void should_throw_error_if_requirements_are_null() {
+    thrown.expectNullPointerException("The Consumer<String> expressing the lines requirements must not be null");
+    strings.assertLinesSatisfy(someInfo(), "Luke", null);
+  }
+
+  @Test
+  public void should_give_each_line_without_its_terminator() {
+    List<String> lines = new ArrayList<>();
+    strings.assertLinesSatisfy(someInfo(), "Luke\nYoda\r\n\rLeia\n", lines::add);
+    assertThat(lines).containsExactly("Luke", "Yoda", "", "Leia");
+  }
+
+  @Test
+  public void should_fail_if_a_line_does_not_satisfy_the_requirements() {
+    String actual = "Luke\nYoda\nLeia";
+    thrown.expectAssertionError(linesShouldSatisfy(actual, 1, "Yoda",
+                                                   format("%nExpecting:%n <\"Yoda\">%nto start with:%n <\"L\">%n")).create());
+    strings.assertLinesSatisfy(someInfo(), actual, line -> assertThat(line).startsWith("L"));
+  }
+}
@@ -55,6 +55,8 @@ public class Strings_assertNotEqualsIgnoringWhitespace_Test extends StringsBaseT
     // @format:off
     return $$($("foo", "bar"),
               $("foo", new String(arrayOf('b', 'a', 'r'))),
+              $("my foo bar", "my foo"),
+              $("my foo", "my foo bar"),
               $(null, "bar"));
     // @format:on
   }
@@ -53,6 +53,8 @@ public class Strings_assertNotEqualsNormalizingWhitespace_Test extends StringsBa
     return $$($("foo", "bar"),
               $("my foo", "myfoo"),
               $("foo", new String(arrayOf('b', 'a', 'r'))),
+              $("my foo bar", "my foo"),
+              $("my foobar", "my foo bar"),
               $(null, "bar"));
     // @format:on
   }
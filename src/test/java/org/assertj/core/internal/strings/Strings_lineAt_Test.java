@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLineAtIndex;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import org.assertj.core.internal.StringsBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link org.assertj.core.internal.Strings#lineAt(org.assertj.core.api.AssertionInfo, CharSequence, int)}</code>.
+ */
+public class Strings_lineAt_Test extends StringsBaseTest {
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    strings.lineAt(someInfo(), null, 0);
+  }
+
+  @Test
+  public void should_return_the_line_at_the_given_index() {
+    String actual = "Luke\r\nYoda\r\rLeia";
+    assertThat(strings.lineAt(someInfo(), actual, 0)).isEqualTo("Luke");
+    assertThat(strings.lineAt(someInfo(), actual, 1)).isEqualTo("Yoda");
+    assertThat(strings.lineAt(someInfo(), actual, 2)).isEmpty();
+    assertThat(strings.lineAt(someInfo(), actual, 3)).isEqualTo("Leia");
+  }
+
+  @Test
+  public void should_fail_if_actual_has_no_line_at_the_given_index() {
+    String actual = "Luke\nYoda\n";
+    thrown.expectAssertionError(shouldHaveLineAtIndex(actual, 2, 2).create());
+    strings.lineAt(someInfo(), actual, 2);
+  }
+}
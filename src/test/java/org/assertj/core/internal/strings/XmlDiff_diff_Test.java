@@ -0,0 +1,120 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.internal.XmlDiff;
+import org.assertj.core.internal.XmlDiffResult;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link XmlDiff#diff(CharSequence, CharSequence)}</code>.
+ */
+public class XmlDiff_diff_Test {
+
+  private static XmlDiff xmlDiff;
+
+  @BeforeClass
+  public static void setUpOnce() {
+    xmlDiff = new XmlDiff();
+  }
+
+  @Test
+  public void should_return_no_diff_if_documents_only_differ_by_formatting() {
+    String actual = "<rss version=\"2.0\"><channel>  <title>Java Tutorials</title>  <language>en-us</language></channel></rss>";
+    String expected = format("<rss version='2.0'>%n  <channel>%n    <title>Java Tutorials</title>%n"
+                             + "    <language>en-us</language>%n  </channel>%n</rss>");
+    assertThat(xmlDiff.diff(actual, expected).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_no_diff_if_attributes_are_in_different_order() {
+    assertThat(xmlDiff.diff("<jedi name='Yoda' side='light'/>", "<jedi side='light' name='Yoda'></jedi>").hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_no_diff_if_documents_have_the_same_xml_declaration() {
+    assertThat(xmlDiff.diff("<?xml version=\"1.0\"?><jedi/>", "<?xml version='1.0'?>\n<jedi></jedi>").hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_diff_if_only_one_document_has_an_xml_declaration() {
+    XmlDiffResult result = xmlDiff.diff("<?xml version=\"1.0\"?><jedi/>", "<jedi/>");
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.actualWindow).contains("<?xml version=\"1.0\"?>");
+  }
+
+  @Test
+  public void should_return_no_diff_if_documents_have_the_same_cdata_sections() {
+    assertThat(xmlDiff.diff("<jedi><![CDATA[Yoda]]></jedi>", "<jedi><![CDATA[Yoda]]></jedi>").hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_diff_if_text_is_in_a_cdata_section_in_only_one_document() {
+    XmlDiffResult result = xmlDiff.diff("<jedi>Yo<![CDATA[da]]></jedi>", "<jedi>Yoda</jedi>");
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.actualWindow).contains("<![CDATA[da]]>");
+  }
+
+  @Test
+  public void should_return_no_diff_if_text_contains_entities() {
+    assertThat(xmlDiff.diff("<jedi>Yoda &amp; Luke</jedi>", "<jedi>Yoda &#38; Luke</jedi>").hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_diff_if_text_differs() {
+    XmlDiffResult result = xmlDiff.diff("<jedis><jedi>Yoda</jedi></jedis>", "<jedis><jedi>Luke</jedi></jedis>");
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.actualWindow).isEqualTo(format("... (first difference near line 1)%n" +
+                                                     "<jedis>%n" +
+                                                     "    <jedi>Yoda</jedi>%n" +
+                                                     "</jedis>%n"));
+    assertThat(result.expectedWindow).isEqualTo(format("... (first difference near line 1)%n" +
+                                                       "<jedis>%n" +
+                                                       "    <jedi>Luke</jedi>%n" +
+                                                       "</jedis>%n"));
+  }
+
+  @Test
+  public void should_return_diff_if_attribute_values_differ() {
+    XmlDiffResult result = xmlDiff.diff("<jedi name='Yoda'/>", "<jedi name='Luke'/>");
+    assertThat(result.actualWindow).contains("<jedi name=\"Yoda\"/>");
+    assertThat(result.expectedWindow).contains("<jedi name=\"Luke\"/>");
+  }
+
+  @Test
+  public void should_return_diff_if_actual_has_less_elements() {
+    XmlDiffResult result = xmlDiff.diff("<jedis><yoda/></jedis>", "<jedis><yoda/><luke/></jedis>");
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.expectedWindow).contains("<luke/>");
+  }
+
+  @Test
+  public void should_only_format_events_around_the_first_difference() {
+    StringBuilder actual = new StringBuilder("<jedis>");
+    for (int i = 0; i < 1000; i++) {
+      actual.append(format("<jedi id='%s'/>%n", i));
+    }
+    actual.append("</jedis>");
+    String expected = actual.toString().replace("<jedi id='500'/>", "<jedi id='-500'/>");
+    XmlDiffResult result = xmlDiff.diff(actual, expected);
+    assertThat(result.actualWindow).startsWith(format("... (first difference near line 501)%n"))
+                                   .contains("<jedi id=\"500\"/>")
+                                   .doesNotContain("<jedi id=\"400\"/>")
+                                   .endsWith("...");
+    assertThat(result.expectedWindow).contains("<jedi id=\"-500\"/>");
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.presentation.HexDumpRepresentation.HEX_DUMP_REPRESENTATION;
+import static org.assertj.core.presentation.HexDumpRepresentation.hexDumpAround;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link HexDumpRepresentation#toStringOf(Object)}.
+ */
+public class HexDumpRepresentation_toStringOf_Test {
+
+  @Test
+  public void should_dump_byte_array_with_offsets_and_ascii_gutter() {
+    byte[] bytes = "Hello, World!\n".getBytes(StandardCharsets.US_ASCII);
+    assertThat(HEX_DUMP_REPRESENTATION.toStringOf(bytes))
+      .isEqualTo("00000000  48 65 6C 6C 6F 2C 20 57 6F 72 6C 64 21 0A        |Hello, World!.|");
+  }
+
+  @Test
+  public void should_dump_byte_array_on_several_lines() {
+    assertThat(HEX_DUMP_REPRESENTATION.toStringOf(bytes(20)))
+      .isEqualTo("00000000  00 01 02 03 04 05 06 07 08 09 0A 0B 0C 0D 0E 0F  |................|\n"
+                 + "00000010  10 11 12 13                                      |....|");
+  }
+
+  @Test
+  public void should_dump_empty_byte_array_as_empty_brackets() {
+    assertThat(HEX_DUMP_REPRESENTATION.toStringOf(new byte[0])).isEqualTo("[]");
+  }
+
+  @Test
+  public void should_only_dump_the_window_around_the_offset_of_interest() {
+    assertThat(new HexDumpRepresentation(500, 40).toStringOf(bytes(1000)))
+      .isEqualTo("... (480 bytes)\n"
+                 + "000001E0  E0 E1 E2 E3 E4 E5 E6 E7 E8 E9 EA EB EC ED EE EF  |................|\n"
+                 + "000001F0  F0 F1 F2 F3 F4 F5 F6 F7 F8 F9 FA FB FC FD FE FF  |................|\n"
+                 + "00000200  00 01 02 03 04 05 06 07 08 09 0A 0B 0C 0D 0E 0F  |................|\n"
+                 + "... (472 bytes)");
+  }
+
+  @Test
+  public void should_move_the_window_back_when_the_offset_of_interest_is_near_the_end() {
+    assertThat(new HexDumpRepresentation(5000, 40).toStringOf(bytes(1000)))
+      .isEqualTo("... (960 bytes)\n"
+                 + "000003C0  C0 C1 C2 C3 C4 C5 C6 C7 C8 C9 CA CB CC CD CE CF  |................|\n"
+                 + "000003D0  D0 D1 D2 D3 D4 D5 D6 D7 D8 D9 DA DB DC DD DE DF  |................|\n"
+                 + "000003E0  E0 E1 E2 E3 E4 E5 E6 E7                          |........|");
+  }
+
+  @Test
+  public void should_dump_the_first_bytes_by_default() {
+    String dump = HEX_DUMP_REPRESENTATION.toStringOf(bytes(1024 * 1024));
+    assertThat(dump).startsWith("00000000  00 01 02")
+                    .endsWith("\n... (" + (1024 * 1024 - 256) + " bytes)")
+                    .hasLineCount(17);
+  }
+
+  @Test
+  public void should_dump_the_default_window_around_the_given_offset() {
+    String dump = hexDumpAround(4096).toStringOf(bytes(8192));
+    assertThat(dump).startsWith("... (3968 bytes)\n00000F80  80 81")
+                    .contains("\n00001000  00 01")
+                    .endsWith("\n... (3968 bytes)");
+  }
+
+  @Test
+  public void should_represent_other_objects_like_the_standard_representation() {
+    assertThat(HEX_DUMP_REPRESENTATION.toStringOf("foo")).isEqualTo("\"foo\"");
+    assertThat(HEX_DUMP_REPRESENTATION.toStringOf(new int[] { 1, 2 })).isEqualTo("[1, 2]");
+  }
+
+  @Test
+  public void should_fail_if_offset_of_interest_is_negative() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+      .isThrownBy(() -> hexDumpAround(-1))
+      .withMessage("The offset of interest should not be negative but was -1");
+  }
+
+  private static byte[] bytes(int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+}
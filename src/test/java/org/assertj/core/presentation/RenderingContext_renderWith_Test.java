@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.presentation.RenderingContext.renderWith;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link RenderingContext#renderWith(Representation, java.util.function.Supplier)}.
+ */
+public class RenderingContext_renderWith_Test {
+
+  private final AtomicInteger toStringCalls = new AtomicInteger();
+  private final Object value = new Object() {
+    @Override
+    public String toString() {
+      return "value" + toStringCalls.incrementAndGet();
+    }
+  };
+
+  @Test
+  public void should_convert_each_object_to_string_once_while_rendering() {
+    StandardRepresentation representation = new StandardRepresentation();
+    List<Object> values = newArrayList(value, value);
+    String rendered = renderWith(representation, () -> representation.toStringOf(value) + " "
+                                                       + representation.toStringOf(values));
+    assertThat(rendered).isEqualTo("value1 [value1, value1]");
+    assertThat(toStringCalls).hasValue(1);
+  }
+
+  @Test
+  public void should_not_memoize_outside_of_rendering() {
+    StandardRepresentation representation = new StandardRepresentation();
+    renderWith(representation, () -> representation.toStringOf(value));
+    assertThat(representation.toStringOf(value)).isEqualTo("value2");
+    assertThat(representation.toStringOf(value)).isEqualTo("value3");
+  }
+
+  @Test
+  public void should_not_share_memoized_objects_between_representations() {
+    StandardRepresentation representation = new StandardRepresentation();
+    StandardRepresentation otherRepresentation = new StandardRepresentation();
+    String rendered = renderWith(representation, () -> representation.toStringOf(value) + " "
+                                                       + otherRepresentation.toStringOf(value) + " "
+                                                       + representation.toStringOf(value));
+    assertThat(rendered).isEqualTo("value1 value2 value1");
+  }
+
+  @Test
+  public void should_restore_enclosing_rendering_context() {
+    StandardRepresentation representation = new StandardRepresentation();
+    StandardRepresentation otherRepresentation = new StandardRepresentation();
+    String rendered = renderWith(representation, () -> representation.toStringOf(value) + " "
+                                                       + renderWith(otherRepresentation,
+                                                                    () -> otherRepresentation.toStringOf(value)
+                                                                          + otherRepresentation.toStringOf(value))
+                                                       + " " + representation.toStringOf(value));
+    assertThat(rendered).isEqualTo("value1 value2value2 value1");
+  }
+}
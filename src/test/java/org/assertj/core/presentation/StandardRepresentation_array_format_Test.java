@@ -14,6 +14,7 @@ package org.assertj.core.presentation;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.presentation.RepresentationConfiguration.DEFAULT_CONFIGURATION;
 import static org.assertj.core.util.Strings.quote;
 
 import org.junit.Test;
@@ -55,6 +56,30 @@ public class StandardRepresentation_array_format_Test extends AbstractBaseRepres
     assertThat(new HexadecimalRepresentation().formatArray(array)).isEqualTo("[0x03, 0x08]");
   }
 
+  @Test
+  public void should_format_short_and_char_arrays_in_hex_representation() {
+    assertThat(new HexadecimalRepresentation().formatArray(new short[] { -1, 10 })).isEqualTo("[0xFFFF, 0x000A]");
+    assertThat(new HexadecimalRepresentation().formatArray(new char[] { 'A', 'b' })).isEqualTo("['0x0041', '0x0062']");
+  }
+
+  @Test
+  public void should_format_primitive_array_elements_with_the_formatter_registered_for_their_wrapper_type() {
+    RepresentationConfiguration configuration = DEFAULT_CONFIGURATION.withFormatterForType(Byte.class, b -> "b" + b);
+    StandardRepresentation representation = new StandardRepresentation(configuration);
+    assertThat(representation.formatArray(new byte[] { 3, 8 })).isEqualTo("[b3, b8]");
+  }
+
+  @Test
+  public void should_format_primitive_array_elements_with_the_toStringOf_method_of_subclasses() {
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      public String toStringOf(Object object) {
+        return object instanceof Integer ? "#" + object : super.toStringOf(object);
+      }
+    };
+    assertThat(representation.formatArray(new int[] { 1, 2 })).isEqualTo("[#1, #2]");
+  }
+
   @Test
   public void should_format_char_array() {
     Object array = new char[] { 'a', 'b' };
@@ -195,6 +220,13 @@ public class StandardRepresentation_array_format_Test extends AbstractBaseRepres
                                                        "    ...]>"));
   }
 
+  @Test
+  public void should_truncate_array_elements_exceeding_max_length_for_printing() {
+    StandardRepresentation.setMaxLengthForPrinting(12);
+    Object[] array = { "abc", new String[] { "def", "ghi" }, "jkl" };
+    assertThat(STANDARD_REPRESENTATION.formatArray(array)).isEqualTo("[\"abc\", [\"def\",...(truncated)]");
+  }
+
   private static class Person {
     private final String name;
 
@@ -207,5 +239,4 @@ public class StandardRepresentation_array_format_Test extends AbstractBaseRepres
       return quote(name);
     }
   }
-
 }
@@ -0,0 +1,122 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.presentation.RepresentationConfiguration.DEFAULT_CONFIGURATION;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RepresentationConfiguration} usage in {@link StandardRepresentation}.
+ */
+public class StandardRepresentation_configuration_Test extends AbstractBaseRepresentationTest {
+
+  private static final List<String> JEDIS = newArrayList("Yoda", "Luke", "Leia");
+  private static final Class<?>[] TYPES = { Integer.class, Long.class, Short.class, Byte.class, Double.class,
+      Float.class, Character.class, Boolean.class };
+
+  @After
+  public void tearDown() {
+    StandardRepresentation.removeConfigurationForCurrentThread();
+    StandardRepresentation.removeAllRegisteredFormatters();
+  }
+
+  @Test
+  public void should_not_modify_configuration() {
+    RepresentationConfiguration configuration = DEFAULT_CONFIGURATION.withMaxElementsForPrinting(2)
+                                                                     .withMaxLengthForSingleLineDescription(10)
+                                                                     .withFormatterForType(String.class, s -> s);
+    assertThat(configuration.getMaxElementsForPrinting()).isEqualTo(2);
+    assertThat(configuration.getMaxLengthForSingleLineDescription()).isEqualTo(10);
+    assertThat(configuration.getFormatterForType(String.class)).isNotNull();
+    assertThat(configuration.withoutFormatters().getFormatterForType(String.class)).isNull();
+    assertThat(DEFAULT_CONFIGURATION.getMaxElementsForPrinting()).isEqualTo(1000);
+    assertThat(DEFAULT_CONFIGURATION.getMaxLengthForSingleLineDescription()).isEqualTo(80);
+    assertThat(DEFAULT_CONFIGURATION.getFormatterForType(String.class)).isNull();
+  }
+
+  @Test
+  public void should_fail_on_invalid_limits() {
+    assertThatIllegalArgumentException().isThrownBy(() -> DEFAULT_CONFIGURATION.withMaxElementsForPrinting(0))
+                                        .withMessage("maxElementsForPrinting must be >= 1, but was 0");
+    assertThatIllegalArgumentException().isThrownBy(() -> DEFAULT_CONFIGURATION.withMaxLengthForSingleLineDescription(0))
+                                        .withMessage("maxLengthForSingleLineDescription must be > 0 but was 0");
+  }
+
+  @Test
+  public void should_use_configuration_given_at_construction_time_over_global_one() {
+    StandardRepresentation.setMaxElementsForPrinting(1);
+    StandardRepresentation.registerFormatterForType(String.class, s -> "global " + s);
+    RepresentationConfiguration configuration = DEFAULT_CONFIGURATION.withMaxElementsForPrinting(2);
+    StandardRepresentation representation = new StandardRepresentation(configuration);
+    assertThat(representation.toStringOf(JEDIS)).isEqualTo("[\"Yoda\", \"Luke\", ...]");
+    assertThat(new StandardRepresentation().toStringOf(JEDIS)).isEqualTo("[global Yoda, ...]");
+  }
+
+  @Test
+  public void should_use_configuration_of_current_thread_over_global_one() throws Exception {
+    StandardRepresentation.setMaxElementsForPrinting(1);
+    RepresentationConfiguration configuration = DEFAULT_CONFIGURATION.withFormatterForType(String.class,
+                                                                                           s -> "<" + s + ">");
+    StandardRepresentation.setConfigurationForCurrentThread(configuration);
+    assertThat(new StandardRepresentation().toStringOf(JEDIS)).isEqualTo("[<Yoda>, <Luke>, <Leia>]");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> otherThreadRepresentation = executor.submit(() -> new StandardRepresentation().toStringOf(JEDIS));
+      assertThat(otherThreadRepresentation.get()).isEqualTo("[\"Yoda\", ...]");
+    } finally {
+      executor.shutdownNow();
+    }
+    StandardRepresentation.removeConfigurationForCurrentThread();
+    assertThat(new StandardRepresentation().toStringOf(JEDIS)).isEqualTo("[\"Yoda\", ...]");
+  }
+
+  @Test
+  public void should_register_formatters_while_formatting_concurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<String>> tasks = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        Class<?> type = TYPES[i % TYPES.length];
+        tasks.add(() -> {
+          registerFormatter(type);
+          return new StandardRepresentation().toStringOf(JEDIS);
+        });
+      }
+      for (Future<String> result : executor.invokeAll(tasks)) {
+        assertThat(result.get()).isNotEmpty();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    for (Class<?> type : TYPES) {
+      assertThat(StandardRepresentation.getGlobalConfiguration().getFormatterForType(type)).as(type.getName())
+                                                                                          .isNotNull();
+    }
+  }
+
+  private static <T> void registerFormatter(Class<T> type) {
+    StandardRepresentation.registerFormatterForType(type, value -> type.getSimpleName() + value);
+  }
+}
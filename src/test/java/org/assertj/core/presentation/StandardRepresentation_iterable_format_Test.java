@@ -108,6 +108,58 @@ public class StandardRepresentation_iterable_format_Test extends AbstractBaseRep
                                            "    (this Collection)]"));
   }
 
+  @Test
+  public void should_format_each_element_once_when_formatting_iterable_on_multiple_lines() {
+    List<CountingToString> elements = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      elements.add(new CountingToString(stringOfLength(20)));
+    }
+    String formatted = STANDARD_REPRESENTATION.smartFormat(elements);
+    assertThat(formatted).startsWith(format("[01234567890123456789,%n    01234567890123456789,%n"));
+    for (CountingToString element : elements) {
+      assertThat(element.toStringCalls).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void should_truncate_elements_exceeding_max_length_for_printing() {
+    StandardRepresentation.setMaxLengthForPrinting(10);
+    String formatted = STANDARD_REPRESENTATION.smartFormat(asList("abc", "defghijkl", "mno"));
+    assertThat(formatted).isEqualTo("[\"abc\", \"defg...(truncated)]");
+  }
+
+  @Test
+  public void should_truncate_elements_exceeding_max_length_for_printing_without_formatting_the_next_ones() {
+    StandardRepresentation.setMaxLengthForPrinting(10);
+    CountingToString last = new CountingToString("last");
+    String formatted = STANDARD_REPRESENTATION.smartFormat(asList(stringOfLength(20), last));
+    assertThat(formatted).isEqualTo("[\"012345678...(truncated)]");
+    assertThat(last.toStringCalls).isZero();
+  }
+
+  @Test
+  public void should_format_multiple_lines_if_truncated_description_is_too_long() {
+    StandardRepresentation.setMaxLengthForPrinting(100);
+    String formatted = STANDARD_REPRESENTATION.smartFormat(asList(stringOfLength(40), stringOfLength(70)));
+    assertThat(formatted).isEqualTo(format("[\"%s\",%n    \"%s...(truncated)]", stringOfLength(40),
+                                           stringOfLength(100 - 42 - 1)));
+  }
+
+  private static class CountingToString {
+    private final String value;
+    private int toStringCalls;
+
+    private CountingToString(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls++;
+      return value;
+    }
+  }
+
   private static String stringOfLength(int length) {
     StringBuilder sb = new StringBuilder();
     for (int i = 0; i < length; i++) {
@@ -14,10 +14,16 @@ package org.assertj.core.presentation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import static java.util.Collections.reverseOrder;
+
 import java.io.File;
+import java.sql.Timestamp;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -86,4 +92,62 @@ public class StandardRepresentation_map_format_Test extends AbstractBaseRepresen
 
     assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{\"foo\"=3, false=2, 'A'=1}");
   }
+
+  @Test
+  public void should_format_the_entries_with_the_smallest_keys_when_Map_exceeds_the_maximum_allowed_elements() {
+    Map<String, Integer> map = new HashMap<>();
+    for (int i = 1000; i > 0; i--) {
+      map.put(String.format("%04d", i), i);
+    }
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{\"0001\"=1, \"0002\"=2, \"0003\"=3, ...}");
+  }
+
+  @Test
+  public void should_sort_Map_with_a_custom_comparator_in_keys_natural_order() {
+    Map<String, Integer> map = new TreeMap<>(reverseOrder());
+    map.put("A", 1);
+    map.put("C", 3);
+    map.put("B", 2);
+    assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{\"A\"=1, \"B\"=2, \"C\"=3}");
+  }
+
+  @Test
+  public void should_sort_Map_with_enum_keys() {
+    Map<TimeUnit, Integer> map = new LinkedHashMap<>();
+    map.put(TimeUnit.SECONDS, 3);
+    map.put(TimeUnit.NANOSECONDS, 1);
+    map.put(TimeUnit.MILLISECONDS, 2);
+    assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{NANOSECONDS=1, MILLISECONDS=2, SECONDS=3}");
+  }
+
+  @Test
+  public void should_sort_Map_with_keys_comparable_to_a_common_supertype() {
+    Date date = new Date(1000L);
+    Timestamp timestamp = new Timestamp(2000L);
+    Map<Date, String> map = new LinkedHashMap<>();
+    map.put(timestamp, "timestamp");
+    map.put(date, "date");
+    assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{" + STANDARD_REPRESENTATION.toStringOf(date)
+                                                                  + "=\"date\", "
+                                                                  + STANDARD_REPRESENTATION.toStringOf(timestamp)
+                                                                  + "=\"timestamp\"}");
+  }
+
+  @Test
+  public void should_retain_initial_ordering_if_keys_are_comparable_to_different_types() {
+    Map<Number, String> map = new LinkedHashMap<>();
+    map.put(2L, "two");
+    map.put(1, "one");
+    assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{2L=\"two\", 1=\"one\"}");
+  }
+
+  @Test
+  public void should_retain_initial_ordering_if_a_key_is_null() {
+    Map<String, Integer> map = new LinkedHashMap<>();
+    map.put("B", 2);
+    map.put(null, 0);
+    map.put("A", 1);
+    assertThat(STANDARD_REPRESENTATION.toStringOf(map)).isEqualTo("{\"B\"=2, null=0, \"A\"=1}");
+  }
 }
@@ -35,4 +35,10 @@ public class StandardRepresentation_static_setters_Test extends AbstractBaseRepr
     thrown.expectIllegalArgumentException("maxLengthForSingleLineDescription must be > 0 but was 0");
     StandardRepresentation.setMaxLengthForSingleLineDescription(0);
   }
+
+  @Test
+  public void should_fail_on_invalid_maxLengthForPrinting() {
+    thrown.expectIllegalArgumentException("maxLengthForPrinting must be >= 1, but was 0");
+    StandardRepresentation.setMaxLengthForPrinting(0);
+  }
 }
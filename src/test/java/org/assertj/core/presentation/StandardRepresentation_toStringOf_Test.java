@@ -307,10 +307,47 @@ public class StandardRepresentation_toStringOf_Test extends AbstractBaseRepresen
     assertThat(STANDARD_REPRESENTATION.toStringOf(method)).isEqualTo(method.toGenericString());
   }
 
+  @Test
+  public void should_format_object_matching_several_types_with_the_first_applicable_formatter() {
+    ComparatorList comparatorList = new ComparatorList();
+    comparatorList.add("Yoda");
+    // Comparator formatting comes before Collection one
+    assertThat(toStringOf(comparatorList)).isEqualTo(STANDARD_REPRESENTATION.toStringOf((Comparator<?>) comparatorList))
+                                          .isEqualTo("'[Yoda]'");
+    assertThat(toStringOf(newArrayList("Yoda"))).isEqualTo("[\"Yoda\"]");
+  }
+
+  @Test
+  public void should_use_formatters_overridden_in_subclasses() {
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String toStringOf(String s) {
+        return "<" + s + ">";
+      }
+    };
+    assertThat(representation.toStringOf((Object) "Yoda")).isEqualTo("<Yoda>");
+    assertThat(representation.toStringOf(newArrayList("Yoda", "Luke"))).isEqualTo("[<Yoda>, <Luke>]");
+    assertThat(toStringOf("Yoda")).isEqualTo("\"Yoda\"");
+  }
+
+  @Test
+  public void should_format_primitive_arrays() {
+    assertThat(toStringOf(new int[] { 1, 2 })).isEqualTo("[1, 2]");
+    assertThat(toStringOf(new int[][] { { 1 }, { 2 } })).isEqualTo("[[1], [2]]");
+  }
+
   private String toStringOf(Object o) {
     return STANDARD_REPRESENTATION.toStringOf(o);
   }
 
+  @SuppressWarnings("serial")
+  private static class ComparatorList extends ArrayList<String> implements Comparator<String> {
+    @Override
+    public int compare(String s1, String s2) {
+      return s1.compareTo(s2);
+    }
+  }
+
   private static class Person {
     volatile String name;
     volatile int age;
@@ -0,0 +1,74 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link Files#gzipContentOf(Path)}.
+ */
+public class Files_gzipContentOf_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void should_throw_exception_if_path_is_null() {
+    thrown.expectNullPointerException("The path of the gzip file should not be null");
+    Files.gzipContentOf(null);
+  }
+
+  @Test
+  public void should_throw_exception_if_file_is_not_found() {
+    Path missing = temporaryFolder.getRoot().toPath().resolve("missing.gz");
+    thrown.expect(RuntimeIOException.class);
+    Files.gzipContentOf(missing);
+  }
+
+  @Test
+  public void should_throw_exception_if_file_is_not_in_gzip_format() throws IOException {
+    Path notGzipped = temporaryFolder.newFile("report.json").toPath();
+    java.nio.file.Files.write(notGzipped, "{}".getBytes(UTF_8));
+    thrown.expect(RuntimeIOException.class);
+    Files.gzipContentOf(notGzipped);
+  }
+
+  @Test
+  public void should_return_decompressed_content() throws IOException {
+    Path gzipped = temporaryFolder.newFile("report.json.gz").toPath();
+    try (OutputStream out = new GZIPOutputStream(java.nio.file.Files.newOutputStream(gzipped))) {
+      out.write("{\"status\":\"ok\"}".getBytes(UTF_8));
+    }
+    try (InputStream content = Files.gzipContentOf(gzipped)) {
+      assertThat(content).hasSameContentAs(new ByteArrayInputStream("{\"status\":\"ok\"}".getBytes(UTF_8)));
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+import static org.assertj.core.util.Files.linesStreamOf;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.exception.RuntimeIOException;
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link Files#linesStreamOf(File, Charset)} and {@link Files#linesStreamOf(File, String)}.
+ */
+public class Files_linesStreamOf_Test {
+
+  private static final File SAMPLE_UNIX_FILE = new File("src/test/resources/utf8.txt");
+  private static final File SAMPLE_WIN_FILE = new File("src/test/resources/utf8_win.txt");
+  private static final File SAMPLE_MAC_FILE = new File("src/test/resources/utf8_mac.txt");
+
+  private static final List<String> EXPECTED_CONTENT = newArrayList("A text file encoded in UTF-8, with diacritics:", "é à");
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void should_throw_exception_when_charset_is_null() {
+    Charset charset = null;
+    thrown.expectNullPointerException("The charset should not be null");
+    linesStreamOf(SAMPLE_UNIX_FILE, charset);
+  }
+
+  @Test
+  public void should_throw_exception_if_charset_name_does_not_exist() {
+    thrown.expectIllegalArgumentException();
+    linesStreamOf(new File("test"), "Klingon");
+  }
+
+  @Test
+  public void should_throw_exception_if_file_not_found() {
+    File missingFile = new File("missing.txt");
+    assertThat(missingFile).doesNotExist();
+
+    thrown.expect(RuntimeIOException.class);
+    linesStreamOf(missingFile, Charset.defaultCharset());
+  }
+
+  @Test
+  public void should_stream_lines_of_unix_file() {
+    assertThat(linesOf(SAMPLE_UNIX_FILE)).isEqualTo(EXPECTED_CONTENT);
+  }
+
+  @Test
+  public void should_stream_lines_of_windows_file() {
+    assertThat(linesOf(SAMPLE_WIN_FILE)).isEqualTo(EXPECTED_CONTENT);
+  }
+
+  @Test
+  public void should_stream_lines_of_mac_file() {
+    assertThat(linesOf(SAMPLE_MAC_FILE)).isEqualTo(EXPECTED_CONTENT);
+  }
+
+  @Test
+  public void should_stream_lines_using_charset_name() {
+    try (Stream<String> lines = linesStreamOf(SAMPLE_UNIX_FILE, "UTF-8")) {
+      assertThat(lines.collect(toList())).isEqualTo(EXPECTED_CONTENT);
+    }
+  }
+
+  @Test
+  public void should_replace_malformed_input_like_linesOf() throws IOException {
+    File file = folder.newFile("malformed.txt");
+    // 0xFF is never valid in UTF-8
+    java.nio.file.Files.write(file.toPath(), new byte[] { 'L', 'u', 'k', 'e', '\n', 'Y', (byte) 0xFF, 'd', 'a' });
+
+    assertThat(linesOf(file)).containsExactly("Luke", "Y\uFFFDda")
+                             .isEqualTo(Files.linesOf(file, StandardCharsets.UTF_8));
+  }
+
+  private static List<String> linesOf(File file) {
+    try (Stream<String> lines = linesStreamOf(file, StandardCharsets.UTF_8)) {
+      return lines.collect(toList());
+    }
+  }
+}
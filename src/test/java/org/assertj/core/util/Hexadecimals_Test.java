@@ -28,4 +28,18 @@ public class Hexadecimals_Test {
     assertThat(Hexadecimals.byteToHexString((byte) 0xa2)).isEqualTo("A2");
   }
 
+  @Test
+  public void should_append_hexadecimal_representation_of_byte() {
+    StringBuilder buffer = new StringBuilder("0x");
+    assertThat(Hexadecimals.appendHex(buffer, (byte) 0xa2)).isSameAs(buffer).hasToString("0xA2");
+  }
+
+  @Test
+  public void should_append_hexadecimal_representation_of_char() {
+    StringBuilder buffer = new StringBuilder();
+    Hexadecimals.appendHex(buffer, (char) 0x0a2F);
+    Hexadecimals.appendHex(buffer, (char) 0xFFFF);
+    assertThat(buffer).hasToString("0A2FFFFF");
+  }
+
 }
@@ -0,0 +1,53 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Throwables.stackTraceInCurrentThread;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Throwables#stackTraceInCurrentThread(int, boolean)}.
+ */
+public class Throwables_stackTraceInCurrentThread_Test {
+
+  @Test
+  public void should_start_at_the_caller() {
+    StackTraceElement[] stackTrace = stackTraceInCurrentThread(Integer.MAX_VALUE, false);
+    assertThat(stackTrace[0].getClassName()).isEqualTo(getClass().getName());
+    assertThat(stackTrace[0].getMethodName()).isEqualTo("should_start_at_the_caller");
+    assertThat(stackTrace).hasSameSizeAs(new Throwable().getStackTrace());
+  }
+
+  @Test
+  public void should_keep_at_most_the_given_number_of_elements() {
+    StackTraceElement[] stackTrace = stackTraceInCurrentThread(2, false);
+    assertThat(stackTrace).hasSize(2);
+    assertThat(stackTrace[0].getMethodName()).isEqualTo("should_keep_at_most_the_given_number_of_elements");
+  }
+
+  @Test
+  public void should_keep_no_elements_if_maximum_is_zero() {
+    assertThat(stackTraceInCurrentThread(0, false)).isEmpty();
+  }
+
+  @Test
+  public void should_remove_assertj_related_elements() {
+    StackTraceElement[] stackTrace = stackTraceInCurrentThread(Integer.MAX_VALUE, true);
+    assertThat(stackTrace).isNotEmpty();
+    for (StackTraceElement element : stackTrace) {
+      assertThat(element.getClassName()).doesNotContain("org.assert");
+    }
+  }
+}
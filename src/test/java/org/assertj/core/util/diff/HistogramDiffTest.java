@@ -0,0 +1,119 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HistogramDiffTest {
+
+  @Test
+  public void should_find_insertion() {
+    Patch<String> patch = DiffUtils.diffWithHistogram(newArrayList("hhh"), newArrayList("hhh", "jjj", "kkk"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    Delta<String> delta = deltas.get(0);
+    assertThat(delta).isInstanceOf(InsertDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(1, emptyList()));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(1, newArrayList("jjj", "kkk")));
+  }
+
+  @Test
+  public void should_find_deletion() {
+    Patch<String> patch = DiffUtils.diffWithHistogram(newArrayList("ddd", "fff", "ggg"), newArrayList("ggg"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    Delta<String> delta = deltas.get(0);
+    assertThat(delta).isInstanceOf(DeleteDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(0, newArrayList("ddd", "fff")));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(0, emptyList()));
+  }
+
+  @Test
+  public void should_find_change() {
+    Patch<String> patch = DiffUtils.diffWithHistogram(newArrayList("aaa", "bbb", "ccc"),
+                                                      newArrayList("aaa", "zzz", "ccc"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    Delta<String> delta = deltas.get(0);
+    assertThat(delta).isInstanceOf(ChangeDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(1, newArrayList("bbb")));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(1, newArrayList("zzz")));
+  }
+
+  @Test
+  public void should_find_no_difference_between_empty_lists() {
+    Patch<Object> patch = DiffUtils.diffWithHistogram(emptyList(), emptyList());
+
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  public void should_align_on_unique_lines_rather_than_on_repeated_ones() {
+    List<String> original = newArrayList("void a() {", "}", "", "void b() {", "  b();", "}");
+    List<String> revised = newArrayList("void a() {", "}", "", "void c() {", "  c();", "}", "", "void b() {", "  b();",
+                                        "}");
+
+    List<Delta<String>> deltas = DiffUtils.diffWithHistogram(original, revised).getDeltas();
+
+    assertThat(deltas).hasSize(1);
+    assertThat(deltas.get(0)).isInstanceOf(InsertDelta.class);
+    assertThat(deltas.get(0).getRevised()).isEqualTo(new Chunk<>(3, newArrayList("void c() {", "  c();", "}", "")));
+  }
+
+  @Test
+  public void should_find_a_patch_transforming_original_into_revised() {
+    Random random = new Random(0);
+    for (int run = 0; run < 1000; run++) {
+      // few distinct elements to have many equal elements in different orders
+      List<String> original = randomList(random);
+      List<String> revised = randomList(random);
+
+      Patch<String> patch = DiffUtils.diffWithHistogram(original, revised);
+
+      assertThat(patch.applyTo(original)).as("%s -> %s", original, revised).isEqualTo(revised);
+    }
+  }
+
+  @Test
+  public void should_compare_lists_whose_common_elements_are_all_frequent() {
+    List<String> original = new ArrayList<>();
+    List<String> revised = new ArrayList<>();
+    for (int i = 0; i < 10 * HistogramDiff.MAX_CHAIN_LENGTH; i++) {
+      original.add(String.valueOf(i % 2));
+      revised.add(String.valueOf(i % 3));
+    }
+
+    Patch<String> patch = DiffUtils.diffWithHistogram(original, revised);
+
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  private static List<String> randomList(Random random) {
+    List<String> list = new ArrayList<>();
+    for (int i = random.nextInt(40); i > 0; i--) {
+      list.add(String.valueOf(random.nextInt(5)));
+    }
+    return list;
+  }
+}
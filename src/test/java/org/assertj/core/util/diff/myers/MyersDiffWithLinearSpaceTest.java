@@ -0,0 +1,151 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2017 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.Test;
+
+public class MyersDiffWithLinearSpaceTest {
+
+  @Test
+  public void should_find_insertion() {
+    Patch<String> patch = DiffUtils.diffWithLinearSpace(newArrayList("hhh"), newArrayList("hhh", "jjj", "kkk"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    Delta<String> delta = deltas.get(0);
+    assertThat(delta).isInstanceOf(InsertDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(1, emptyList()));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(1, newArrayList("jjj", "kkk")));
+  }
+
+  @Test
+  public void should_find_deletion() {
+    Patch<String> patch = DiffUtils.diffWithLinearSpace(newArrayList("ddd", "fff", "ggg"), newArrayList("ggg"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    Delta<String> delta = deltas.get(0);
+    assertThat(delta).isInstanceOf(DeleteDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(0, newArrayList("ddd", "fff")));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(0, emptyList()));
+  }
+
+  @Test
+  public void should_find_change() {
+    Patch<String> patch = DiffUtils.diffWithLinearSpace(newArrayList("aaa", "bbb", "ccc"),
+                                                        newArrayList("aaa", "zzz", "ccc"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    Delta<String> delta = deltas.get(0);
+    assertThat(delta).isInstanceOf(ChangeDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(1, newArrayList("bbb")));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(1, newArrayList("zzz")));
+  }
+
+  @Test
+  public void should_find_no_difference_between_empty_lists() {
+    Patch<Object> patch = DiffUtils.diffWithLinearSpace(emptyList(), emptyList());
+
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  public void should_find_insertion_in_empty_list() {
+    List<String> emptyList = emptyList();
+    Patch<String> patch = DiffUtils.diffWithLinearSpace(emptyList, newArrayList("aaa"));
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1);
+    assertThat(deltas.get(0)).isInstanceOf(InsertDelta.class);
+  }
+
+  @Test
+  public void should_find_the_same_deltas_as_myers_diff_for_scattered_edits() {
+    Random random = new Random(0);
+    for (int run = 0; run < 100; run++) {
+      List<String> original = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        original.add("line " + i);
+      }
+      List<String> revised = new ArrayList<>(original);
+      for (int edit = 0; edit < 20; edit++) {
+        int index = random.nextInt(revised.size());
+        if (edit % 3 == 0) revised.remove(index);
+        else if (edit % 3 == 1) revised.add(index, "new line " + edit);
+        else revised.set(index, "changed line " + edit);
+      }
+
+      Patch<String> patch = DiffUtils.diffWithLinearSpace(original, revised);
+
+      assertThat(patch.getDeltas()).isEqualTo(DiffUtils.diff(original, revised).getDeltas());
+    }
+  }
+
+  @Test
+  public void should_find_the_same_deltas_as_myers_diff_for_random_lists() {
+    Random random = new Random(0);
+    for (int run = 0; run < 20000; run++) {
+      // few distinct elements to have many minimal patches
+      List<String> original = randomList(random, 1 + run % 6);
+      List<String> revised = randomList(random, 1 + run % 6);
+
+      Patch<String> patch = DiffUtils.diffWithLinearSpace(original, revised);
+
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(patch.getDeltas()).as("%s -> %s", original, revised)
+                                   .isEqualTo(DiffUtils.diff(original, revised).getDeltas());
+    }
+  }
+
+  @Test
+  public void should_find_the_same_deltas_as_myers_diff_for_single_element_edits() {
+    Random random = new Random(0);
+    for (int run = 0; run < 5000; run++) {
+      List<String> original = randomList(random, 3);
+      List<String> revised = new ArrayList<>(original);
+      int index = random.nextInt(revised.size() + 1);
+      if (run % 3 == 0 || index == revised.size()) revised.add(index, "new");
+      else if (run % 3 == 1) revised.remove(index);
+      else revised.set(index, "changed");
+
+      Patch<String> patch = DiffUtils.diffWithLinearSpace(original, revised);
+
+      assertThat(patch.getDeltas()).as("%s -> %s", original, revised)
+                                   .isEqualTo(DiffUtils.diff(original, revised).getDeltas());
+    }
+  }
+
+  private static List<String> randomList(Random random, int distinctElements) {
+    List<String> list = new ArrayList<>();
+    for (int i = random.nextInt(40); i > 0; i--) {
+      list.add(String.valueOf(random.nextInt(distinctElements)));
+    }
+    return list;
+  }
+}